@@ -37,7 +37,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/posts/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers("/error").permitAll()
+                        // 스트리밍 응답이 끝날 때의 ASYNC 디스패치. 원래 요청에서 이미 인가를 거쳤음
+                        .dispatcherTypeMatchers(jakarta.servlet.DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/tradelogs/**").hasAnyRole("USER", "ADMIN") // 혹은 .authenticated()
+                        .requestMatchers("/api/sync/**").hasAnyRole("USER", "ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form.disable())
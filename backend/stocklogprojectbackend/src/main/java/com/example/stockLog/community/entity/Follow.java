@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
                         name = "uk_follow_follower_following",
                         columnNames = {"follower_id", "following_id"} // 이 두 조합은 유일해야 함!
                 )
-        }
+        },
+        indexes = @Index(name = "idx_follow_following", columnList = "following_id") // 팔로워 목록/수 조회
 )
 public class Follow extends BaseTimeEntity{
     @Id
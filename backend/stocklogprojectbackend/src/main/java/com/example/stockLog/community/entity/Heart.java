@@ -15,7 +15,8 @@ import lombok.*;
                         name = "unique_heart_user_post",
                         columnNames = {"user_id", "post_id"} // 유저ID와 포스트ID의 조합은 유일해야 함
                 )
-        }
+        },
+        indexes = @Index(name = "idx_heart_post", columnList = "post_id") // 게시글별 하트 수 세기
 )
 public class Heart extends BaseTimeEntity {
     @Id
@@ -1,7 +1,11 @@
 package com.example.stockLog.community.repository;
 
 import com.example.stockLog.community.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +15,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByNickname(String nickname);
     boolean existsByNickname(String nickname);
+
+    //유저 단위로 "세고 나서 넣기"를 한 번에 하나만 하도록 잠금 (가져오기 작업 동시 실행 제한)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findForUpdate(@Param("id") Long id);
 }
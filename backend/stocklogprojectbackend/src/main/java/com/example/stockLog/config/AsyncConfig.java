@@ -0,0 +1,64 @@
+package com.example.stockLog.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+    //대량 조정 작업(액면분할 등)용. 같은 테이블을 여러 작업이 동시에 건드리면 잠금 경합만 생기므로 1개씩 순서대로 실행
+    @Bean(name = "adjustmentExecutor")
+    public ThreadPoolTaskExecutor adjustmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("adjustment-");
+        executor.initialize();
+        return executor;
+    }
+
+    //종목명 보정 등 외부 조회용. 저장 요청을 붙잡지 않도록 큐가 차면 가장 오래된 작업을 버림 (보정은 다음 저장 때 다시 시도됨)
+    @Bean(name = "enrichmentExecutor")
+    public ThreadPoolTaskExecutor enrichmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("enrichment-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    //CSV 가져오기 작업용. 동시에 도는 작업 수를 제한하고(유저당 제한은 TradeLogImportJobService), 대기열이 차면 업로드를 거절함
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("import-");
+        executor.initialize();
+        return executor;
+    }
+
+    //증권사 체결 주기 동기화용 (BrokerSyncService). 대기열이 차면 스케줄러 스레드가 직접 돌려서 속도를 맞춤
+    @Bean(name = "brokerSyncExecutor")
+    public ThreadPoolTaskExecutor brokerSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("broker-sync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.stockLog.config;
+
+import com.example.stockLog.graph.repository.PnlCubeRepository;
+import com.example.stockLog.graph.repository.StrategyRepository;
+import com.example.stockLog.graph.service.PnlCubeService;
+import com.example.stockLog.graph.service.StrategyRollupService;
+import com.example.stockLog.tradelog.repository.TaxYearTallyRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.service.TaxTallyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollupBackfill implements CommandLineRunner {
+    //월간 집계(strategy), 손익 큐브(pnl_cube), 연간 세금 집계(tax_year_tally)가 비어있는데 매매일지는 있으면 한 번 채워 넣음
+    //그 뒤로는 매매일지 이벤트로 계속 갱신되므로 다음 기동부터는 아무것도 안 함
+    private final StrategyRepository strategyRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final StrategyRollupService strategyRollupService;
+    private final PnlCubeRepository pnlCubeRepository;
+    private final PnlCubeService pnlCubeService;
+    private final TaxYearTallyRepository taxYearTallyRepository;
+    private final TaxTallyService taxTallyService;
+
+    @Override
+    public void run(String... args) {
+        if (tradeLogRepository.count() == 0) return;
+
+        if (strategyRepository.count() == 0) {
+            log.info(">> [System] 월간 손익 집계 백필 시작...");
+            strategyRollupService.rebuildAll();
+        }
+        if (pnlCubeRepository.count() == 0) {
+            log.info(">> [System] 손익 큐브 백필 시작...");
+            pnlCubeService.rebuildAll();
+        }
+        if (taxYearTallyRepository.count() == 0) {
+            log.info(">> [System] 연간 세금 집계 백필 시작...");
+            taxTallyService.rebuildAll();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.stockLog.config;
+
+import com.example.stockLog.sync.service.SyncService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class TransactionConfig {
+    //청크마다 커밋하는 작업(일괄 수정, 요율 재계산, 액면분할, 가져오기, 증권사 동기화 등)이 쓰는 공용 템플릿
+    //청크 안에서 updated_at 을 찍으므로 모바일 동기화 commit-lag 가 감당하도록 쓰기 시간 제한을 걺 (SyncService)
+    //이 빈이 있으면 스프링 부트 기본 TransactionTemplate 은 만들어지지 않음
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager,
+                                                   @Value(SyncService.WRITE_TIMEOUT) int writeTimeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(writeTimeoutSeconds);
+        return template;
+    }
+}
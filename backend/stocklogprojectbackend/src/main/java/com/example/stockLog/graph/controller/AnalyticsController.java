@@ -0,0 +1,44 @@
+package com.example.stockLog.graph.controller;
+
+import com.example.stockLog.community.config.CustomUserDetails;
+import com.example.stockLog.graph.dto.PnlCubeResponseDto;
+import com.example.stockLog.graph.entity.CubeDimension;
+import com.example.stockLog.graph.service.PnlCubeService;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+    private final PnlCubeService pnlCubeService;
+
+    //손익 분석. 예) ?year=2026&groupBy=BROKER&groupBy=TRADE_TYPE&marketType=USA
+    //groupBy 를 안 주면 조건에 맞는 전체 합계 한 줄
+    @GetMapping("/api/analytics/pnl")
+    public ResponseEntity<List<PnlCubeResponseDto>> getPnlBreakdown(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                    @RequestParam int year,
+                                                                    @RequestParam(required = false) Integer fromMonth,
+                                                                    @RequestParam(required = false) Integer toMonth,
+                                                                    @RequestParam(required = false) List<CubeDimension> groupBy,
+                                                                    @RequestParam(required = false) MarketType marketType,
+                                                                    @RequestParam(required = false) Broker broker,
+                                                                    @RequestParam(required = false) TradeType tradeType) {
+        return ResponseEntity.ok(pnlCubeService.query(userDetails.getId(), year, fromMonth, toMonth,
+                groupBy, marketType, broker, tradeType));
+    }
+
+    @PostMapping("/api/admin/analytics/pnl/rebuild")
+    public ResponseEntity<Void> rebuildCube() {
+        pnlCubeService.rebuildAllAsync();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
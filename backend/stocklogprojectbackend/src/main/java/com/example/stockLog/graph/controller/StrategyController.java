@@ -5,6 +5,8 @@ import com.example.stockLog.graph.dto.StrategyRequestDto;
 import com.example.stockLog.graph.dto.StrategyResponseDto;
 import com.example.stockLog.graph.service.StrategyService;
 import lombok.RequiredArgsConstructor;
+import com.example.stockLog.graph.service.StrategyRollupService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +17,7 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class StrategyController {
     private final StrategyService strategyService;
+    private final StrategyRollupService strategyRollupService;
 
     @GetMapping("/api/strategy/yearly")
     public ResponseEntity<List<StrategyResponseDto>> getYearlyRealizedPL(@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -22,4 +25,11 @@ public class StrategyController {
         List<StrategyResponseDto> result = strategyService.getYearlyRealizedPL(userDetails.getId(), strategyRequestDto);
         return ResponseEntity.ok(result);
     }
+
+    //월간 집계(strategy) 전체 재계산. 오래 걸릴 수 있어서 바로 202 를 주고 백그라운드에서 돌림
+    @PostMapping("/api/admin/strategy/rebuild")
+    public ResponseEntity<Void> rebuildRollups() {
+        strategyRollupService.rebuildAllAsync();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.stockLog.graph.dto;
+
+import lombok.Getter;
+
+//trade_log 를 유저/연/월로 묶은 집계 한 줄. 월간 집계 재계산용
+@Getter
+public class MonthlyRollupDto {
+    private final int year;
+    private final int month;
+    private final double realizedPL;
+    private final int tradeCount;
+    private final int winCount;
+
+    public MonthlyRollupDto(Integer year, Integer month, Double realizedPL, Long tradeCount, Long winCount) {
+        this.year = year;
+        this.month = month;
+        this.realizedPL = realizedPL != null ? realizedPL : 0.0;
+        this.tradeCount = tradeCount != null ? tradeCount.intValue() : 0;
+        this.winCount = winCount != null ? winCount.intValue() : 0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.stockLog.graph.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.Getter;
+
+//trade_log 를 큐브 한 칸 단위로 묶은 집계 한 줄. 큐브 재계산용
+@Getter
+public class PnlCubeCellDto {
+    private final int year;
+    private final int month;
+    private final MarketType marketType;
+    private final Broker broker;
+    private final TradeType tradeType;
+    private final double realizedPL;
+    private final int tradeCount;
+    private final int winCount;
+
+    public PnlCubeCellDto(Integer year, Integer month, MarketType marketType, Broker broker, TradeType tradeType,
+                          Double realizedPL, Long tradeCount, Long winCount) {
+        this.year = year;
+        this.month = month;
+        this.marketType = marketType;
+        this.broker = broker;
+        this.tradeType = tradeType;
+        this.realizedPL = realizedPL != null ? realizedPL : 0.0;
+        this.tradeCount = tradeCount != null ? tradeCount.intValue() : 0;
+        this.winCount = winCount != null ? winCount.intValue() : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.stockLog.graph.dto;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+//큐브를 요청한 축으로 묶은 결과 한 줄. dimensions 예: {"BROKER": "TOSS", "MONTH": "3"}
+@Getter
+public class PnlCubeResponseDto {
+    private final Map<String, String> dimensions;
+    private double realizedPL;
+    private int tradeCount;
+    private int winCount;
+
+    public PnlCubeResponseDto(Map<String, String> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public void add(double realizedPL, int tradeCount, int winCount) {
+        this.realizedPL += realizedPL;
+        this.tradeCount += tradeCount;
+        this.winCount += winCount;
+    }
+}
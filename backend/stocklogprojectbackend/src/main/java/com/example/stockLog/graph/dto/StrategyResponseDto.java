@@ -10,9 +10,17 @@ import lombok.Setter;
 public class StrategyResponseDto {
     private double realizedPL;
     private int month;
+    private int tradeCount;
+    private int winCount;
     //service에서 new로 객체 만들기때문에 덮어씌워지지 않음
     public StrategyResponseDto(int currentMonth, double monthlySum) {
         this.month = currentMonth;
         this.realizedPL = monthlySum;
     }
+
+    public StrategyResponseDto(int currentMonth, double monthlySum, int tradeCount, int winCount) {
+        this(currentMonth, monthlySum);
+        this.tradeCount = tradeCount;
+        this.winCount = winCount;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.stockLog.graph.entity;
+
+import java.util.function.Function;
+
+//손익 큐브를 묶을 수 있는 축
+public enum CubeDimension {
+    YEAR(cell -> String.valueOf(cell.getYear())),
+    MONTH(cell -> String.valueOf(cell.getMonth())),
+    MARKET_TYPE(PnlCubeCell::getMarketType),
+    BROKER(PnlCubeCell::getBroker),
+    TRADE_TYPE(PnlCubeCell::getTradeType);
+
+    private final Function<PnlCubeCell, String> extractor;
+
+    CubeDimension(Function<PnlCubeCell, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String valueOf(PnlCubeCell cell) {
+        return extractor.apply(cell);
+    }
+}
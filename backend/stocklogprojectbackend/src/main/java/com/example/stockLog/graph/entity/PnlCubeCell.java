@@ -0,0 +1,45 @@
+package com.example.stockLog.graph.entity;
+
+import com.example.stockLog.community.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "pnl_cube",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pnl_cube_cell",
+                columnNames = {"user_id", "year", "month", "market_type", "broker", "trade_type"}))
+public class PnlCubeCell {
+    //유저 x 연 x 월 x 시장 x 증권사 x 매수/매도 한 칸의 손익 합계와 건수
+    //분석 화면은 이 칸들을 원하는 축으로 다시 묶어서 보여줌 (PnlCubeService)
+    //값이 없는 축은 NONE 으로 저장. 유니크 키에 NULL 이 들어가면 같은 칸이 여러 행으로 쪼개지기 때문
+    public static final String NONE = "NONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private int year;
+    private int month;
+    @Column(name = "market_type", nullable = false, length = 20)
+    private String marketType;
+    @Column(nullable = false, length = 30)
+    private String broker;
+    @Column(name = "trade_type", nullable = false, length = 10)
+    private String tradeType;
+
+    private double realizedPL;
+    private int tradeCount;
+    private int winCount; //실현손익이 0보다 큰 건수
+
+    public static String key(Enum<?> value) {
+        return value != null ? value.name() : NONE;
+    }
+}
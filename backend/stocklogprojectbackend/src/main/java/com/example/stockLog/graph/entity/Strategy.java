@@ -11,13 +11,18 @@ import java.time.LocalDate;
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(name = "strategy",
+        uniqueConstraints = @UniqueConstraint(name = "uk_strategy_user_date", columnNames = {"user_id", "date"}))
 public class Strategy {
+    //유저별 월간 집계 테이블. 매매일지가 바뀔 때마다 StrategyRollupService 가 차이만큼 갱신함
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     //LocalDate는 연, 월, 일 정보 모두 담음
-    private LocalDate date; //x축
+    private LocalDate date; //x축. 항상 그 달의 1일
     private double realizedPL;
+    private int tradeCount; //실현(매도) 건수
+    private int winCount; //실현손익이 0보다 큰 건수
     //누구의 그래프인지 알아야 함
     //한명의 사용자는 여러 달의 통계 데이터를 가져야 함. @OneToOne으로 하면 한달치 사용지밖에 조회 못함
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,40 @@
+package com.example.stockLog.graph.repository;
+
+import com.example.stockLog.graph.entity.PnlCubeCell;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PnlCubeRepository extends JpaRepository<PnlCubeCell, Long> {
+    //유니크 키 앞부분(user_id, year, month)으로 읽음. 한 해 최대 12 x 시장 x 증권사 x 2 칸
+    @Query("SELECT c FROM PnlCubeCell c WHERE c.user.id = :userId " +
+            "AND c.year = :year AND c.month BETWEEN :fromMonth AND :toMonth")
+    List<PnlCubeCell> findCells(@Param("userId") Long userId,
+                                @Param("year") int year,
+                                @Param("fromMonth") int fromMonth,
+                                @Param("toMonth") int toMonth);
+
+    //칸이 없으면 만들고 있으면 누적 (StrategyRepository.addMonthly 와 같은 방식)
+    @Modifying
+    @Query(value = "INSERT INTO pnl_cube (user_id, year, month, market_type, broker, trade_type, realizedpl, trade_count, win_count) " +
+            "VALUES (:userId, :year, :month, :marketType, :broker, :tradeType, :realizedPL, :tradeCount, :winCount) " +
+            "ON DUPLICATE KEY UPDATE realizedpl = pnl_cube.realizedpl + :realizedPL, " +
+            "trade_count = pnl_cube.trade_count + :tradeCount, win_count = pnl_cube.win_count + :winCount",
+            nativeQuery = true)
+    int addCell(@Param("userId") Long userId,
+                @Param("year") int year,
+                @Param("month") int month,
+                @Param("marketType") String marketType,
+                @Param("broker") String broker,
+                @Param("tradeType") String tradeType,
+                @Param("realizedPL") double realizedPL,
+                @Param("tradeCount") int tradeCount,
+                @Param("winCount") int winCount);
+
+    @Modifying
+    @Query("DELETE FROM PnlCubeCell c WHERE c.user.id = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+}
@@ -2,11 +2,32 @@ package com.example.stockLog.graph.repository;
 
 import com.example.stockLog.graph.entity.Strategy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
 public interface StrategyRepository extends JpaRepository<Strategy, Long> {
-    //userId를 기준으로
-    Optional<Strategy> findByUserIdAndDateBetween(Long userId, LocalDate start, LocalDate end);
+    //userId를 기준으로. 1년이면 최대 12행
+    List<Strategy> findByUserIdAndDateBetweenOrderByDate(Long userId, LocalDate start, LocalDate end);
+
+    //(user_id, date) 유니크 키로 한 번에 삽입 또는 누적. 같은 달에 동시에 써도 행 잠금으로 순서대로 더해짐
+    //realizedPL 필드는 기본 네이밍 전략상 realizedpl 컬럼이 됨
+    @Modifying
+    @Query(value = "INSERT INTO strategy (user_id, date, realizedpl, trade_count, win_count) " +
+            "VALUES (:userId, :date, :realizedPL, :tradeCount, :winCount) " +
+            "ON DUPLICATE KEY UPDATE realizedpl = strategy.realizedpl + :realizedPL, " +
+            "trade_count = strategy.trade_count + :tradeCount, win_count = strategy.win_count + :winCount",
+            nativeQuery = true)
+    int addMonthly(@Param("userId") Long userId,
+                   @Param("date") LocalDate date,
+                   @Param("realizedPL") double realizedPL,
+                   @Param("tradeCount") int tradeCount,
+                   @Param("winCount") int winCount);
+
+    @Modifying
+    @Query("DELETE FROM Strategy s WHERE s.user.id = :userId")
+    int deleteByUser(@Param("userId") Long userId);
 }
@@ -0,0 +1,127 @@
+package com.example.stockLog.graph.service;
+
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.graph.dto.PnlCubeCellDto;
+import com.example.stockLog.graph.dto.PnlCubeResponseDto;
+import com.example.stockLog.graph.entity.CubeDimension;
+import com.example.stockLog.graph.entity.PnlCubeCell;
+import com.example.stockLog.graph.repository.PnlCubeRepository;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.service.TradeLogRollup;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class PnlCubeService extends TradeLogRollup<PnlCubeService.CellKey, ProfitDelta> {
+    //pnl_cube(유저 x 연 x 월 x 시장 x 증권사 x 매수/매도) 관리와 조회. 칸마다 매수/매도 모두 건수로 셈
+    private final PnlCubeRepository pnlCubeRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final UserRepository userRepository;
+
+    public PnlCubeService(PnlCubeRepository pnlCubeRepository,
+                          TradeLogRepository tradeLogRepository,
+                          UserRepository userRepository,
+                          TransactionTemplate transactionTemplate) {
+        super(tradeLogRepository, transactionTemplate, "손익 큐브");
+        this.pnlCubeRepository = pnlCubeRepository;
+        this.tradeLogRepository = tradeLogRepository;
+        this.userRepository = userRepository;
+    }
+
+    //큐브 칸들을 요청한 축으로 다시 묶음. 필터(null 이면 전체)는 칸 단위로 적용
+    //읽는 양은 기록 수가 아니라 칸 수에 비례
+    @Transactional(readOnly = true)
+    public List<PnlCubeResponseDto> query(Long userId, int year, Integer fromMonth, Integer toMonth,
+                                          List<CubeDimension> groupBy, MarketType marketType, Broker broker,
+                                          TradeType tradeType) {
+        int from = fromMonth != null ? fromMonth : 1;
+        int to = toMonth != null ? toMonth : 12;
+        if (from < 1 || to > 12 || from > to) {
+            throw new IllegalArgumentException("월 범위가 올바르지 않습니다: " + from + "~" + to);
+        }
+        List<CubeDimension> dimensions = groupBy != null ? groupBy : List.of();
+
+        Map<List<String>, PnlCubeResponseDto> groups = new LinkedHashMap<>();
+        for (PnlCubeCell cell : pnlCubeRepository.findCells(userId, year, from, to)) {
+            if (marketType != null && !marketType.name().equals(cell.getMarketType())) continue;
+            if (broker != null && !broker.name().equals(cell.getBroker())) continue;
+            if (tradeType != null && !tradeType.name().equals(cell.getTradeType())) continue;
+
+            List<String> key = dimensions.stream().map(d -> d.valueOf(cell)).collect(Collectors.toList());
+            groups.computeIfAbsent(key, k -> {
+                Map<String, String> labels = new LinkedHashMap<>();
+                for (int i = 0; i < dimensions.size(); i++) {
+                    labels.put(dimensions.get(i).name(), k.get(i));
+                }
+                return new PnlCubeResponseDto(labels);
+            }).add(cell.getRealizedPL(), cell.getTradeCount(), cell.getWinCount());
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    @Override
+    protected CellKey keyOf(TradeLogSnapshot snapshot) {
+        return new CellKey(snapshot.getTradeDate().getYear(), snapshot.getTradeDate().getMonthValue(),
+                PnlCubeCell.key(snapshot.getMarketType()), PnlCubeCell.key(snapshot.getBroker()),
+                PnlCubeCell.key(snapshot.getTradeType()));
+    }
+
+    @Override
+    protected ProfitDelta newDelta() {
+        return new ProfitDelta();
+    }
+
+    @Override
+    protected void add(ProfitDelta delta, TradeLogSnapshot snapshot, int sign) {
+        delta.add(snapshot.getRealizedPL(), true, sign);
+    }
+
+    @Override
+    protected void upsert(Long userId, CellKey key, ProfitDelta delta) {
+        pnlCubeRepository.addCell(userId, key.year, key.month, key.marketType, key.broker, key.tradeType,
+                delta.realizedPL, delta.tradeCount, delta.winCount);
+    }
+
+    @Override
+    protected void replaceUser(Long userId) {
+        pnlCubeRepository.deleteByUser(userId);
+        List<PnlCubeCell> cells = tradeLogRepository.findCubeCells(userId).stream()
+                .map(row -> toCell(userId, row))
+                .collect(Collectors.toList());
+        pnlCubeRepository.saveAll(cells);
+    }
+
+    private PnlCubeCell toCell(Long userId, PnlCubeCellDto row) {
+        return PnlCubeCell.builder()
+                .user(userRepository.getReferenceById(userId))
+                .year(row.getYear())
+                .month(row.getMonth())
+                .marketType(PnlCubeCell.key(row.getMarketType()))
+                .broker(PnlCubeCell.key(row.getBroker()))
+                .tradeType(PnlCubeCell.key(row.getTradeType()))
+                .realizedPL(row.getRealizedPL())
+                .tradeCount(row.getTradeCount())
+                .winCount(row.getWinCount())
+                .build();
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    static class CellKey {
+        private final int year;
+        private final int month;
+        private final String marketType;
+        private final String broker;
+        private final String tradeType;
+    }
+}
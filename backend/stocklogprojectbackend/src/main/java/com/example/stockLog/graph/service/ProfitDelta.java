@@ -0,0 +1,23 @@
+package com.example.stockLog.graph.service;
+
+import com.example.stockLog.tradelog.service.TradeLogRollup;
+
+//월간 손익(strategy)과 손익 큐브(pnl_cube)가 같이 쓰는 칸별 차이 (실현손익, 건수, 이긴 건수)
+class ProfitDelta implements TradeLogRollup.Delta {
+    double realizedPL;
+    int tradeCount;
+    int winCount;
+
+    //건수를 세는 기준은 집계마다 달라서 countsTrade 로 받음
+    void add(Double realizedPL, boolean countsTrade, int sign) {
+        double pl = realizedPL != null ? realizedPL : 0.0;
+        this.realizedPL += sign * pl;
+        if (countsTrade) tradeCount += sign;
+        if (pl > 0) winCount += sign;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return realizedPL == 0.0 && tradeCount == 0 && winCount == 0;
+    }
+}
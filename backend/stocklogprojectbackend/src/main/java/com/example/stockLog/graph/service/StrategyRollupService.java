@@ -0,0 +1,73 @@
+package com.example.stockLog.graph.service;
+
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.graph.dto.MonthlyRollupDto;
+import com.example.stockLog.graph.entity.Strategy;
+import com.example.stockLog.graph.repository.StrategyRepository;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.service.TradeLogRollup;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class StrategyRollupService extends TradeLogRollup<LocalDate, ProfitDelta> {
+    //strategy 테이블(유저별 월간 손익 집계)을 관리. 칸은 그 달 1일, 건수는 매도만 셈
+    private final StrategyRepository strategyRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final UserRepository userRepository;
+
+    public StrategyRollupService(StrategyRepository strategyRepository,
+                                 TradeLogRepository tradeLogRepository,
+                                 UserRepository userRepository,
+                                 TransactionTemplate transactionTemplate) {
+        super(tradeLogRepository, transactionTemplate, "월간 손익 집계");
+        this.strategyRepository = strategyRepository;
+        this.tradeLogRepository = tradeLogRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    protected LocalDate keyOf(TradeLogSnapshot snapshot) {
+        return snapshot.getTradeDate().withDayOfMonth(1);
+    }
+
+    @Override
+    protected ProfitDelta newDelta() {
+        return new ProfitDelta();
+    }
+
+    @Override
+    protected void add(ProfitDelta delta, TradeLogSnapshot snapshot, int sign) {
+        delta.add(snapshot.getRealizedPL(), snapshot.getTradeType() == TradeType.SELL, sign);
+    }
+
+    @Override
+    protected void upsert(Long userId, LocalDate month, ProfitDelta delta) {
+        strategyRepository.addMonthly(userId, month, delta.realizedPL, delta.tradeCount, delta.winCount);
+    }
+
+    @Override
+    protected void replaceUser(Long userId) {
+        strategyRepository.deleteByUser(userId);
+        List<Strategy> rows = tradeLogRepository.findMonthlyRollups(userId).stream()
+                .map(rollup -> toStrategy(userId, rollup))
+                .collect(Collectors.toList());
+        strategyRepository.saveAll(rows);
+    }
+
+    private Strategy toStrategy(Long userId, MonthlyRollupDto rollup) {
+        return Strategy.builder()
+                .user(userRepository.getReferenceById(userId))
+                .date(LocalDate.of(rollup.getYear(), rollup.getMonth(), 1))
+                .realizedPL(rollup.getRealizedPL())
+                .tradeCount(rollup.getTradeCount())
+                .winCount(rollup.getWinCount())
+                .build();
+    }
+}
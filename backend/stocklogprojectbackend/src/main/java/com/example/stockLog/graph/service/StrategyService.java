@@ -2,9 +2,9 @@ package com.example.stockLog.graph.service;
 
 import com.example.stockLog.graph.dto.StrategyRequestDto;
 import com.example.stockLog.graph.dto.StrategyResponseDto;
+import com.example.stockLog.graph.entity.Strategy;
 import com.example.stockLog.graph.repository.StrategyRepository;
-import com.example.stockLog.tradelog.entity.TradeLog;
-import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.service.TradeLogColumnCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,30 +18,27 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StrategyService {
     private final StrategyRepository strategyRepository;
-    private final TradeLogRepository tradeLogRepository;
+    private final TradeLogColumnCache tradeLogColumnCache;
 
+    @Transactional(readOnly = true)
     public List<StrategyResponseDto> getYearlyRealizedPL(Long userId, StrategyRequestDto dto) {
-        int year = dto.getYear(); //연도 선택하면 tradeLogRepository에서 연도별 정보 빼오기..?
+        int year = dto.getYear();
+        if (tradeLogColumnCache.isEnabled()) {
+            return tradeLogColumnCache.get(userId).monthly(year);
+        }
         LocalDate start = LocalDate.of(year, 1, 1);
         LocalDate end = LocalDate.of(year, 12, 31);
-        List<TradeLog> yearLogs = tradeLogRepository.findByUserIdAndTradeDateBetween(userId, start, end);
+        //월간 집계 테이블에서 최대 12행만 읽음. 매매가 없던 달은 0으로 채움
+        StrategyResponseDto[] months = new StrategyResponseDto[12];
+        for (Strategy strategy : strategyRepository.findByUserIdAndDateBetweenOrderByDate(userId, start, end)) {
+            int month = strategy.getDate().getMonthValue();
+            months[month - 1] = new StrategyResponseDto(month, strategy.getRealizedPL(),
+                    strategy.getTradeCount(), strategy.getWinCount());
+        }
         List<StrategyResponseDto> result = new ArrayList<>();
-        //1월부터 12월까지 각 달 수익률 +
         for (int m = 1; m <= 12; m++) {
-            int currentMonth = m;
-
-            // 🚀 여기서 '합산'이 일어납니다 (해당 월의 모든 매도 수익을 더함)
-            double monthlySum = yearLogs.stream()
-                    .filter(log -> log.getTradeDate().getMonthValue() == currentMonth)
-                    .mapToDouble(log -> log.getRealizedPL() != null ? log.getRealizedPL() : 0.0) // ✅ null이면 0.0으로 치환
-                    .sum();
-
-            result.add(new StrategyResponseDto(currentMonth, monthlySum));
+            result.add(months[m - 1] != null ? months[m - 1] : new StrategyResponseDto(m, 0.0));
         }
-
         return result;
     }
-
-    }
-
-
+}
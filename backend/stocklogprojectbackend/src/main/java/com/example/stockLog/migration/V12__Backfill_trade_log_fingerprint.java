@@ -0,0 +1,75 @@
+package com.example.stockLog.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class V12__Backfill_trade_log_fingerprint extends BaseJavaMigration {
+    //V6 이전 행과 가져오기 말고 다른 경로로 저장된 행에 fingerprint 를 채움
+    //해시와 숫자 정규화를 SQL 로 똑같이 만들 수 없어서 자바에서 계산함. 계산식은 이 시점의 TradeLog.fingerprintOf 를 그대로 옮겨 둔 것
+    //(앱 코드가 바뀌어도 이 마이그레이션이 쓰는 값은 바뀌면 안 되므로 엔티티/enum 을 참조하지 않음)
+    //메모리를 일정하게 두려고 id 순서로 나눠 읽고 쓰지만, 커밋은 마이그레이션 전체가 한 트랜잭션
+    private static final int CHUNK_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        long lastId = 0;
+        long filled = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, user_id, trade_date, ticker, stock_name, trade_type, execution_price, executed_quantity " +
+                            "FROM trade_log WHERE id > ? AND fingerprint IS NULL ORDER BY id LIMIT " + CHUNK_SIZE, lastId);
+            if (rows.isEmpty()) break;
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                updates.add(new Object[]{fingerprintOf(row), row.get("id")});
+            }
+            jdbcTemplate.batchUpdate("UPDATE trade_log SET fingerprint = ? WHERE id = ?", updates);
+            filled += updates.size();
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+        log.info(">> [Migration] fingerprint 채움: {}건", filled);
+    }
+
+    //SHA-256 앞 16바이트(hex 32자) of "유저|날짜|종목|매매구분|단가|수량". 종목은 티커가 있으면 "T:" + 대문자 티커, 없으면 종목명
+    //null 은 문자열 "null" (날짜, 유저, 매매구분), 숫자는 1.50 과 1.5 가 같도록 정규화
+    static String fingerprintOf(Map<String, Object> row) {
+        Object userId = row.get("user_id");
+        Date tradeDate = (Date) row.get("trade_date");
+        String ticker = (String) row.get("ticker");
+        String stockName = (String) row.get("stock_name");
+        Object tradeType = row.get("trade_type");
+        String stock = ticker != null && !ticker.isBlank() ? "T:" + ticker.trim().toUpperCase()
+                : stockName == null ? "" : stockName.trim();
+        String source = (userId == null ? "null" : String.valueOf(((Number) userId).longValue()))
+                + "|" + (tradeDate == null ? "null" : tradeDate.toLocalDate().toString())
+                + "|" + stock
+                + "|" + (tradeType == null ? "null" : tradeType.toString())
+                + "|" + plain(row.get("execution_price"))
+                + "|" + plain(row.get("executed_quantity"));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String plain(Object value) {
+        return value == null ? "" : BigDecimal.valueOf(((Number) value).doubleValue()).stripTrailingZeros().toPlainString();
+    }
+}
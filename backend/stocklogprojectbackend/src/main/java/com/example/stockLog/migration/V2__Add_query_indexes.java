@@ -0,0 +1,55 @@
+package com.example.stockLog.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+@Slf4j
+public class V2__Add_query_indexes extends BaseJavaMigration {
+    //자주 쓰는 조회용 보조 인덱스. ddl-auto=update 시절 DB 에는 일부만 있을 수 있어서 이름으로 확인하고 없는 것만 만듦
+    //(MySQL 에는 CREATE INDEX IF NOT EXISTS 가 없음)
+    private static final List<String[]> INDEXES = List.of(
+            // {테이블, 인덱스 이름, 컬럼}
+            new String[]{"trade_log", "idx_trade_log_user_date", "user_id, trade_date, id"},
+            new String[]{"trade_log", "idx_trade_log_user_stock_name", "user_id, stock_name"},
+            new String[]{"trade_log", "idx_trade_log_user_date_type", "user_id, trade_date, trade_type"},
+            new String[]{"trade_log", "idx_trade_log_user_tags", "user_id, tag_bits"},
+            new String[]{"trade_log", "idx_trade_log_user_ticker_date", "user_id, ticker, trade_date"},
+            new String[]{"trade_log", "idx_trade_log_user_broker_date", "user_id, broker, trade_date"},
+            new String[]{"trade_log", "idx_trade_log_user_pl", "user_id, realizedpl"},
+            new String[]{"trade_log", "idx_trade_log_ticker_date", "ticker, trade_date"},
+            new String[]{"portfolio_entity", "idx_portfolio_ticker_buy_date", "ticker, buy_date"},
+            new String[]{"corporate_action", "idx_corporate_action_ticker_date", "ticker, effective_date"},
+            new String[]{"heart", "idx_heart_post", "post_id"},
+            new String[]{"follow", "idx_follow_following", "following_id"}
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            for (String[] index : INDEXES) {
+                if (indexExists(connection, index[0], index[1])) continue;
+                statement.execute("CREATE INDEX " + index[1] + " ON " + index[0] + " (" + index[2] + ")");
+                log.info(">> [Migration] 인덱스 생성: {}.{}", index[0], index[1]);
+            }
+        }
+    }
+
+    private boolean indexExists(Connection connection, String table, String indexName) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        try (ResultSet rs = meta.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, false)) {
+            while (rs.next()) {
+                if (indexName.equalsIgnoreCase(rs.getString("INDEX_NAME"))) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.stockLog.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Slf4j
+public class V3__Migrate_legacy_trade_log_tags extends BaseJavaMigration {
+    //예전 trade_log_tags(행마다 태그 한 줄) 데이터를 trade_log.tag_bits 로 옮김 (옛 TradeLogTagMigration 러너)
+    //V1 이 옛 스키마라 새로 만든 DB 에도 빈 옛 테이블이 있음. 옮긴 뒤 백업 이름으로 바꿔 두므로 다시 돌면 아무것도 안 함
+    private static final String LEGACY_TABLE = "trade_log_tags";
+    private static final String BACKUP_TABLE = "trade_log_tags_backup";
+    //옛 tag_name -> 비트. 옛 테이블의 enum 값(V1)과 그때의 Tag 비트 자리를 그대로 옮겨 둔 것
+    //Tag enum 이 나중에 바뀌어도 이미 배포된 이 마이그레이션의 결과가 바뀌면 안 되므로 enum 을 참조하지 않음
+    private static final String BIT_CASE = "CASE g.tag_name" +
+            " WHEN 'ImpulsiveTrading' THEN 1" +
+            " WHEN 'StopLossViolation' THEN 2" +
+            " WHEN 'PanicBuying' THEN 4" +
+            " WHEN 'PanicSelling' THEN 8" +
+            " WHEN 'PositionSizingError' THEN 16" +
+            " ELSE 0 END";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, LEGACY_TABLE)) return;
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+        // 태그마다 서로 다른 비트라서 SUM(DISTINCT) 가 곧 OR 가 됨
+        int updated = jdbcTemplate.update(
+                "UPDATE trade_log t SET t.tag_bits = " +
+                        "(SELECT COALESCE(SUM(DISTINCT " + BIT_CASE + "), 0) FROM " + LEGACY_TABLE + " g WHERE g.trade_log_id = t.id) " +
+                        "WHERE EXISTS (SELECT 1 FROM " + LEGACY_TABLE + " g WHERE g.trade_log_id = t.id)");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE + " RENAME TO " + BACKUP_TABLE);
+        log.info(">> [Migration] 태그 비트마스크 마이그레이션 완료: {}건", updated);
+    }
+
+    //information_schema 의 스키마 이름이 DB 마다 달라서(MySQL 은 DATABASE(), H2 는 SCHEMA()) JDBC 메타데이터로 확인
+    private boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        try (ResultSet rs = meta.getTables(connection.getCatalog(), connection.getSchema(), table, null)) {
+            return rs.next();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.stockLog.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+@Slf4j
+public class V4__Split_trade_log_journal extends BaseJavaMigration {
+    //예전 trade_log 에 붙어있던 긴 글 컬럼들을 trade_log_journal 로 옮기고 옛 컬럼을 지움 (옛 TradeLogJournalMigration 러너)
+    //V1 이 옛 스키마라 새로 만든 DB 에도 옛 컬럼이 있음. 옛 컬럼을 지운 뒤에는 다시 돌아도 아무것도 안 함
+    private static final List<String> LEGACY_COLUMNS =
+            List.of("reason_for_buy", "reason_for_sale", "ai_personal_evaluation", "chart_image_url");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        if (!columnExists(connection, "trade_log", LEGACY_COLUMNS.get(0))) return;
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+        int moved = jdbcTemplate.update(
+                "INSERT INTO trade_log_journal (trade_log_id, reason_for_buy, reason_for_sale, ai_personal_evaluation, chart_image_url) " +
+                        "SELECT t.id, t.reason_for_buy, t.reason_for_sale, t.ai_personal_evaluation, t.chart_image_url FROM trade_log t " +
+                        "WHERE (t.reason_for_buy IS NOT NULL OR t.reason_for_sale IS NOT NULL " +
+                        "OR t.ai_personal_evaluation IS NOT NULL OR t.chart_image_url IS NOT NULL) " +
+                        "AND NOT EXISTS (SELECT 1 FROM trade_log_journal j WHERE j.trade_log_id = t.id)");
+        for (String column : LEGACY_COLUMNS) {
+            jdbcTemplate.execute("ALTER TABLE trade_log DROP COLUMN " + column);
+        }
+        log.info(">> [Migration] 매매일지 본문 분리 마이그레이션 완료: {}건", moved);
+    }
+
+    //V3 와 같은 이유로 information_schema 대신 JDBC 메타데이터로 확인
+    private boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        try (ResultSet rs = meta.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return rs.next();
+        }
+    }
+}
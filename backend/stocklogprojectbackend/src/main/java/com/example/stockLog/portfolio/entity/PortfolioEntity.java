@@ -1,5 +1,6 @@
 package com.example.stockLog.portfolio.entity;
 
+import com.example.stockLog.community.entity.BaseTimeEntity;
 import com.example.stockLog.community.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,7 +13,11 @@ import java.util.Date;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class PortfolioEntity {
+@Table(indexes = {
+        @Index(name = "idx_portfolio_ticker_buy_date", columnList = "ticker, buy_date"),
+        @Index(name = "idx_portfolio_user_updated", columnList = "user_id, updated_at, id") // 모바일 동기화
+})
+public class PortfolioEntity extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
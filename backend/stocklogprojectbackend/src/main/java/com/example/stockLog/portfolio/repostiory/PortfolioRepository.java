@@ -1,10 +1,63 @@
 package com.example.stockLog.portfolio.repostiory;
 
 import com.example.stockLog.portfolio.entity.PortfolioEntity;
+import com.example.stockLog.sync.dto.SyncPortfolioDto;
+import com.example.stockLog.tradelog.dto.DividendPositionDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
 
 public interface PortfolioRepository extends JpaRepository<PortfolioEntity, Long> {
     List<PortfolioEntity> findByUserId(Long id);
+
+    //배당 예상(CalculateService). 같은 종목의 여러 매수분을 종목별 보유 수량으로 묶음
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DividendPositionDto(p.user.id, p.ticker, SUM(p.executedQuantity)) " +
+            "FROM PortfolioEntity p WHERE p.user.id IN :userIds AND p.ticker IS NOT NULL " +
+            "GROUP BY p.user.id, p.ticker")
+    List<DividendPositionDto> findDividendPositions(@Param("userIds") List<Long> userIds);
+
+    //야간 배당 예상 배치는 유저 id 키셋으로 나눠서 돌림
+    @Query("SELECT DISTINCT p.user.id FROM PortfolioEntity p WHERE p.user.id > :afterId ORDER BY p.user.id")
+    List<Long> findUserIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    //배당 일정을 받아 올 종목
+    @Query("SELECT DISTINCT p.ticker FROM PortfolioEntity p WHERE p.ticker IS NOT NULL")
+    List<String> findDistinctTickers();
+
+    //액면분할 조정용 (TradeLogRepository.applySplit 과 같은 방식)
+    @Query("SELECT MIN(p.id) FROM PortfolioEntity p " +
+            "WHERE p.ticker = :ticker AND p.buyDate < :effectiveDate AND p.id > :afterId")
+    Long findNextIdForTicker(@Param("ticker") String ticker,
+                             @Param("effectiveDate") Date effectiveDate,
+                             @Param("afterId") Long afterId);
+    //평단가/수량만 바뀌고 총 매입금액과 평가손익은 그대로 유지됨
+    @Modifying
+    @Query("UPDATE PortfolioEntity p SET " +
+            "p.executionPrice = p.executionPrice / :ratio, " +
+            "p.executedQuantity = p.executedQuantity * :ratio, " +
+            "p.updatedAt = :now " +
+            "WHERE p.ticker = :ticker AND p.buyDate < :effectiveDate AND p.id BETWEEN :fromId AND :toId")
+    int applySplit(@Param("ticker") String ticker,
+                   @Param("effectiveDate") Date effectiveDate,
+                   @Param("ratio") double ratio,
+                   @Param("fromId") Long fromId,
+                   @Param("toId") Long toId,
+                   @Param("now") LocalDateTime now);
+    //모바일 동기화(SyncService). TradeLogRepository.findChangedAfter 와 같은 키셋 (idx_portfolio_user_updated)
+    @Query("SELECT new com.example.stockLog.sync.dto.SyncPortfolioDto(p.id, p.stockName, p.ticker, p.buyDate, " +
+            "p.executionPrice, p.executedQuantity, p.totalCost, p.updatedAt) " +
+            "FROM PortfolioEntity p WHERE p.user.id = :userId AND p.updatedAt < :until " +
+            "AND (p.updatedAt > :afterAt OR (p.updatedAt = :afterAt AND p.id > :afterId)) " +
+            "ORDER BY p.updatedAt, p.id")
+    List<SyncPortfolioDto> findChangedAfter(@Param("userId") Long userId,
+                                            @Param("afterAt") LocalDateTime afterAt,
+                                            @Param("afterId") Long afterId,
+                                            @Param("until") LocalDateTime until,
+                                            Pageable pageable);
 }
@@ -7,6 +7,8 @@ import com.example.stockLog.portfolio.dto.PortfolioResponseDto;
 import com.example.stockLog.portfolio.dto.PortfolioSummaryDto;
 import com.example.stockLog.portfolio.entity.PortfolioEntity;
 import com.example.stockLog.portfolio.repostiory.PortfolioRepository;
+import com.example.stockLog.sync.entity.SyncEntityType;
+import com.example.stockLog.sync.service.SyncService;
 import com.example.stockLog.tradelog.dto.StockInfoDto;
 import com.example.stockLog.tradelog.service.StockDataService;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@Transactional
+@Transactional(timeoutString = SyncService.WRITE_TIMEOUT)
 @RequiredArgsConstructor
 @Slf4j
 public class PortfolioService {
@@ -26,6 +28,7 @@ public class PortfolioService {
     private final UserRepository userRepository;
     private final StockDataService stockDataService;
     private final GoogleSheetsService googleSheetsService;
+    private final SyncService syncService;
 
     public void write(Long userId, PortfolioRequestDto dto) {
         User user = userRepository.findById(userId)
@@ -121,6 +124,7 @@ public class PortfolioService {
 
         // 2. DB에서 삭제
         portfolioRepository.delete(portfolio);
+        syncService.recordDeleted(userId, SyncEntityType.PORTFOLIO, List.of(portfolioId));
         log.info("🎯 포트폴리오 삭제 완료: 유저ID={}, 종목={}, 티커={}", userId, portfolio.getStockName(), portfolio.getTicker());
     }
 
@@ -168,6 +172,7 @@ public class PortfolioService {
                 .orElseThrow(() -> new IllegalArgumentException("삭제할 기록을 찾을 수 없습니다."));
 
         portfolioRepository.delete(portfolio);
+        syncService.recordDeleted(portfolio.getUser().getId(), SyncEntityType.PORTFOLIO, List.of(portfolioId));
         log.info("포트폴리오 삭제 완료: ID {}", portfolioId);
     }
     private double fetchCurrentPriceFromSheet(String ticker) {
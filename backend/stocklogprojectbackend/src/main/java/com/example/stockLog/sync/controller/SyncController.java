@@ -0,0 +1,27 @@
+package com.example.stockLog.sync.controller;
+
+import com.example.stockLog.community.config.CustomUserDetails;
+import com.example.stockLog.sync.dto.SyncResponseDto;
+import com.example.stockLog.sync.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+    private final SyncService syncService;
+
+    //모바일 앱 증분 동기화. 첫 요청은 토큰 없이 -> 응답의 syncToken 을 저장해 두고 다음에 그대로 보냄
+    //hasMore 면 바로 이어서 요청, reset 이면 앱에 있던 데이터를 버리고 다시 채움
+    @GetMapping
+    public ResponseEntity<SyncResponseDto> sync(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                @RequestParam(required = false) String token) {
+        return ResponseEntity.ok(syncService.getChanges(userDetails.getId(), token));
+    }
+}
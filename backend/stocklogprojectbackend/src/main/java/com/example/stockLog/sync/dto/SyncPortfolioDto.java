@@ -0,0 +1,23 @@
+package com.example.stockLog.sync.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+//포트폴리오는 저장된 값만 보냄. 현재가/평가손익은 앱이 시세를 따로 받아서 계산 (PortfolioService.getPortfolioList 와 같은 식)
+@Getter
+@AllArgsConstructor
+public class SyncPortfolioDto {
+    private Long portfolioId;
+    private String stockName;
+    private String ticker;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    private Date buyDate;
+    private Double executionPrice; //평단가
+    private Double executedQuantity;
+    private Double totalCost;
+    private LocalDateTime updatedAt;
+}
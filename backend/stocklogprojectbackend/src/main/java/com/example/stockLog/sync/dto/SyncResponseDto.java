@@ -0,0 +1,17 @@
+package com.example.stockLog.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SyncResponseDto {
+    private String syncToken; //다음 동기화 때 그대로 돌려보내는 값
+    private boolean hasMore; //한 번에 다 못 보냄 -> 바로 syncToken 으로 다시 요청
+    private boolean reset; //전체 동기화. 앱은 가지고 있던 데이터를 버리고 이번 응답부터 다시 채움
+    private List<SyncTradeLogDto> tradeLogs;
+    private List<SyncPortfolioDto> portfolios;
+    private List<SyncTombstoneDto> deleted;
+}
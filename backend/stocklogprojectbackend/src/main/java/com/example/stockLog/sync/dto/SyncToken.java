@@ -0,0 +1,65 @@
+package com.example.stockLog.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+//동기화 토큰. 매매일지/포트폴리오/삭제 기록마다 마지막으로 보낸 (updated_at, id) 위치를 하나씩 들고 있음 (TradeLogCursor 와 같은 키셋)
+//문자열로는 "2026-10-19T04:00:00.123456_15,2026-10-18T21:10:00_7,2026-10-19T04:00:00_0" 형태로 주고받음
+@Getter
+@AllArgsConstructor
+public class SyncToken {
+    //전체 동기화의 시작 위치. 어떤 기록보다도 앞
+    public static final Position BEGINNING = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final Position tradeLogs;
+    private final Position portfolios;
+    private final Position tombstones;
+
+    //토큰이 없으면 null (전체 동기화)
+    public static SyncToken parse(String token) {
+        if (token == null || token.isBlank()) return null;
+        String[] parts = token.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다: " + token);
+        }
+        return new SyncToken(Position.parse(parts[0], token), Position.parse(parts[1], token), Position.parse(parts[2], token));
+    }
+
+    @Override
+    public String toString() {
+        return tradeLogs + "," + portfolios + "," + tombstones;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Position {
+        private final LocalDateTime at;
+        private final Long id;
+
+        private static Position parse(String part, String token) {
+            int split = part.lastIndexOf('_');
+            if (split < 0) {
+                throw new IllegalArgumentException("잘못된 동기화 토큰입니다: " + token);
+            }
+            try {
+                return new Position(LocalDateTime.parse(part.substring(0, split)), Long.parseLong(part.substring(split + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 동기화 토큰입니다: " + token);
+            }
+        }
+
+        //other 보다 뒤 위치인지
+        public boolean isAfter(Position other) {
+            int compare = at.compareTo(other.at);
+            return compare > 0 || compare == 0 && id > other.id;
+        }
+
+        @Override
+        public String toString() {
+            return at + "_" + id;
+        }
+    }
+}
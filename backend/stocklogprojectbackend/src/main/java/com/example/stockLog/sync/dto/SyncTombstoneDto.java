@@ -0,0 +1,18 @@
+package com.example.stockLog.sync.dto;
+
+import com.example.stockLog.sync.entity.SyncEntityType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SyncTombstoneDto {
+    @JsonIgnore
+    private Long tombstoneId; //다음 토큰 위치용. 앱에는 보내지 않음
+    private SyncEntityType entityType;
+    private Long entityId;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,30 @@
+package com.example.stockLog.sync.dto;
+
+import com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+//목록 화면과 같은 컬럼 + 동기화 위치(updated_at)
+@Getter
+public class SyncTradeLogDto extends DetailTradeLogResponseDto {
+    private final LocalDateTime updatedAt;
+
+    // JPQL 생성자 프로젝션용 (DetailTradeLogResponseDto 와 같은 순서에 updatedAt 만 추가)
+    public SyncTradeLogDto(Long logId, LocalDate tradeDate, MarketType marketType, String stockName,
+                           String ticker, Broker broker, TradeType tradeType, Date buyDate, Date sellDate,
+                           Integer holdingPeriod, Double realizedPL, Double rateOfReturn,
+                           Double executionPrice, Double executedQuantity, Double tradingCost,
+                           Double totalCost, String reasonForSale, String reasonForBuy, Integer tagBits,
+                           LocalDateTime updatedAt) {
+        super(logId, tradeDate, marketType, stockName, ticker, broker, tradeType, buyDate, sellDate,
+                holdingPeriod, realizedPL, rateOfReturn, executionPrice, executedQuantity, tradingCost,
+                totalCost, reasonForSale, reasonForBuy, tagBits);
+        this.updatedAt = updatedAt;
+    }
+}
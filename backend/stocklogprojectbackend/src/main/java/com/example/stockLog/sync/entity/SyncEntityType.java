@@ -0,0 +1,7 @@
+package com.example.stockLog.sync.entity;
+
+//동기화 대상. 삭제 기록(SyncTombstone)에서 어떤 테이블의 행이었는지 구분
+public enum SyncEntityType {
+    TRADE_LOG,
+    PORTFOLIO
+}
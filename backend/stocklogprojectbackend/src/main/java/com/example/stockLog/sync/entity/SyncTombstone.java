@@ -0,0 +1,36 @@
+package com.example.stockLog.sync.entity;
+
+import com.example.stockLog.community.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "sync_tombstone",
+        indexes = @Index(name = "idx_sync_tombstone_user_deleted", columnList = "user_id, deleted_at, id"))
+public class SyncTombstone {
+    //삭제된 매매일지/포트폴리오 행 기록. 앱이 동기화할 때 "이 id 는 지워라" 를 알려주려고 남김
+    //보관 기간(sync.tombstone-retention-days)이 지나면 지우고, 그보다 오래된 토큰은 전체 동기화로 돌림
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId; //지워진 행의 id
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,32 @@
+package com.example.stockLog.sync.repository;
+
+import com.example.stockLog.sync.entity.SyncEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SyncTombstoneBatchWriter {
+    //일괄 삭제는 청크마다 수백 행이라 IDENTITY 저장(행마다 INSERT) 대신 JDBC 배치로 넣음
+    private static final String INSERT_TOMBSTONE =
+            "INSERT INTO sync_tombstone (user_id, entity_type, entity_id, deleted_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAll(Long userId, SyncEntityType entityType, List<Long> entityIds, LocalDateTime deletedAt) {
+        if (entityIds.isEmpty()) return 0;
+        Timestamp at = Timestamp.valueOf(deletedAt);
+        List<Object[]> rows = new ArrayList<>(entityIds.size());
+        for (Long entityId : entityIds) {
+            rows.add(new Object[]{userId, entityType.name(), entityId, at});
+        }
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE, rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.stockLog.sync.repository;
+
+import com.example.stockLog.sync.dto.SyncTombstoneDto;
+import com.example.stockLog.sync.entity.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+    //(deleted_at, id) 키셋으로 until 직전까지 (idx_sync_tombstone_user_deleted)
+    @Query("SELECT new com.example.stockLog.sync.dto.SyncTombstoneDto(s.id, s.entityType, s.entityId, s.deletedAt) " +
+            "FROM SyncTombstone s WHERE s.user.id = :userId AND s.deletedAt < :until " +
+            "AND (s.deletedAt > :afterAt OR (s.deletedAt = :afterAt AND s.id > :afterId)) " +
+            "ORDER BY s.deletedAt, s.id")
+    List<SyncTombstoneDto> findChangedAfter(@Param("userId") Long userId,
+                                            @Param("afterAt") LocalDateTime afterAt,
+                                            @Param("afterId") Long afterId,
+                                            @Param("until") LocalDateTime until,
+                                            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone s WHERE s.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,129 @@
+package com.example.stockLog.sync.service;
+
+import com.example.stockLog.portfolio.repostiory.PortfolioRepository;
+import com.example.stockLog.sync.dto.SyncPortfolioDto;
+import com.example.stockLog.sync.dto.SyncResponseDto;
+import com.example.stockLog.sync.dto.SyncToken;
+import com.example.stockLog.sync.dto.SyncTombstoneDto;
+import com.example.stockLog.sync.dto.SyncTradeLogDto;
+import com.example.stockLog.sync.entity.SyncEntityType;
+import com.example.stockLog.sync.repository.SyncTombstoneBatchWriter;
+import com.example.stockLog.sync.repository.SyncTombstoneRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class SyncService {
+    //모바일 앱 증분 동기화. 토큰 이후에 바뀐 매매일지/포트폴리오와 삭제된 id 만 보냄
+    //바뀐 행은 updated_at 으로 찾음 (idx_trade_log_user_updated, idx_portfolio_user_updated). 벌크 UPDATE 도 updated_at 을 직접 갱신함
+    //updated_at 은 커밋보다 먼저 찍히므로, 아직 커밋 안 된 행을 건너뛰지 않게 지금보다 commitLag 만큼 이전까지만 보냄
+    //updated_at 을 찍는 쓰기 트랜잭션에만 시간 제한(sync.write-timeout-seconds)을 걺 -> 찍힌 뒤 커밋까지 그 안에 끝나므로 commitLag 는 그 2배 이상이어야 함 (시작할 때 확인)
+    //선언형 쓰기는 @Transactional(timeoutString = WRITE_TIMEOUT), 청크 쓰기는 같은 제한을 건 공용 TransactionTemplate(TransactionConfig)을 씀
+    //오래 걸리는 쓰기는 청크마다 트랜잭션을 나누고 updated_at 도 청크 안에서 찍음. 읽기 전용 트랜잭션은 제한 없음
+    public static final String WRITE_TIMEOUT = "${sync.write-timeout-seconds:30}";
+    private static final int PAGE_SIZE = 500;
+
+    private final TradeLogRepository tradeLogRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncTombstoneBatchWriter syncTombstoneBatchWriter;
+    private final long commitLagSeconds;
+    private final long tombstoneRetentionDays;
+
+    public SyncService(TradeLogRepository tradeLogRepository,
+                       PortfolioRepository portfolioRepository,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       SyncTombstoneBatchWriter syncTombstoneBatchWriter,
+                       @Value(WRITE_TIMEOUT) long writeTimeoutSeconds,
+                       @Value("${sync.commit-lag-seconds:120}") long commitLagSeconds,
+                       @Value("${sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.tradeLogRepository = tradeLogRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.syncTombstoneBatchWriter = syncTombstoneBatchWriter;
+        this.commitLagSeconds = commitLagSeconds;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+        checkCommitLag(writeTimeoutSeconds, commitLagSeconds);
+    }
+
+    //시간 제한이 없으면 커밋이 얼마나 늦을지 알 수 없어서 행이 빠질 수 있음
+    static void checkCommitLag(long writeTimeoutSeconds, long commitLagSeconds) {
+        if (writeTimeoutSeconds <= 0) {
+            throw new IllegalStateException("sync.write-timeout-seconds 는 0보다 커야 합니다.");
+        }
+        if (commitLagSeconds < 2L * writeTimeoutSeconds) {
+            throw new IllegalStateException("sync.commit-lag-seconds(" + commitLagSeconds
+                    + ")는 쓰기 트랜잭션 시간 제한(" + writeTimeoutSeconds + "초)의 2배 이상이어야 합니다.");
+        }
+    }
+
+    //읽기 전용 트랜잭션 하나로 세 목록을 같은 시점 기준으로 읽음
+    @Transactional(readOnly = true)
+    public SyncResponseDto getChanges(Long userId, String token) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime until = now.minusSeconds(commitLagSeconds);
+        SyncToken since = SyncToken.parse(token);
+
+        //토큰이 없거나 삭제 기록 보관 기간보다 오래됐으면 전체 동기화. 이때 과거 삭제 기록은 필요 없음
+        boolean reset = since == null || since.getTombstones().getAt().isBefore(now.minusDays(tombstoneRetentionDays));
+        if (reset) {
+            since = new SyncToken(SyncToken.BEGINNING, SyncToken.BEGINNING, new SyncToken.Position(until, 0L));
+        }
+
+        PageRequest page = PageRequest.of(0, PAGE_SIZE + 1);
+        List<SyncTradeLogDto> tradeLogs = tradeLogRepository.findChangedAfter(userId,
+                since.getTradeLogs().getAt(), since.getTradeLogs().getId(), until, page);
+        List<SyncPortfolioDto> portfolios = portfolioRepository.findChangedAfter(userId,
+                since.getPortfolios().getAt(), since.getPortfolios().getId(), until, page);
+        List<SyncTombstoneDto> deleted = syncTombstoneRepository.findChangedAfter(userId,
+                since.getTombstones().getAt(), since.getTombstones().getId(), until, page);
+
+        boolean hasMore = tradeLogs.size() > PAGE_SIZE || portfolios.size() > PAGE_SIZE || deleted.size() > PAGE_SIZE;
+        SyncToken next = new SyncToken(
+                nextPosition(tradeLogs, since.getTradeLogs(), until, SyncTradeLogDto::getUpdatedAt, SyncTradeLogDto::getLogId),
+                nextPosition(portfolios, since.getPortfolios(), until, SyncPortfolioDto::getUpdatedAt, SyncPortfolioDto::getPortfolioId),
+                nextPosition(deleted, since.getTombstones(), until, SyncTombstoneDto::getDeletedAt, SyncTombstoneDto::getTombstoneId));
+        return new SyncResponseDto(next.toString(), hasMore, reset,
+                firstPage(tradeLogs), firstPage(portfolios), firstPage(deleted));
+    }
+
+    //삭제하는 쪽 트랜잭션 안에서 같이 남김 -> 삭제가 롤백되면 기록도 같이 롤백
+    @Transactional(timeoutString = WRITE_TIMEOUT)
+    public void recordDeleted(Long userId, SyncEntityType entityType, List<Long> entityIds) {
+        syncTombstoneBatchWriter.insertAll(userId, entityType, entityIds, LocalDateTime.now());
+    }
+
+    //보관 기간이 지난 삭제 기록 정리. 그보다 오래된 토큰은 getChanges 에서 전체 동기화로 돌림
+    @Scheduled(cron = "${sync.tombstone-purge-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = syncTombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        log.info(">> [System] 동기화 삭제 기록 정리: {}행", purged);
+    }
+
+    //한 페이지를 다 채웠으면 마지막으로 보낸 행, 아니면 until 까지 다 보낸 것이므로 until 로 이동
+    private static <T> SyncToken.Position nextPosition(List<T> rows, SyncToken.Position since, LocalDateTime until,
+                                                       Function<T, LocalDateTime> at, Function<T, Long> id) {
+        if (rows.size() > PAGE_SIZE) {
+            T last = rows.get(PAGE_SIZE - 1);
+            return new SyncToken.Position(at.apply(last), id.apply(last));
+        }
+        SyncToken.Position caughtUp = new SyncToken.Position(until, 0L);
+        return since.isAfter(caughtUp) ? since : caughtUp;
+    }
+
+    private static <T> List<T> firstPage(List<T> rows) {
+        return rows.size() > PAGE_SIZE ? rows.subList(0, PAGE_SIZE) : rows;
+    }
+}
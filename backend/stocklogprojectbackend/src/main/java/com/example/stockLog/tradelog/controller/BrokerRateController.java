@@ -0,0 +1,35 @@
+package com.example.stockLog.tradelog.controller;
+
+import com.example.stockLog.tradelog.dto.BrokerRateRequestDto;
+import com.example.stockLog.tradelog.dto.BrokerRateResponseDto;
+import com.example.stockLog.tradelog.service.BrokerRateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/broker-rates")
+@RequiredArgsConstructor
+public class BrokerRateController {
+    //모든 유저의 수수료를 바꾸는 작업이라 관리자만 호출 가능 (SecurityConfig 참고)
+    private final BrokerRateService brokerRateService;
+
+    @PostMapping
+    public ResponseEntity<Long> register(@RequestBody BrokerRateRequestDto dto) {
+        return ResponseEntity.ok(brokerRateService.register(dto));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<BrokerRateResponseDto>> getRates() {
+        return ResponseEntity.ok(brokerRateService.getRates());
+    }
+
+    //기존 기록 재계산은 오래 걸릴 수 있으므로 백그라운드로 돌리고 바로 202 응답
+    @PostMapping("/{id}/reprice")
+    public ResponseEntity<Void> reprice(@PathVariable("id") Long rateId) {
+        brokerRateService.repriceAsync(rateId);
+        return ResponseEntity.accepted().build();
+    }
+}
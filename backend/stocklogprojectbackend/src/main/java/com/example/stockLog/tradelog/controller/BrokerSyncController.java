@@ -0,0 +1,46 @@
+package com.example.stockLog.tradelog.controller;
+
+import com.example.stockLog.community.config.CustomUserDetails;
+import com.example.stockLog.tradelog.dto.BrokerSyncResultDto;
+import com.example.stockLog.tradelog.dto.BrokerSyncStateDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.service.BrokerSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tradelogs/broker-sync")
+@RequiredArgsConstructor
+public class BrokerSyncController {
+    //증권사 체결 자동 동기화. 연결해 두면 주기적으로 새 체결만 받아와서 매매일지에 넣음
+    private final BrokerSyncService brokerSyncService;
+
+    @GetMapping
+    public ResponseEntity<List<BrokerSyncStateDto>> getStates(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(brokerSyncService.getStates(userDetails.getId()));
+    }
+
+    @PostMapping("/{broker}")
+    public ResponseEntity<BrokerSyncStateDto> connect(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                      @PathVariable("broker") Broker broker) {
+        return ResponseEntity.ok(brokerSyncService.connect(userDetails.getId(), broker));
+    }
+
+    @DeleteMapping("/{broker}")
+    public ResponseEntity<Void> disconnect(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                           @PathVariable("broker") Broker broker) {
+        brokerSyncService.disconnect(userDetails.getId(), broker);
+        return ResponseEntity.noContent().build();
+    }
+
+    //주기를 기다리지 않고 바로 동기화
+    @PostMapping("/{broker}/run")
+    public ResponseEntity<BrokerSyncResultDto> syncNow(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                       @PathVariable("broker") Broker broker) {
+        return ResponseEntity.ok(brokerSyncService.syncNow(userDetails.getId(), broker));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.stockLog.tradelog.controller;
+
+import com.example.stockLog.tradelog.dto.CorporateActionRequestDto;
+import com.example.stockLog.tradelog.dto.CorporateActionResponseDto;
+import com.example.stockLog.tradelog.service.CorporateActionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/corporate-actions")
+@RequiredArgsConstructor
+public class CorporateActionController {
+    //모든 유저의 기록을 건드리는 작업이라 관리자만 호출 가능 (SecurityConfig 참고)
+    private final CorporateActionService corporateActionService;
+
+    @PostMapping
+    public ResponseEntity<Long> register(@RequestBody CorporateActionRequestDto dto) {
+        return ResponseEntity.ok(corporateActionService.register(dto));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CorporateActionResponseDto>> getActions() {
+        return ResponseEntity.ok(corporateActionService.getActions());
+    }
+
+    //조정은 오래 걸릴 수 있으므로 백그라운드로 돌리고 바로 202 응답
+    @PostMapping("/{id}/apply")
+    public ResponseEntity<Void> apply(@PathVariable("id") Long actionId) {
+        corporateActionService.applyAsync(actionId);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.stockLog.tradelog.controller;
+
+import com.example.stockLog.community.config.CustomUserDetails;
+import com.example.stockLog.tradelog.dto.DividendProjectionDto;
+import com.example.stockLog.tradelog.service.CalculateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class DividendController {
+    private final CalculateService calculateService;
+
+    //앞으로 12개월 월별 예상 배당 수입 (야간 배치가 미리 계산해 둔 값)
+    @GetMapping("/api/tradelogs/dividends/projection")
+    public ResponseEntity<List<DividendProjectionDto>> getProjection(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(calculateService.getProjection(userDetails.getId()));
+    }
+
+    //배당 일정 갱신 + 전체 예상치 재계산을 야간 배치를 기다리지 않고 바로 돌림. 오래 걸릴 수 있어서 바로 202
+    @PostMapping("/api/admin/dividends/refresh")
+    public ResponseEntity<Void> refresh() {
+        calculateService.nightlyAsync();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.stockLog.tradelog.controller;
+
+import com.example.stockLog.community.config.CustomUserDetails;
+import com.example.stockLog.tradelog.dto.TaxEstimateDto;
+import com.example.stockLog.tradelog.service.TaxTallyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TaxController {
+    private final TaxTallyService taxTallyService;
+
+    //연간 세금 추정. 미리 쌓아 둔 연도별 집계 한 행만 읽음
+    @GetMapping("/api/tradelogs/tax-estimate/{year}")
+    public ResponseEntity<TaxEstimateDto> estimate(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                   @PathVariable("year") int year) {
+        return ResponseEntity.ok(taxTallyService.estimate(userDetails.getId(), year));
+    }
+
+    //연간 세금 집계(tax_year_tally) 전체 재계산. 오래 걸릴 수 있어서 바로 202 를 주고 백그라운드에서 돌림
+    @PostMapping("/api/admin/tax-tally/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        taxTallyService.rebuildAllAsync();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
@@ -4,17 +4,25 @@ import com.example.stockLog.community.config.CustomUserDetails;
 import com.example.stockLog.tradelog.dto.*;
 import com.example.stockLog.tradelog.entity.Broker;
 import com.example.stockLog.tradelog.entity.StockMaster;
-import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.Tag;
 import com.example.stockLog.tradelog.entity.TradeType;
 import com.example.stockLog.tradelog.repository.StockMasterRepository;
-import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.service.TradeLogBulkEditService;
+import com.example.stockLog.tradelog.service.TradeLogExportService;
+import com.example.stockLog.tradelog.service.TradeLogImportJobService;
 import com.example.stockLog.tradelog.service.TradeLogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,9 +37,12 @@ public class TradeLogController {
     //일지 수정
     //일지 삭제
     //AI 분석
+    private static final String NDJSON = "application/x-ndjson";
     private final TradeLogService tradeLogService;
+    private final TradeLogBulkEditService tradeLogBulkEditService;
+    private final TradeLogImportJobService tradeLogImportJobService;
+    private final TradeLogExportService tradeLogExportService;
     private final StockMasterRepository stockMasterRepository;
-    private final TradeLogRepository tradeLogRepository;
 
 
     @PostMapping
@@ -53,6 +64,54 @@ public class TradeLogController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
     }
+    //여러 체결 일괄 저장. 건별 결과(id 또는 오류)를 요청 순서대로 돌려줌
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTradeLogResponseDto> createLogs(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                              @RequestBody List<TradeLogRequestDto> tradeLogRequestDtos) {
+        return ResponseEntity.ok(tradeLogService.writeBulk(userDetails.getId(), tradeLogRequestDtos));
+    }
+    //증권사 내보내기 CSV / 엑셀(xlsx) 가져오기. 백그라운드 작업으로 돌리고 작업 id 를 바로 돌려줌 (202)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Long>> importCsv(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                       @RequestParam("file") MultipartFile file) throws IOException {
+        Long jobId = tradeLogImportJobService.submit(userDetails.getId(), file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("jobId", jobId));
+    }
+    //가져오기 진행 상황 (읽은/저장한/건너뛴 행 수, 건너뛴 이유)
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<TradeLogImportJobResponseDto> getImportJob(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                     @PathVariable("jobId") Long jobId) {
+        return ResponseEntity.ok(tradeLogImportJobService.getJob(userDetails.getId(), jobId));
+    }
+    //전체 매매기록 내보내기 (format=CSV|XLSX). 가져오기와 같은 컬럼 이름이라 내보낸 파일을 그대로 다시 올릴 수 있음
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                        @RequestParam(defaultValue = "CSV") TradeLogExportFormat format) {
+        Long userId = userDetails.getId();
+        StreamingResponseBody body = out -> tradeLogExportService.export(userId, format, out);
+        String fileName = "stocklog-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+    //조건에 맞는 기록 일괄 태그 변경/증권사 변경/삭제. 바뀐 행 수를 돌려줌
+    @PatchMapping("/bulk/tags")
+    public ResponseEntity<TradeLogBulkEditResponseDto> retagLogs(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                 @RequestBody TradeLogBulkEditRequestDto dto) {
+        return ResponseEntity.ok(tradeLogBulkEditService.retag(userDetails.getId(), dto));
+    }
+    @PatchMapping("/bulk/broker")
+    public ResponseEntity<TradeLogBulkEditResponseDto> changeBroker(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                    @RequestBody TradeLogBulkEditRequestDto dto) {
+        return ResponseEntity.ok(tradeLogBulkEditService.changeBroker(userDetails.getId(), dto));
+    }
+    //DELETE 는 body 를 안 보내는 클라이언트가 있어서 POST 로 받음
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<TradeLogBulkEditResponseDto> deleteLogs(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                  @RequestBody TradeLogBulkEditRequestDto dto) {
+        return ResponseEntity.ok(tradeLogBulkEditService.delete(userDetails.getId(), dto));
+    }
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateLog(@PathVariable("id") Long tradeLogId, @RequestBody TradeLogRequestDto tradeLogRequestDto,@AuthenticationPrincipal CustomUserDetails userDetails ){
         tradeLogService.update(tradeLogId, tradeLogRequestDto, userDetails.getId());
@@ -106,6 +165,38 @@ public class TradeLogController {
         Long userId=userDetails.getUser().getId();
         return ResponseEntity.ok(tradeLogService.getYearlyDetail(userId, year));
     }
+    //연도별 상세 기록을 커서로 나눠서 가져오기. 첫 요청은 cursor 없이, 이후엔 응답의 nextCursor 를 그대로 전달
+    @GetMapping("/yearly/detail/page")
+    public ResponseEntity<CursorPageResponseDto<DetailTradeLogResponseDto>> getYearlyDetailPage(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                                @RequestParam int year,
+                                                                                                @RequestParam(required = false) String cursor,
+                                                                                                @RequestParam(required = false) Integer size){
+        Long userId=userDetails.getUser().getId();
+        return ResponseEntity.ok(tradeLogService.getYearlyDetailPage(userId, year, cursor, size));
+    }
+    //연도별 상세 기록을 한 줄에 하나씩 흘려보내기 (application/x-ndjson)
+    @GetMapping(value = "/yearly/detail/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamYearlyDetail(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                    @RequestParam int year){
+        Long userId=userDetails.getUser().getId();
+        StreamingResponseBody body = out -> tradeLogService.streamYearlyDetail(userId, year, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+    //조건 검색 (종목, 증권사, 시장, 매수/매도, 태그, 손익 범위, 기간). 조건은 모두 선택. 결과는 커서 페이지
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDto<DetailTradeLogResponseDto>> searchLogs(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                       @ModelAttribute TradeLogSearchCondition condition){
+        Long userId=userDetails.getUser().getId();
+        return ResponseEntity.ok(tradeLogService.searchLogs(userId, condition));
+    }
+    //태그별 모아보기. ?year=2026&tags=PanicBuying&tags=ImpulsiveTrading (enum 이름으로 전달)
+    @GetMapping("/yearly/tags")
+    public ResponseEntity<List<DetailTradeLogResponseDto>> getYearlyLogsByTags(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                               @RequestParam int year,
+                                                                               @RequestParam List<Tag> tags){
+        Long userId=userDetails.getUser().getId();
+        return ResponseEntity.ok(tradeLogService.getYearlyLogsByTags(userId, year, tags));
+    }
     @GetMapping("/monthly/summary")
     public ResponseEntity<TradeSummaryDto> getMonthlySummary(@AuthenticationPrincipal  CustomUserDetails userDetails,
                                                              @RequestParam int year,
@@ -169,22 +260,23 @@ public class TradeLogController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         Long userId=userDetails.getUser().getId();
-        LocalDate start = LocalDate.of(year, month, 1);
-        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
-
-        List<TradeLog> logs = tradeLogRepository.findByUserIdAndTradeDateBetween(userId, start, end);
-
-        // 날짜별로 TradeType(BUY, SELL)을 모으는 Map 생성
-        Map<String, Set<String>> tradeMap = new HashMap<>();
-
-        for (TradeLog log : logs) {
-            String dateStr = log.getTradeDate().toString(); // "2026-01-04"
-            String type = log.getTradeType().name();       // "BUY" 또는 "SELL"
 
-            tradeMap.computeIfAbsent(dateStr, k -> new HashSet<>()).add(type);
-        }
-
-        return ResponseEntity.ok(tradeMap);
+        // 날짜별로 TradeType(BUY, SELL)을 모은 Map. 월 단위로 캐시됨
+        return ResponseEntity.ok(tradeLogService.getTradeCalendar(userId, year, month));
+    }
+    //내 매매일지 목록 (최신순) 커서 페이지네이션
+    @GetMapping("/journal/list")
+    public ResponseEntity<CursorPageResponseDto<DailyJournalResponseDto>> getMyTradeLogPage(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                          @RequestParam(required = false) String cursor,
+                                                                                          @RequestParam(required = false) Integer size) {
+        Long userId = userDetails.getUser().getId();
+        return ResponseEntity.ok(tradeLogService.getMyTradeLogPage(userId, cursor, size));
+    }
+    @GetMapping(value = "/journal/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamMyTradeLogs(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails.getUser().getId();
+        StreamingResponseBody body = out -> tradeLogService.streamMyTradeLogs(userId, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
     @GetMapping("/journal/detail/{tradeLogId}")
     public ResponseEntity<DailyJournalResponseDto> getStockLogDetail(
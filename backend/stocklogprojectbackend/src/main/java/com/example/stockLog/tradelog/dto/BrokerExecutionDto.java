@@ -0,0 +1,24 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//증권사에서 받아온 체결 한 건 (BrokerExecutionSource)
+@Getter
+@AllArgsConstructor
+public class BrokerExecutionDto {
+    private String executionId; //증권사 체결번호. 유저 x 증권사 안에서 유일
+    private LocalDateTime executedAt;
+    private String ticker;
+    private String stockName;
+    private MarketType marketType;
+    private TradeType tradeType;
+    private Double executionPrice;
+    private Double executedQuantity;
+    private Double fee; //증권사가 알려주지 않으면 null -> 증권사 기본 수수료율로 계산
+    private LocalDateTime modifiedAt; //증권사가 마지막으로 정정한 시각. 정정된 적 없으면 null
+}
@@ -0,0 +1,17 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class BrokerRateRequestDto {
+    private Broker broker;
+    private MarketType marketType;
+    private Double rate; //소수점 (0.015% = 0.00015)
+    private LocalDate effectiveFrom; //이 날짜 이후 체결된 매매부터 적용
+}
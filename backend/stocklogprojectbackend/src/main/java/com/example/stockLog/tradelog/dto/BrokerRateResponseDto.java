@@ -0,0 +1,34 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerRate;
+import com.example.stockLog.tradelog.entity.MarketType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class BrokerRateResponseDto {
+    private Long id;
+    private Broker broker;
+    private MarketType marketType;
+    private Double rate;
+    private LocalDate effectiveFrom;
+    private Integer revision;
+    private Long repricedRows;
+    private LocalDateTime repricedAt; //null 이면 아직 기존 기록에 반영되지 않음
+
+    public BrokerRateResponseDto(BrokerRate rate) {
+        this.id = rate.getId();
+        this.broker = rate.getBroker();
+        this.marketType = rate.getMarketType();
+        this.rate = rate.getRate();
+        this.effectiveFrom = rate.getEffectiveFrom();
+        this.revision = rate.getRevision();
+        this.repricedRows = rate.getRepricedRows();
+        this.repricedAt = rate.getRepricedAt();
+    }
+}
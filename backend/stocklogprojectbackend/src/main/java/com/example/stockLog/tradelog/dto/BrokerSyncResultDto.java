@@ -0,0 +1,12 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BrokerSyncResultDto {
+    private long fetched;  //받아온 새 체결 수
+    private long inserted;
+    private long corrected; //이미 있던 체결 중 증권사가 정정해서 고친 것 (정정 커서로 받은 것 포함)
+}
@@ -0,0 +1,26 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerSyncState;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BrokerSyncStateDto {
+    private final Broker broker;
+    private final boolean enabled;
+    private final LocalDateTime watermarkAt; //마지막으로 받아온 체결 시각
+    private final LocalDateTime lastSyncedAt;
+    private final LocalDateTime nextSyncAt;
+    private final String lastError;
+
+    public BrokerSyncStateDto(BrokerSyncState state) {
+        this.broker = state.getBroker();
+        this.enabled = state.isEnabled();
+        this.watermarkAt = state.getWatermarkAt();
+        this.lastSyncedAt = state.getLastSyncedAt();
+        this.nextSyncAt = state.getNextSyncAt();
+        this.lastError = state.getLastError();
+    }
+}
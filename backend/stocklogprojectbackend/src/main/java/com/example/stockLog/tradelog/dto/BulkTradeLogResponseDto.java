@@ -0,0 +1,14 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkTradeLogResponseDto {
+    private int savedCount;
+    private int failedCount;
+    private List<BulkTradeLogResultDto> results;
+}
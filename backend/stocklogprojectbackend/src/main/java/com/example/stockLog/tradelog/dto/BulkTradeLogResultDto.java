@@ -0,0 +1,13 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkTradeLogResultDto {
+    //일괄 저장의 건별 결과. index 는 요청 목록에서의 순서, 성공하면 id, 실패하면 error 가 채워짐
+    private int index;
+    private Long id;
+    private String error;
+}
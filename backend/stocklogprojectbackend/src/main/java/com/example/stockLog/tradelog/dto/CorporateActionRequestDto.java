@@ -0,0 +1,14 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class CorporateActionRequestDto {
+    private String ticker;
+    private LocalDate effectiveDate; //분할 기준일. 이 날짜 이전 기록이 조정됨
+    private Double ratio; //1주당 새 주식 수 (2:1 분할 = 2.0)
+}
@@ -0,0 +1,31 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.CorporateAction;
+import com.example.stockLog.tradelog.entity.CorporateActionStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class CorporateActionResponseDto {
+    private Long id;
+    private String ticker;
+    private LocalDate effectiveDate;
+    private Double ratio;
+    private CorporateActionStatus status;
+    private Long adjustedRows;
+    private LocalDateTime appliedAt;
+
+    public CorporateActionResponseDto(CorporateAction action) {
+        this.id = action.getId();
+        this.ticker = action.getTicker();
+        this.effectiveDate = action.getEffectiveDate();
+        this.ratio = action.getRatio();
+        this.status = action.getStatus();
+        this.adjustedRows = action.getAdjustedRows();
+        this.appliedAt = action.getAppliedAt();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//커서 기반 목록 응답. hasNext 가 true 면 nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 됨
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
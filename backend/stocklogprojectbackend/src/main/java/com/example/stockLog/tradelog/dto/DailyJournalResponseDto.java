@@ -4,6 +4,7 @@ import com.example.stockLog.tradelog.entity.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 @Setter
@@ -33,7 +34,7 @@ public class DailyJournalResponseDto {
     private String reasonForBuy;
     private List<Tag> tag;
     // 엔티티를 DTO로 변환하는 생성자
-    public DailyJournalResponseDto(TradeLog tradeLog) {
+    public DailyJournalResponseDto(TradeLog tradeLog, TradeLogJournal journal) {
         this.tradeDate=tradeLog.getTradeDate();
         this.logId = tradeLog.getId();
         this.marketType = tradeLog.getMarketType();
@@ -50,8 +51,36 @@ public class DailyJournalResponseDto {
         this.executedQuantity = tradeLog.getExecutedQuantity();
         this.tradingCost = tradeLog.getTradingCost();
         this.totalCost = tradeLog.getTotalCost();
-        this.reasonForSale = tradeLog.getReasonForSale();
-        this.reasonForBuy = tradeLog.getReasonForBuy();
-        this.tag = tradeLog.getTags();
+        if (journal != null) { //긴 글이 하나도 없던 기록은 journal 행이 없음
+            this.reasonForSale = journal.getReasonForSale();
+            this.reasonForBuy = journal.getReasonForBuy();
+        }
+        this.tag = new ArrayList<>(tradeLog.getTags());
+    }
+    // JPQL 생성자 프로젝션용. 태그는 비트마스크 컬럼에서 바로 풀어냄
+    public DailyJournalResponseDto(Long logId, LocalDate tradeDate, MarketType marketType, String stockName,
+                                   String ticker, Broker broker, TradeType tradeType, Date buyDate, Date sellDate,
+                                   Integer holdingPeriod, Double realizedPL, Double rateOfReturn,
+                                   Double executionPrice, Double executedQuantity, Double tradingCost,
+                                   Double totalCost, String reasonForSale, String reasonForBuy, Integer tagBits) {
+        this.logId = logId;
+        this.tradeDate = tradeDate;
+        this.marketType = marketType;
+        this.stockName = stockName;
+        this.ticker = ticker;
+        this.broker = broker;
+        this.tradeType = tradeType;
+        this.buyDate = buyDate;
+        this.sellDate = sellDate;
+        this.holdingPeriod = holdingPeriod;
+        this.realizedPL = realizedPL;
+        this.rateOfReturn = rateOfReturn;
+        this.executionPrice = executionPrice;
+        this.executedQuantity = executedQuantity;
+        this.tradingCost = tradingCost;
+        this.totalCost = totalCost;
+        this.reasonForSale = reasonForSale;
+        this.reasonForBuy = reasonForBuy;
+        this.tag = new ArrayList<>(Tag.fromBits(tagBits));
     }
 }
@@ -4,6 +4,8 @@ import com.example.stockLog.tradelog.entity.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -20,6 +22,7 @@ public class DetailTradeLogResponseDto {//결산 및 통계 보기
     private Date buyDate;
     private Date sellDate;
     private Integer holdingPeriod;
+    private LocalDate tradeDate; //커서(trade_date, id) 페이지네이션에 필요
     private Double realizedPL; //실현손익
     private Double rateOfReturn; //수익률
     private Double executionPrice; //체결 단가. 1주당 얼마 이런거
@@ -33,8 +36,9 @@ public class DetailTradeLogResponseDto {//결산 및 통계 보기
     private String dividendStockName;
     private Integer dividendPerMonth; //월별 배당수익
     // 엔티티를 DTO로 변환하는 생성자
-    public DetailTradeLogResponseDto(TradeLog tradeLog) {
+    public DetailTradeLogResponseDto(TradeLog tradeLog, TradeLogJournal journal) {
         this.logId = tradeLog.getId(); 
+        this.tradeDate = tradeLog.getTradeDate();
         this.marketType = tradeLog.getMarketType();
         this.stockName = tradeLog.getStockName();
         this.ticker = tradeLog.getTicker();
@@ -49,8 +53,36 @@ public class DetailTradeLogResponseDto {//결산 및 통계 보기
         this.executedQuantity = tradeLog.getExecutedQuantity();
         this.tradingCost = tradeLog.getTradingCost();
         this.totalCost = tradeLog.getTotalCost();
-        this.reasonForSale = tradeLog.getReasonForSale();
-        this.reasonForBuy = tradeLog.getReasonForBuy();
-        this.tag=tradeLog.getTags();
+        if (journal != null) { //긴 글이 하나도 없던 기록은 journal 행이 없음
+            this.reasonForSale = journal.getReasonForSale();
+            this.reasonForBuy = journal.getReasonForBuy();
+        }
+        this.tag = new ArrayList<>(tradeLog.getTags());
+    }
+    // JPQL 생성자 프로젝션용. 태그는 비트마스크 컬럼에서 바로 풀어냄
+    public DetailTradeLogResponseDto(Long logId, LocalDate tradeDate, MarketType marketType, String stockName,
+                                     String ticker, Broker broker, TradeType tradeType, Date buyDate, Date sellDate,
+                                     Integer holdingPeriod, Double realizedPL, Double rateOfReturn,
+                                     Double executionPrice, Double executedQuantity, Double tradingCost,
+                                     Double totalCost, String reasonForSale, String reasonForBuy, Integer tagBits) {
+        this.logId = logId;
+        this.tradeDate = tradeDate;
+        this.marketType = marketType;
+        this.stockName = stockName;
+        this.ticker = ticker;
+        this.broker = broker;
+        this.tradeType = tradeType;
+        this.buyDate = buyDate;
+        this.sellDate = sellDate;
+        this.holdingPeriod = holdingPeriod;
+        this.realizedPL = realizedPL;
+        this.rateOfReturn = rateOfReturn;
+        this.executionPrice = executionPrice;
+        this.executedQuantity = executedQuantity;
+        this.tradingCost = tradingCost;
+        this.totalCost = totalCost;
+        this.reasonForSale = reasonForSale;
+        this.reasonForBuy = reasonForBuy;
+        this.tag = new ArrayList<>(Tag.fromBits(tagBits));
     }
 }
@@ -0,0 +1,18 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.MarketType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+//배당 소스에서 받아온 지급 한 건 (DividendScheduleSource)
+@Getter
+@AllArgsConstructor
+public class DividendPaymentDto {
+    private String ticker;
+    private String stockName;
+    private MarketType marketType;
+    private LocalDate paymentDate;
+    private double dividendPerShare;
+}
@@ -0,0 +1,17 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.Getter;
+
+//배당 예상용 보유 종목 한 줄 (유저 x 종목별 보유 수량 합계)
+@Getter
+public class DividendPositionDto {
+    private final Long userId;
+    private final String ticker;
+    private final double quantity;
+
+    public DividendPositionDto(Long userId, String ticker, Double quantity) {
+        this.userId = userId;
+        this.ticker = ticker;
+        this.quantity = quantity != null ? quantity : 0.0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.DividendProjection;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+//월별 예상 배당 수입. 국내 종목은 원, 해외 종목은 달러로 따로 합산
+@Getter
+public class DividendProjectionDto {
+    private final LocalDate month; //그 달 1일
+    private final double krw;
+    private final double usd;
+
+    public DividendProjectionDto(LocalDate month, double krw, double usd) {
+        this.month = month;
+        this.krw = krw;
+        this.usd = usd;
+    }
+
+    public DividendProjectionDto(DividendProjection projection) {
+        this(projection.getMonth(), projection.getKrw(), projection.getUsd());
+    }
+}
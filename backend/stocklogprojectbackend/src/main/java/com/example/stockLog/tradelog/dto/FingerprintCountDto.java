@@ -0,0 +1,11 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FingerprintCountDto {
+    private String fingerprint;
+    private Long count; //이미 저장된 같은 원본 행 수
+}
@@ -18,4 +18,11 @@ public class SimpleTradeLogResponseDto {//결산 및 통계 보기
         this.realizedPL = tradeLog.getRealizedPL();     // 엔티티 필드 사용
         this.rateOfReturn = tradeLog.getRateOfReturn(); // 엔티티 필드 사용
     }
+    // TradeLogRepository 의 JPQL 생성자 프로젝션용 (필요한 4개 컬럼만 조회)
+    public SimpleTradeLogResponseDto(Long logId, String stockName, Double realizedPL, Double rateOfReturn) {
+        this.logId = logId;
+        this.stockName = stockName;
+        this.realizedPL = realizedPL;
+        this.rateOfReturn = rateOfReturn;
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.Getter;
+
+//연간 세금 추정. 해외 금액은 달러, 나머지는 원
+@Getter
+public class TaxEstimateDto {
+    private final int year;
+    private final double foreignGain;
+    private final double foreignLoss;
+    private final double foreignNet; //이익 + 손실 (손익 통산)
+    private final int foreignSellCount;
+    private final double usdKrwRate; //원화 환산에 쓴 환율 (설정값, 실제 결제일 환율과 다를 수 있음)
+    private final double foreignNetKrw;
+    private final double basicDeduction;
+    private final double taxableKrw;
+    private final double estimatedForeignTax; //해외 양도소득세 + 지방소득세
+    private final double transactionTax; //올해 낸 국내 거래세
+
+    public TaxEstimateDto(int year, double foreignGain, double foreignLoss, int foreignSellCount,
+                          double usdKrwRate, double basicDeduction, double foreignTaxRate, double transactionTax) {
+        this.year = year;
+        this.foreignGain = foreignGain;
+        this.foreignLoss = foreignLoss;
+        this.foreignNet = foreignGain + foreignLoss;
+        this.foreignSellCount = foreignSellCount;
+        this.usdKrwRate = usdKrwRate;
+        this.foreignNetKrw = Math.floor(this.foreignNet * usdKrwRate);
+        this.basicDeduction = basicDeduction;
+        this.taxableKrw = Math.max(0, this.foreignNetKrw - basicDeduction);
+        this.estimatedForeignTax = Math.floor(this.taxableKrw * foreignTaxRate);
+        this.transactionTax = transactionTax;
+    }
+}
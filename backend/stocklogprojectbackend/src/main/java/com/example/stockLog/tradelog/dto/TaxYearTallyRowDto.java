@@ -0,0 +1,21 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.Getter;
+
+//trade_log 를 유저/연도로 묶은 세금 집계 한 줄. 세금 집계 재계산용
+@Getter
+public class TaxYearTallyRowDto {
+    private final int taxYear;
+    private final double foreignGain;
+    private final double foreignLoss;
+    private final int foreignSellCount;
+    private final double transactionTax;
+
+    public TaxYearTallyRowDto(Integer taxYear, Double foreignGain, Double foreignLoss, Long foreignSellCount, Double transactionTax) {
+        this.taxYear = taxYear;
+        this.foreignGain = foreignGain != null ? foreignGain : 0.0;
+        this.foreignLoss = foreignLoss != null ? foreignLoss : 0.0;
+        this.foreignSellCount = foreignSellCount != null ? foreignSellCount.intValue() : 0;
+        this.transactionTax = transactionTax != null ? transactionTax : 0.0;
+    }
+}
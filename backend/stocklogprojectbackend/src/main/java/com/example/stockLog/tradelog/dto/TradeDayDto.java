@@ -0,0 +1,15 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+//캘린더용 (날짜, 매매구분) 한 쌍. GROUP BY 결과라 한 달에 최대 62행
+@Getter
+@AllArgsConstructor
+public class TradeDayDto {
+    private LocalDate tradeDate;
+    private TradeType tradeType;
+}
@@ -0,0 +1,32 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.Tag;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+//조건에 맞는 내 매매일지를 한 번에 고치거나 지움
+//조건(기간, 티커, 증권사, 태그)은 값이 있는 것만 AND. 실수로 전체가 바뀌지 않도록 최소 하나는 있어야 함
+@Setter
+@Getter
+@NoArgsConstructor
+public class TradeLogBulkEditRequestDto {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String ticker;
+    private Broker broker;
+    private List<Tag> tags; //모든 태그를 가진 기록만
+
+    private List<Tag> addTags;    //태그 일괄 변경: 붙일 태그
+    private List<Tag> removeTags; //태그 일괄 변경: 뗄 태그
+    private Broker targetBroker;  //증권사 일괄 변경: 바꿀 증권사
+
+    public boolean hasFilter() {
+        return startDate != null || endDate != null || (ticker != null && !ticker.isBlank())
+                || broker != null || (tags != null && !tags.isEmpty());
+    }
+}
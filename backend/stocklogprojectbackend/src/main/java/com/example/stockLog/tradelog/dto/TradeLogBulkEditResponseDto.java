@@ -0,0 +1,10 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TradeLogBulkEditResponseDto {
+    private long affectedRows;
+}
@@ -0,0 +1,17 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+//컬럼 캐시 적재용 한 행. 캐시 집계에 쓰는 컬럼만 읽음 (TradeLogColumns 참고)
+@Getter
+@AllArgsConstructor
+public class TradeLogColumnRowDto {
+    private LocalDate tradeDate;
+    private Double realizedPL;
+    private Double rateOfReturn;
+    private TradeType tradeType;
+}
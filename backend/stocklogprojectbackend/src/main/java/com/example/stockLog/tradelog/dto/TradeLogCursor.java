@@ -0,0 +1,38 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+//키셋 페이지네이션 커서. 목록은 (trade_date DESC, id DESC) 순서라 마지막 행의 두 값만 있으면 다음 페이지를 이어서 읽음
+//문자열로는 "2026-01-04_123" 형태로 주고받음
+@Getter
+@AllArgsConstructor
+public class TradeLogCursor {
+    //첫 페이지용. 어떤 기록보다도 뒤에 있는 위치
+    public static final TradeLogCursor FIRST = new TradeLogCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    private final LocalDate tradeDate;
+    private final Long id;
+
+    public static TradeLogCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+        int split = cursor.lastIndexOf('_');
+        if (split < 0) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
+        }
+        try {
+            return new TradeLogCursor(LocalDate.parse(cursor.substring(0, split)),
+                    Long.parseLong(cursor.substring(split + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return tradeDate + "_" + id;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+//내보내기 한 행 (TradeLogExportService 참고)
+@Getter
+@AllArgsConstructor
+public class TradeLogExportRowDto {
+    private LocalDate tradeDate;
+    private String stockName;
+    private String ticker;
+    private TradeType tradeType;
+    private Double executionPrice;
+    private Double executedQuantity;
+    private Double purchasePrice;
+    private Double realizedPL;
+    private Double rateOfReturn;
+    private Broker broker;
+    private MarketType marketType;
+    private String reasonForBuy;
+    private String reasonForSale;
+}
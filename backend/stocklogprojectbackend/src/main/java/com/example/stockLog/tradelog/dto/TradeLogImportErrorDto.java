@@ -0,0 +1,16 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.TradeLogImportError;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TradeLogImportErrorDto {
+    private long lineNumber;
+    private String reason;
+
+    public TradeLogImportErrorDto(TradeLogImportError error) {
+        this(error.getLineNumber(), error.getReason());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.ImportJobStatus;
+import com.example.stockLog.tradelog.entity.TradeLogImportJob;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class TradeLogImportJobResponseDto {
+    private final Long jobId;
+    private final String fileName;
+    private final ImportJobStatus status;
+    private final long totalRows;
+    private final long savedRows;
+    private final long duplicateRows;
+    private final long skippedRows;
+    private final String errorMessage;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime finishedAt;
+    private final List<TradeLogImportErrorDto> errors; //건너뛴 행 중 앞쪽 일부
+
+    public TradeLogImportJobResponseDto(TradeLogImportJob job, List<TradeLogImportErrorDto> errors) {
+        this.jobId = job.getId();
+        this.fileName = job.getFileName();
+        this.status = job.getStatus();
+        this.totalRows = job.getTotalRows();
+        this.savedRows = job.getSavedRows();
+        this.duplicateRows = job.getDuplicateRows();
+        this.skippedRows = job.getSkippedRows();
+        this.errorMessage = job.getErrorMessage();
+        this.createdAt = job.getCreatedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.errors = errors;
+    }
+}
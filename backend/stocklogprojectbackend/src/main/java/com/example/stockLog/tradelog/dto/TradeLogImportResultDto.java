@@ -0,0 +1,13 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TradeLogImportResultDto {
+    private long totalRows;   //헤더를 뺀 데이터 행 수
+    private long savedRows;
+    private long duplicateRows; //이미 저장돼 있어서 건너뛴 행
+    private long skippedRows;   //필수 값이 없어서 건너뛴 행
+}
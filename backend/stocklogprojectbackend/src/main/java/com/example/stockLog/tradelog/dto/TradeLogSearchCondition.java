@@ -0,0 +1,37 @@
+package com.example.stockLog.tradelog.dto;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.Tag;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+//매매일지 검색 조건. 값이 있는 조건만 AND 로 묶임
+//예) ?ticker=AAPL&tradeType=SELL&tags=PanicSelling&minPL=0&startDate=2026-01-01&sort=REALIZED_PL
+@Setter
+@Getter
+@NoArgsConstructor
+public class TradeLogSearchCondition {
+    private String ticker;
+    private Broker broker;
+    private MarketType marketType;
+    private TradeType tradeType;
+    private List<Tag> tags; //enum 이름으로 전달. 모든 태그를 가진 기록만
+    private Double minPL;
+    private Double maxPL;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private TradeLogSortKey sort = TradeLogSortKey.TRADE_DATE;
+    private boolean ascending = false;
+    private String cursor;
+    private Integer size;
+}
@@ -0,0 +1,18 @@
+package com.example.stockLog.tradelog.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//검색 결과 정렬 기준. 키셋 커서는 "정렬값_id" 형태
+@Getter
+@RequiredArgsConstructor
+public enum TradeLogSortKey {
+    TRADE_DATE("tradeDate"),
+    REALIZED_PL("realizedPL"); //실현손익이 없는(매수) 기록은 이 정렬에서 빠짐
+
+    private final String field;
+
+    public Object cursorValueOf(DetailTradeLogResponseDto row) {
+        return this == TRADE_DATE ? row.getTradeDate() : row.getRealizedPL();
+    }
+}
@@ -28,6 +28,7 @@ public enum Broker {
     ETC("기타/직접입력", 0.0, 0.0);
 
     private final String name;      // 증권사 한글명
+    //수수료율 초기값. 실제 계산은 날짜별 요율표(broker_rate, BrokerRateBook)를 쓰고 여기 값은 요율표가 비었을 때만 씀
     private final double domesticRate;   // 기본 수수료율 (소수점)
     private final double foreignRate;
 
@@ -0,0 +1,65 @@
+package com.example.stockLog.tradelog.entity;
+
+import com.example.stockLog.community.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "broker_rate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_broker_rate_revision",
+                columnNames = {"broker", "market_type", "effective_from", "revision"}))
+public class BrokerRate extends BaseTimeEntity {
+    //증권사 x 시장별 수수료율 이력. effectiveFrom 부터 다음 effectiveFrom 전날까지 체결된 매매에 적용
+    //행은 고치지 않고 추가만 함. 같은 날짜의 요율을 바로잡을 때는 revision 을 올린 행을 새로 넣음 (큰 revision 이 이김)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Broker broker;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MarketType marketType;
+
+    @Column(nullable = false)
+    private Double rate; //소수점 (0.015% = 0.00015)
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(nullable = false)
+    private Integer revision;
+
+    //재계산도 청크마다 커밋하므로 중간에 멈추면 여기서부터 이어서 처리 (같은 값으로 다시 써도 결과는 같음)
+    @Builder.Default
+    private Long repriceCheckpoint = 0L;
+
+    @Builder.Default
+    private Long repricedRows = 0L;
+
+    private LocalDateTime repricedAt;
+
+    public void restartReprice() {
+        this.repriceCheckpoint = 0L;
+        this.repricedRows = 0L;
+        this.repricedAt = null;
+    }
+
+    public void advanceReprice(Long checkpoint, int rows) {
+        this.repriceCheckpoint = checkpoint;
+        this.repricedRows += rows;
+    }
+
+    public void markRepriced() {
+        this.repricedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.stockLog.tradelog.entity;
+
+import com.example.stockLog.community.entity.BaseTimeEntity;
+import com.example.stockLog.community.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "broker_sync_state",
+        uniqueConstraints = @UniqueConstraint(name = "uk_broker_sync_user_broker", columnNames = {"user_id", "broker"}),
+        indexes = @Index(name = "idx_broker_sync_due", columnList = "enabled, next_sync_at")) // 주기 동기화 대상 찾기
+public class BrokerSyncState extends BaseTimeEntity {
+    //유저 x 증권사별 체결 동기화 상태
+    //watermark 는 마지막으로 저장한 체결의 (체결 시각, 체결번호). 다음 동기화는 그 뒤 체결만 받아옴
+    //correctionWatermark 는 마지막으로 반영한 정정의 (정정 시각, 체결번호). 정정은 이쪽 커서로 따로 받아옴
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Broker broker;
+
+    private LocalDateTime watermarkAt;
+    @Column(length = 64)
+    private String watermarkId;
+
+    private LocalDateTime correctionWatermarkAt;
+    @Column(length = 64)
+    private String correctionWatermarkId;
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @Column(name = "next_sync_at")
+    private LocalDateTime nextSyncAt;
+    private LocalDateTime lastSyncedAt;
+    @Column(length = 500)
+    private String lastError;
+
+    public void enable(LocalDateTime now) {
+        this.enabled = true;
+        this.nextSyncAt = now;
+    }
+
+    public void disable() {
+        this.enabled = false;
+    }
+
+    public void advance(LocalDateTime executedAt, String executionId) {
+        this.watermarkAt = executedAt;
+        this.watermarkId = executionId;
+    }
+
+    public void advanceCorrections(LocalDateTime modifiedAt, String executionId) {
+        this.correctionWatermarkAt = modifiedAt;
+        this.correctionWatermarkId = executionId;
+    }
+
+    public void succeed(LocalDateTime now) {
+        this.lastSyncedAt = now;
+        this.lastError = null;
+    }
+
+    public void fail(String message) {
+        this.lastError = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    //(executedAt, executionId) 가 watermark 보다 뒤인지. 같은 시각에 여러 체결이 있어서 체결번호로 한 번 더 비교
+    public boolean isAfterWatermark(LocalDateTime executedAt, String executionId) {
+        return isAfter(executedAt, executionId, watermarkAt, watermarkId);
+    }
+
+    public boolean isAfterCorrectionWatermark(LocalDateTime modifiedAt, String executionId) {
+        return isAfter(modifiedAt, executionId, correctionWatermarkAt, correctionWatermarkId);
+    }
+
+    private static boolean isAfter(LocalDateTime at, String id, LocalDateTime markAt, String markId) {
+        if (markAt == null) return true;
+        int compared = at.compareTo(markAt);
+        return compared > 0 || (compared == 0 && id.compareTo(markId) > 0);
+    }
+}
@@ -1,9 +1,6 @@
 package com.example.stockLog.tradelog.entity;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,26 +13,32 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_calculate_ticker_payment_date", columnNames = {"ticker", "payment_date"}))
 public class Calculate {
-    //관련해서 만들것: 배당금 계산기
+    //배당금 계산기용 종목별 배당 일정. 지급 한 번이 한 행 (DividendScheduleSource 에서 받아와 저장)
+    //유저 보유 수량은 포트폴리오에서 가져오고, 계산은 DividendScheduleCache / CalculateService 에서 함
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String stockName;
-    private String ticker; //이 종목 코드는 API 연동 대비해서..
-    private double quantity; //가진 주수
+    @Column(nullable = false)
+    private String ticker;
+
+    @Enumerated(EnumType.STRING)
+    private MarketType marketType; //배당 통화 구분 (KOR=원, USA=달러)
 
     private double dividendPerShare; //1주당 배당금
 
     //지급일!!!
+    @Column(nullable = false)
     private LocalDate paymentDate; //배당 지급일
 
-
-    public void updateDividend(String stockName, double quantity) {
-        this.stockName = stockName;
-        this.quantity = quantity;
-        //지급될 배당금은 위에 2개 입력하면 알아서 계산되지 않나..?
+    //같은 지급일 배당이 다시 들어오면 금액만 고침 (배당 수정 공시 등)
+    public void updateDividend(String stockName, MarketType marketType, double dividendPerShare) {
+        if (stockName != null) this.stockName = stockName;
+        if (marketType != null) this.marketType = marketType;
+        this.dividendPerShare = dividendPerShare;
     }
 
 }
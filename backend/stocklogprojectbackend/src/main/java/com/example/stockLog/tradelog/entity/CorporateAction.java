@@ -0,0 +1,65 @@
+package com.example.stockLog.tradelog.entity;
+
+import com.example.stockLog.community.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "corporate_action",
+        indexes = @Index(name = "idx_corporate_action_ticker_date", columnList = "ticker, effective_date"))
+public class CorporateAction extends BaseTimeEntity {
+    //액면분할/병합 같은 기업 이벤트 등록부. 등록 후 apply 하면 과거 기록의 가격/수량을 재조정함
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String ticker;
+
+    @Column(name = "effective_date", nullable = false)
+    private LocalDate effectiveDate; //이 날짜 "이전" 기록만 조정 대상
+
+    @Column(nullable = false)
+    private Double ratio; //1주당 새 주식 수. 2:1 분할이면 2.0, 10:1 병합이면 0.1
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private CorporateActionStatus status = CorporateActionStatus.PENDING;
+
+    //청크 단위로 커밋하기 때문에 중간에 죽어도 여기서부터 이어서 처리 (같은 행을 두 번 조정하면 안 됨)
+    @Builder.Default
+    private Long tradeLogCheckpoint = 0L;
+    @Builder.Default
+    private Long portfolioCheckpoint = 0L;
+
+    @Builder.Default
+    private Long adjustedRows = 0L;
+
+    private LocalDateTime appliedAt;
+
+    public void markInProgress() {
+        this.status = CorporateActionStatus.IN_PROGRESS;
+    }
+
+    public void advanceTradeLog(Long checkpoint, int rows) {
+        this.tradeLogCheckpoint = checkpoint;
+        this.adjustedRows += rows;
+    }
+
+    public void advancePortfolio(Long checkpoint, int rows) {
+        this.portfolioCheckpoint = checkpoint;
+        this.adjustedRows += rows;
+    }
+
+    public void markApplied() {
+        this.status = CorporateActionStatus.APPLIED;
+        this.appliedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.stockLog.tradelog.entity;
+
+public enum CorporateActionStatus {
+    PENDING,     //등록만 됨
+    IN_PROGRESS, //조정 작업 중 (중간에 멈췄다면 다시 apply 하면 이어서 진행)
+    APPLIED      //조정 완료
+}
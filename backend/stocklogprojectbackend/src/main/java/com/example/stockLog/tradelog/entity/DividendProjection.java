@@ -0,0 +1,30 @@
+package com.example.stockLog.tradelog.entity;
+
+import com.example.stockLog.community.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "dividend_projection",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dividend_projection_user_month", columnNames = {"user_id", "month"}))
+public class DividendProjection {
+    //유저별 앞으로 12개월 예상 배당 수입. 야간 배치(CalculateService.projectAll)가 통째로 다시 씀
+    //배당이 하나도 없는 유저는 행을 만들지 않음
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private LocalDate month; //그 달 1일
+    private double krw;
+    private double usd;
+}
@@ -0,0 +1,8 @@
+package com.example.stockLog.tradelog.entity;
+
+public enum ImportJobStatus {
+    PENDING,   //대기열에 들어감
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -4,17 +4,25 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 @Getter
 public enum Tag {
-    ImpulsiveTrading("뇌동매매"),
-    StopLossViolation("손절 미준수"),
-    PanicBuying("추격 매수"),
-    PanicSelling("공포 매도"),
-    PositionSizingError("비중 조절 실패");
+    //bit 값은 DB(trade_log.tag_bits)에 그대로 저장됨. 한 번 정한 자리는 바꾸지 말고 새 태그는 다음 자리에 추가
+    ImpulsiveTrading("뇌동매매", 0),
+    StopLossViolation("손절 미준수", 1),
+    PanicBuying("추격 매수", 2),
+    PanicSelling("공포 매도", 3),
+    PositionSizingError("비중 조절 실패", 4);
 
     private final String description;
-    Tag(String description) {
+    private final int bit;
+    Tag(String description, int position) {
         this.description = description;
+        this.bit = 1 << position;
     }
 
     @JsonValue // 나갈 때 description 값을 사용. 한글 이름
@@ -31,4 +39,31 @@ public enum Tag {
         }
         return null; // 혹은 예외 처리
     }
+
+    // 태그 묶음 -> 비트마스크. from()이 null 을 줄 수 있어서 null 은 건너뜀
+    public static int toBits(Collection<Tag> tags) {
+        int bits = 0;
+        if (tags == null) return bits;
+        for (Tag tag : tags) {
+            if (tag != null) bits |= tag.bit;
+        }
+        return bits;
+    }
+
+    public static EnumSet<Tag> fromBits(Integer bits) {
+        EnumSet<Tag> tags = EnumSet.noneOf(Tag.class);
+        if (bits == null) return tags;
+        for (Tag tag : Tag.values()) {
+            if ((bits & tag.bit) != 0) tags.add(tag);
+        }
+        return tags;
+    }
+
+    public static EnumSet<Tag> toSet(Collection<Tag> tags) {
+        EnumSet<Tag> set = EnumSet.noneOf(Tag.class);
+        if (tags != null) {
+            tags.stream().filter(Objects::nonNull).forEach(set::add);
+        }
+        return set;
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.stockLog.tradelog.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Set;
+
+@Converter
+public class TagSetConverter implements AttributeConverter<Set<Tag>, Integer> {
+    //태그 목록을 별도 테이블 대신 정수 한 칸(비트마스크)에 저장. 태그 로딩용 추가 쿼리가 필요 없음
+    @Override
+    public Integer convertToDatabaseColumn(Set<Tag> tags) {
+        return Tag.toBits(tags);
+    }
+
+    @Override
+    public Set<Tag> convertToEntityAttribute(Integer bits) {
+        return Tag.fromBits(bits);
+    }
+}
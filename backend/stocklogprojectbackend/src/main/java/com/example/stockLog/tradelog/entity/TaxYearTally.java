@@ -0,0 +1,32 @@
+package com.example.stockLog.tradelog.entity;
+
+import com.example.stockLog.community.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "tax_year_tally",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tax_year_tally_user_year", columnNames = {"user_id", "tax_year"}))
+public class TaxYearTally {
+    //유저 x 연도별 세금 집계. 매매일지가 바뀔 때마다 TaxTallyService 가 차이만큼 더하고 뺌
+    //해외 손익은 매매 통화(달러) 그대로 쌓고, 원화 환산과 기본공제는 조회할 때 적용
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "tax_year")
+    private int taxYear;
+
+    private double foreignGain; //해외 매도 실현이익 합계 (0보다 큰 건만)
+    private double foreignLoss; //해외 매도 실현손실 합계 (음수)
+    private int foreignSellCount;
+    private double transactionTax; //국내 매도 거래세 합계 (원)
+}
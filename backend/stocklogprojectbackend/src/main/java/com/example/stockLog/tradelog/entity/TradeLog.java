@@ -3,10 +3,18 @@ package com.example.stockLog.tradelog.entity;
 import com.example.stockLog.community.entity.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
@@ -14,6 +22,25 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Builder
 @Getter
+@Table(name = "trade_log",
+        //증권사 체결 동기화는 체결번호로 한 번만 저장됨 (직접 입력/가져오기는 null 이라 제약에 걸리지 않음)
+        uniqueConstraints = @UniqueConstraint(name = "uk_trade_log_user_broker_execution",
+                columnNames = {"user_id", "broker", "execution_id"}),
+        indexes = {
+                @Index(name = "idx_trade_log_ticker_date", columnList = "ticker, trade_date"),
+                @Index(name = "idx_trade_log_user_tags", columnList = "user_id, tag_bits"),
+                @Index(name = "idx_trade_log_user_date", columnList = "user_id, trade_date, id"),
+                @Index(name = "idx_trade_log_user_stock_name", columnList = "user_id, stock_name"),
+                @Index(name = "idx_trade_log_user_date_type", columnList = "user_id, trade_date, trade_type"),
+                //조건 검색용. 선택도가 높은 조건(종목, 증권사)과 손익 정렬/범위만 따로 인덱스를 둠
+                //시장/매수매도는 값이 2개뿐이라 날짜 인덱스로 읽으면서 거름
+                @Index(name = "idx_trade_log_user_ticker_date", columnList = "user_id, ticker, trade_date"),
+                @Index(name = "idx_trade_log_user_broker_date", columnList = "user_id, broker, trade_date"),
+                @Index(name = "idx_trade_log_user_pl", columnList = "user_id, realizedpl"),
+                @Index(name = "idx_trade_log_user_fingerprint", columnList = "user_id, fingerprint"), // 가져오기 중복 확인
+                @Index(name = "idx_trade_log_broker_market", columnList = "broker, market_type, id"), // 수수료율 재계산 청크
+                @Index(name = "idx_trade_log_user_updated", columnList = "user_id, updated_at, id") // 모바일 동기화
+        })
 public class TradeLog extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,7 +66,6 @@ public class TradeLog extends BaseTimeEntity {
 
     private Date buyDate;
     private Date sellDate;
-    private String chartImageUrl;
     @Builder.Default
     private Integer holdingPeriod = 0; // null 방지 기본값
 
@@ -70,28 +96,26 @@ public class TradeLog extends BaseTimeEntity {
     @Column(nullable = true)
     private Double totalCost = 0.0;
 
-    @Column(columnDefinition = "TEXT")
-    private String reasonForSale;
-    @Column(columnDefinition = "TEXT")
-    private String reasonForBuy; //매수한 이유
-
+    //매수/매도 이유, AI 평가, 차트 이미지 같은 긴 글은 TradeLogJournal(trade_log_journal)에 따로 저장
 
     private LocalDate tradeDate;
 
     private Integer marketFearIndex;
 
-    @Column(columnDefinition = "TEXT")
-    private String aiPersonalEvaluation;
-
     @Enumerated(EnumType.STRING)
     private EvaluationStatus evaluationStatus;
 
-    @ElementCollection(targetClass = Tag.class)
-    @CollectionTable(name = "trade_log_tags", joinColumns = @JoinColumn(name = "trade_log_id"))
-    @Enumerated(EnumType.STRING)
-    @Column(name = "tag_name")
+    //예전 trade_log_tags 테이블 대신 비트마스크 한 칸에 저장 (TagSetConverter, TradeLogTagMigration 참고)
+    //Set 안을 직접 고치면 변경 감지가 안 되므로 항상 새 Set 으로 교체할 것
+    @Convert(converter = TagSetConverter.class)
+    @Column(name = "tag_bits", nullable = false)
+    @ColumnDefault("0")
     @Builder.Default
-    private List<Tag> tags = new ArrayList<>();
+    private Set<Tag> tags = EnumSet.noneOf(Tag.class);
+
+    //태그 검색 쿼리(bitand)와 프로젝션에서 쓰는 읽기 전용 매핑. 값은 위 tags 가 씀
+    @Column(name = "tag_bits", insertable = false, updatable = false)
+    private Integer tagBits;
 
     @Builder.Default
     @Column(name = "base_amount", nullable = true)
@@ -106,6 +130,17 @@ public class TradeLog extends BaseTimeEntity {
 
     private String dividendStockName;
     private Integer dividendPerMonth;
+
+    //원본 행 식별값 (유저, 날짜, 종목(티커가 있으면 티커, 없으면 종목명), 매매구분, 단가, 수량의 해시). 같은 파일이나 내보낸 파일을 다시 올려도 중복 저장하지 않기 위함
+    //종목명은 나중에 보정(StockNameEnricher)될 수 있어서 티커가 있으면 티커로 식별함
+    //저장 경로(직접 입력, 일괄 저장, 가져오기, 체결 동기화) 모두 저장할 때 채우고, 옛 행은 V12 에서 채움
+    //이후 수정/액면분할 조정에는 바꾸지 않음 -> 같은 원본 행이 다시 들어오면 항상 같은 값 (증권사 정정만 새 값으로 다시 계산)
+    @Column(length = 32)
+    private String fingerprint;
+
+    //증권사 체결번호. 체결 동기화(BrokerSyncService)로 들어온 행만 있음
+    @Column(name = "execution_id", length = 64)
+    private String executionId;
     public String getTagsAsString() {
         if (this.tags == null || this.tags.isEmpty()) {
             return "없음";
@@ -116,6 +151,43 @@ public class TradeLog extends BaseTimeEntity {
     }
 
     // --- 메서드 영역 ---
+    public void assignFingerprint() {
+        this.fingerprint = fingerprintOf(user.getId(), tradeDate, ticker, stockName, tradeType, executionPrice, executedQuantity);
+    }
+
+    //SHA-256 앞 16바이트(hex 32자). 1.50 과 1.5 가 같은 값이 되도록 숫자는 정규화해서 넣음
+    //티커는 대소문자를 가리지 않고, 종목명과 섞이지 않도록 앞에 "T:" 를 붙임
+    public static String fingerprintOf(Long userId, LocalDate tradeDate, String ticker, String stockName, TradeType tradeType,
+                                       Double executionPrice, Double executedQuantity) {
+        String stock = ticker != null && !ticker.isBlank() ? "T:" + ticker.trim().toUpperCase()
+                : stockName == null ? "" : stockName.trim();
+        String source = userId + "|" + tradeDate + "|" + stock + "|" + tradeType
+                + "|" + plain(executionPrice) + "|" + plain(executedQuantity);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String plain(Double value) {
+        return value == null ? "" : BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    //증권사가 체결 내역을 정정했을 때 (동기화). 금액이 바뀌면 수수료/총액도 다시 받음
+    public void correctExecution(TradeType tradeType, Double executionPrice, Double executedQuantity,
+                                 LocalDate tradeDate, Double fee, Double tax, Double totalCost) {
+        this.tradeType = tradeType;
+        this.executionPrice = executionPrice;
+        this.executedQuantity = executedQuantity;
+        this.tradeDate = tradeDate;
+        this.fee = fee;
+        this.tax = tax;
+        this.totalCost = totalCost;
+        assignFingerprint();
+    }
+
     public void initStatus() {
         this.evaluationStatus = EvaluationStatus.PENDING;
     }
@@ -124,16 +196,15 @@ public class TradeLog extends BaseTimeEntity {
         this.evaluationStatus = EvaluationStatus.IN_PROGRESS;
     }
 
-    public void competeAnalysis(String feedback) {
-        this.evaluationStatus = EvaluationStatus.COMPLETED;
-        this.aiPersonalEvaluation = feedback;
+    public void competeAnalysis() {
+        this.evaluationStatus = EvaluationStatus.COMPLETED; //평가 내용은 TradeLogJournal 에 저장
     }
 
     public void updateTradeLog(MarketType marketType, String stockName, String ticker, // ticker 추가
                                Broker broker, TradeType tradeType, Date buyDate, Date sellDate,
                                Integer holdingPeriod, Double realizedPL, Double rateOfReturn,
                                Double executionPrice, Double executedQuantity, Double tradingCost,
-                               Double totalCost, String reasonForSale, String reasonForBuy, List<Tag> tags, String chartImageUrl) {
+                               Double totalCost, List<Tag> tags) {
 
         // null 체크를 꼼꼼히 해서 값이 있을 때만 교체
         if (marketType != null) this.marketType = marketType;
@@ -150,14 +221,17 @@ public class TradeLog extends BaseTimeEntity {
         if (executedQuantity != null) this.executedQuantity = executedQuantity;
         if (tradingCost != null) this.tradingCost = tradingCost;
         if (totalCost != null) this.totalCost = totalCost;
-        if (reasonForSale != null) this.reasonForSale = reasonForSale;
-        if(reasonForBuy != null) this.reasonForBuy = reasonForBuy;
-        if (tags != null) this.tags = tags;
-        if(this.chartImageUrl !=null)this.chartImageUrl = this.chartImageUrl;
+        if (tags != null) this.tags = Tag.toSet(tags);
 
         this.initStatus(); // 수정 시 AI 분석 상태 초기화
     }
 
+    //수정 때 서버에서 다시 계산한 수수료/세금 (updateTradeLog 는 합계인 tradingCost 만 받음)
+    public void updateCharges(Double fee, Double tax) {
+        if (fee != null) this.fee = fee;
+        if (tax != null) this.tax = tax;
+    }
+
     public void setStockName(String correctName) {
         if (correctName != null && !correctName.isEmpty()) {
             this.stockName = correctName;
@@ -0,0 +1,27 @@
+package com.example.stockLog.tradelog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "trade_log_import_error",
+        indexes = @Index(name = "idx_import_error_job_line", columnList = "job_id, line_number"))
+public class TradeLogImportError {
+    //가져오기에서 건너뛴 행과 그 이유. 작업당 앞쪽 일부만 저장 (건너뛴 총 개수는 job.skippedRows)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber; //헤더를 1행으로 센 파일상의 행 번호
+
+    @Column(nullable = false)
+    private String reason;
+}
@@ -0,0 +1,72 @@
+package com.example.stockLog.tradelog.entity;
+
+import com.example.stockLog.community.entity.BaseTimeEntity;
+import com.example.stockLog.community.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "trade_log_import_job",
+        indexes = @Index(name = "idx_import_job_user_status", columnList = "user_id, status"))
+public class TradeLogImportJob extends BaseTimeEntity {
+    //CSV 가져오기 백그라운드 작업. 업로드하면 바로 id 를 돌려주고, 진행 상황은 청크마다 여기에 기록됨
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private ImportJobStatus status = ImportJobStatus.PENDING;
+
+    @Builder.Default
+    private Long totalRows = 0L;   //지금까지 읽은 데이터 행 수
+    @Builder.Default
+    private Long savedRows = 0L;
+    @Builder.Default
+    private Long duplicateRows = 0L; //이미 저장돼 있던 행
+    @Builder.Default
+    private Long skippedRows = 0L;   //형식이 잘못돼 건너뛴 행
+
+    @Column(length = 500)
+    private String errorMessage; //작업 자체가 실패했을 때의 사유 (행 단위 사유는 TradeLogImportError)
+
+    private LocalDateTime finishedAt;
+
+    public boolean isActive() {
+        return status == ImportJobStatus.PENDING || status == ImportJobStatus.RUNNING;
+    }
+
+    public void markRunning() {
+        this.status = ImportJobStatus.RUNNING;
+    }
+
+    public void progress(long totalRows, long savedRows, long duplicateRows) {
+        this.totalRows = totalRows;
+        this.savedRows = savedRows;
+        this.duplicateRows = duplicateRows;
+        this.skippedRows = totalRows - savedRows - duplicateRows;
+    }
+
+    public void complete() {
+        this.status = ImportJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = ImportJobStatus.FAILED;
+        this.errorMessage = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
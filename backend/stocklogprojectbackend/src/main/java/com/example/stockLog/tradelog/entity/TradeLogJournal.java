@@ -0,0 +1,50 @@
+package com.example.stockLog.tradelog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "trade_log_journal")
+public class TradeLogJournal {
+    //매매일지의 긴 글(매수/매도 이유, AI 평가, 차트 이미지)만 따로 모은 1:1 테이블
+    //trade_log 는 캘린더/결산/그래프가 범위로 훑는 테이블이라 숫자/날짜 위주로 가볍게 유지하고,
+    //이 테이블은 상세/일지 화면에서만 읽음
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trade_log_id")
+    private TradeLog tradeLog;
+
+    @Column(columnDefinition = "TEXT")
+    private String reasonForBuy; //매수한 이유
+    @Column(columnDefinition = "TEXT")
+    private String reasonForSale;
+    @Column(columnDefinition = "TEXT")
+    private String aiPersonalEvaluation;
+
+    private String chartImageUrl;
+
+    public static boolean hasContent(String reasonForBuy, String reasonForSale, String chartImageUrl) {
+        return notBlank(reasonForBuy) || notBlank(reasonForSale) || notBlank(chartImageUrl);
+    }
+
+    private static boolean notBlank(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    public void updateJournal(String reasonForSale, String reasonForBuy, String chartImageUrl) {
+        if (reasonForSale != null) this.reasonForSale = reasonForSale;
+        if (reasonForBuy != null) this.reasonForBuy = reasonForBuy;
+        if (chartImageUrl != null) this.chartImageUrl = chartImageUrl;
+    }
+
+    public void updateAiPersonalEvaluation(String feedback) {
+        this.aiPersonalEvaluation = feedback;
+    }
+}
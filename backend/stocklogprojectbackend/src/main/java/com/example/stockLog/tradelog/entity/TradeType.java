@@ -1,5 +1,25 @@
 package com.example.stockLog.tradelog.entity;
 
+import lombok.Getter;
+
+import java.util.EnumSet;
+
+@Getter
 public enum TradeType {
-    SELL, BUY
+    //bit 값은 캘린더 캐시(날짜별 매수/매도 표시)에서 사용
+    SELL(1),
+    BUY(0);
+
+    private final int bit;
+    TradeType(int position) {
+        this.bit = 1 << position;
+    }
+
+    public static EnumSet<TradeType> fromBits(int bits) {
+        EnumSet<TradeType> types = EnumSet.noneOf(TradeType.class);
+        for (TradeType type : TradeType.values()) {
+            if ((bits & type.bit) != 0) types.add(type);
+        }
+        return types;
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.stockLog.tradelog.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//종목 사전에 없는 티커로 일지가 저장됐을 때 발행. 커밋 후 외부 시세 시트에서 이름을 찾아 보정함
+@Getter
+@RequiredArgsConstructor
+public class StockNameLookupEvent {
+    private final String ticker;
+    private final String stockName;
+}
@@ -0,0 +1,38 @@
+package com.example.stockLog.tradelog.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+//매매일지가 생성/수정/삭제됐을 때 발행
+//before/after 는 바뀌기 전/후 모습. 집계 테이블은 그 차이만큼만 더하고 뺌
+//대량 UPDATE 처럼 건별 모습을 알 수 없는 경우엔 둘 다 null 이고, 받는 쪽에서 그 유저 것을 다시 계산함
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TradeLogChangedEvent {
+    private final Long userId;
+    private final List<TradeLogSnapshot> before;
+    private final List<TradeLogSnapshot> after;
+
+    public static TradeLogChangedEvent created(Long userId, List<TradeLogSnapshot> after) {
+        return new TradeLogChangedEvent(userId, List.of(), after);
+    }
+
+    public static TradeLogChangedEvent updated(Long userId, TradeLogSnapshot before, TradeLogSnapshot after) {
+        return new TradeLogChangedEvent(userId, List.of(before), List.of(after));
+    }
+
+    public static TradeLogChangedEvent deleted(Long userId, TradeLogSnapshot before) {
+        return new TradeLogChangedEvent(userId, List.of(before), List.of());
+    }
+
+    public static TradeLogChangedEvent bulk(Long userId) {
+        return new TradeLogChangedEvent(userId, null, null);
+    }
+
+    public boolean isBulk() {
+        return before == null || after == null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.stockLog.tradelog.event;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+//집계(월별 손익 등)에 필요한 값만 떼어낸 매매일지 한 건의 모습
+@Getter
+@AllArgsConstructor
+public class TradeLogSnapshot {
+    private final LocalDate tradeDate;
+    private final MarketType marketType;
+    private final Broker broker;
+    private final TradeType tradeType;
+    private final Double realizedPL;
+    private final Double tax; //국내 매도 거래세 (연간 세금 집계용)
+
+    public static TradeLogSnapshot of(TradeLog tradeLog) {
+        return new TradeLogSnapshot(tradeLog.getTradeDate(), tradeLog.getMarketType(), tradeLog.getBroker(),
+                tradeLog.getTradeType(), tradeLog.getRealizedPL(), tradeLog.getTax());
+    }
+}
@@ -3,9 +3,18 @@ package com.example.stockLog.tradelog.repository;
 import com.example.stockLog.tradelog.entity.AiAnalysis;
 import com.example.stockLog.tradelog.entity.TradeLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AiAnalysisRepository extends JpaRepository<AiAnalysis,Long> {
     Optional<AiAnalysis> findByTradeLog(TradeLog tradeLog);
+
+    //매매일지 일괄 삭제 전에 같은 id 청크로 먼저 지움
+    @Modifying
+    @Query("DELETE FROM AiAnalysis a WHERE a.tradeLog.id IN :tradeLogIds")
+    int deleteByTradeLogIds(@Param("tradeLogIds") List<Long> tradeLogIds);
 }
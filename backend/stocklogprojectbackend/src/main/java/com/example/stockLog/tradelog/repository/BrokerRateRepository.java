@@ -0,0 +1,27 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerRate;
+import com.example.stockLog.tradelog.entity.MarketType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BrokerRateRepository extends JpaRepository<BrokerRate, Long> {
+    //요율표 적재용. 증권사/시장별로 적용일, revision 순
+    List<BrokerRate> findAllByOrderByBrokerAscMarketTypeAscEffectiveFromAscRevisionAsc();
+
+    @Query("SELECT MAX(r.revision) FROM BrokerRate r " +
+            "WHERE r.broker = :broker AND r.marketType = :marketType AND r.effectiveFrom = :effectiveFrom")
+    Integer findMaxRevision(@Param("broker") Broker broker, @Param("marketType") MarketType marketType,
+                            @Param("effectiveFrom") LocalDate effectiveFrom);
+
+    //재계산 구간 [effectiveFrom, 다음 적용일) 의 끝
+    @Query("SELECT MIN(r.effectiveFrom) FROM BrokerRate r " +
+            "WHERE r.broker = :broker AND r.marketType = :marketType AND r.effectiveFrom > :effectiveFrom")
+    LocalDate findNextEffectiveFrom(@Param("broker") Broker broker, @Param("marketType") MarketType marketType,
+                                    @Param("effectiveFrom") LocalDate effectiveFrom);
+}
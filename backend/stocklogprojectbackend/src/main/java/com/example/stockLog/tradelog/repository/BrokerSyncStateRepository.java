@@ -0,0 +1,35 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerSyncState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BrokerSyncStateRepository extends JpaRepository<BrokerSyncState, Long> {
+    Optional<BrokerSyncState> findByUserIdAndBroker(Long userId, Broker broker);
+
+    List<BrokerSyncState> findByUserIdOrderByBroker(Long userId);
+
+    //한 페이지 저장 + watermark 갱신을 같은 유저/증권사에 대해 한 번에 하나만 하도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BrokerSyncState s WHERE s.id = :id")
+    Optional<BrokerSyncState> findForUpdate(@Param("id") Long id);
+
+    //주기 동기화 대상. id 키셋으로 나눠 읽음 (idx_broker_sync_due)
+    @Query("SELECT s.id FROM BrokerSyncState s WHERE s.enabled = true AND s.nextSyncAt <= :now AND s.id > :afterId ORDER BY s.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, @Param("afterId") Long afterId, Pageable pageable);
+
+    //다음 동기화 시각을 미리 밀어서 선점. 0 이면 다른 스케줄러(서버)가 이미 가져간 것
+    @Modifying
+    @Query("UPDATE BrokerSyncState s SET s.nextSyncAt = :next WHERE s.id = :id AND s.nextSyncAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("next") LocalDateTime next);
+}
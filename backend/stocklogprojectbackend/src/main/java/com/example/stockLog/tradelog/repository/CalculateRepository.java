@@ -2,7 +2,18 @@ package com.example.stockLog.tradelog.repository;
 
 import com.example.stockLog.tradelog.entity.Calculate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface CalculateRepository extends JpaRepository<Calculate, Long> {
-    //배당금 계산기 나중에 만듦..
+    //배당 일정 캐시 적재. 최근 1년 지급분 + 이미 공시된 앞으로의 지급분만 읽음
+    @Query("SELECT c FROM Calculate c WHERE c.paymentDate >= :from ORDER BY c.ticker, c.paymentDate")
+    List<Calculate> findSchedulesFrom(@Param("from") LocalDate from);
+
+    //일정 갱신 때 같은 (종목, 지급일) 행을 찾아서 고침 (uk_calculate_ticker_payment_date)
+    List<Calculate> findByTickerIn(Collection<String> tickers);
 }
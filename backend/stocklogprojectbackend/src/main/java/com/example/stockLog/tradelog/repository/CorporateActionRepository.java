@@ -0,0 +1,11 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.CorporateAction;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CorporateActionRepository extends JpaRepository<CorporateAction, Long> {
+    List<CorporateAction> findByTickerOrderByEffectiveDateAsc(String ticker);
+    List<CorporateAction> findAllByOrderByEffectiveDateDesc();
+}
@@ -0,0 +1,34 @@
+package com.example.stockLog.tradelog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class DividendProjectionBatchWriter {
+    //야간 배당 예상 배치용. 유저당 12행씩 많이 넣어서 JDBC 배치로 직접 넣음 (TradeLogBatchWriter 와 같은 이유)
+    private static final String INSERT_PROJECTION =
+            "INSERT INTO dividend_projection (user_id, month, krw, usd) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //projections: 유저 id -> [0]=원, [1]=달러 로 나눈 start 부터 달별 금액
+    public int insertAll(LocalDate start, Map<Long, double[][]> projections) {
+        List<Object[]> rows = new ArrayList<>();
+        projections.forEach((userId, amounts) -> {
+            for (int k = 0; k < amounts[0].length; k++) {
+                rows.add(new Object[]{userId, Date.valueOf(start.plusMonths(k)), amounts[0][k], amounts[1][k]});
+            }
+        });
+        if (rows.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate(INSERT_PROJECTION, rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.DividendProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DividendProjectionRepository extends JpaRepository<DividendProjection, Long> {
+    //유니크 키 앞부분(user_id, month)으로 읽음. 최대 12행
+    @Query("SELECT p FROM DividendProjection p WHERE p.user.id = :userId AND p.month >= :from ORDER BY p.month")
+    List<DividendProjection> findFrom(@Param("userId") Long userId, @Param("from") LocalDate from);
+
+    //야간 배치가 유저 id 구간 (fromId, toId] 단위로 지우고 다시 넣음
+    @Modifying
+    @Query("DELETE FROM DividendProjection p WHERE p.user.id > :fromId AND p.user.id <= :toId")
+    int deleteByUserIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -7,7 +7,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.Optional;
 
-public interface StockMasterRepository extends JpaRepository<StockMaster,String> {
+public interface StockMasterRepository extends JpaRepository<StockMaster,Long> {
     List<StockMaster> findByStockNameContaining(String keyword, Pageable pageable);
     // 만약 너무 많이 나올까 봐 걱정된다면 Top 10만 가져오는 버전
     List<StockMaster> findTop10ByStockNameContaining(String stockName);
@@ -0,0 +1,34 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.TaxYearTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TaxYearTallyRepository extends JpaRepository<TaxYearTally, Long> {
+    //유니크 키(user_id, tax_year) 한 행만 읽음
+    Optional<TaxYearTally> findByUserIdAndTaxYear(Long userId, int taxYear);
+
+    //행이 없으면 만들고 있으면 누적 (StrategyRepository.addMonthly 와 같은 방식)
+    @Modifying
+    @Query(value = "INSERT INTO tax_year_tally (user_id, tax_year, foreign_gain, foreign_loss, foreign_sell_count, transaction_tax) " +
+            "VALUES (:userId, :taxYear, :foreignGain, :foreignLoss, :foreignSellCount, :transactionTax) " +
+            "ON DUPLICATE KEY UPDATE foreign_gain = tax_year_tally.foreign_gain + :foreignGain, " +
+            "foreign_loss = tax_year_tally.foreign_loss + :foreignLoss, " +
+            "foreign_sell_count = tax_year_tally.foreign_sell_count + :foreignSellCount, " +
+            "transaction_tax = tax_year_tally.transaction_tax + :transactionTax",
+            nativeQuery = true)
+    int addYearly(@Param("userId") Long userId,
+                  @Param("taxYear") int taxYear,
+                  @Param("foreignGain") double foreignGain,
+                  @Param("foreignLoss") double foreignLoss,
+                  @Param("foreignSellCount") int foreignSellCount,
+                  @Param("transactionTax") double transactionTax);
+
+    @Modifying
+    @Query("DELETE FROM TaxYearTally t WHERE t.user.id = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+}
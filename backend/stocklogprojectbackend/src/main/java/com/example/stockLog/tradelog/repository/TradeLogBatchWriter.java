@@ -0,0 +1,100 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.Tag;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TradeLogBatchWriter {
+    //일괄 저장용. IDENTITY 키라 Hibernate 는 INSERT 를 배치로 묶지 못해서 JDBC 배치로 직접 넣음
+    //MySQL 은 rewriteBatchedStatements=true 로 한 번의 multi-row INSERT 가 되고, 생성된 id 도 순서대로 돌려받음
+    //영속성 컨텍스트를 거치지 않으므로 생성/수정 시각도 여기서 채움
+    private static final String INSERT_TRADE_LOG = "INSERT INTO trade_log (" +
+            "user_id, market_type, stock_name, ticker, broker, trade_type, buy_date, sell_date, holding_period, " +
+            "realizedpl, rate_of_return, execution_price, executed_quantity, purchase_price, trading_cost, total_cost, " +
+            "trade_date, evaluation_status, tag_bits, base_amount, fee, tax, dividend_stock_name, dividend_per_month, " +
+            "fingerprint, execution_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_JOURNAL = "INSERT INTO trade_log_journal " +
+            "(trade_log_id, reason_for_buy, reason_for_sale, chart_image_url) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertAll(List<TradeLog> logs) {
+        if (logs.isEmpty()) return List.of();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TRADE_LOG, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, logs.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return logs.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(logs.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != logs.size()) {
+            throw new IllegalStateException("생성된 id 개수가 저장한 행 수와 다릅니다: " + ids.size() + "/" + logs.size());
+        }
+        return ids;
+    }
+
+    //journals 의 각 원소는 {tradeLogId, reasonForBuy, reasonForSale, chartImageUrl}
+    public void insertJournals(List<Object[]> journals) {
+        if (journals.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_JOURNAL, journals);
+    }
+
+    private static void bind(PreparedStatement ps, TradeLog log, Timestamp now) throws SQLException {
+        int i = 1;
+        ps.setObject(i++, log.getUser().getId());
+        ps.setString(i++, log.getMarketType() == null ? null : log.getMarketType().name());
+        ps.setString(i++, log.getStockName());
+        ps.setString(i++, log.getTicker());
+        ps.setString(i++, log.getBroker() == null ? null : log.getBroker().name());
+        ps.setString(i++, log.getTradeType() == null ? null : log.getTradeType().name());
+        ps.setTimestamp(i++, log.getBuyDate() == null ? null : new Timestamp(log.getBuyDate().getTime()));
+        ps.setTimestamp(i++, log.getSellDate() == null ? null : new Timestamp(log.getSellDate().getTime()));
+        ps.setObject(i++, log.getHoldingPeriod(), Types.INTEGER);
+        ps.setObject(i++, log.getRealizedPL(), Types.DOUBLE);
+        ps.setObject(i++, log.getRateOfReturn(), Types.DOUBLE);
+        ps.setObject(i++, log.getExecutionPrice(), Types.DOUBLE);
+        ps.setObject(i++, log.getExecutedQuantity(), Types.DOUBLE);
+        ps.setObject(i++, log.getPurchasePrice(), Types.DOUBLE);
+        ps.setObject(i++, log.getTradingCost(), Types.DOUBLE);
+        ps.setObject(i++, log.getTotalCost(), Types.DOUBLE);
+        ps.setObject(i++, log.getTradeDate() == null ? null : Date.valueOf(log.getTradeDate()), Types.DATE);
+        ps.setString(i++, log.getEvaluationStatus() == null ? null : log.getEvaluationStatus().name());
+        ps.setInt(i++, Tag.toBits(log.getTags()));
+        ps.setObject(i++, log.getBaseAmount(), Types.DOUBLE);
+        ps.setObject(i++, log.getFee(), Types.DOUBLE);
+        ps.setObject(i++, log.getTax(), Types.DOUBLE);
+        ps.setString(i++, log.getDividendStockName());
+        ps.setObject(i++, log.getDividendPerMonth(), Types.INTEGER);
+        ps.setString(i++, log.getFingerprint());
+        ps.setString(i++, log.getExecutionId());
+        ps.setTimestamp(i++, now);
+        ps.setTimestamp(i, now);
+    }
+}
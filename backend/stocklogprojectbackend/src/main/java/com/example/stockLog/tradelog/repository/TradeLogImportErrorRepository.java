@@ -0,0 +1,11 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.TradeLogImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TradeLogImportErrorRepository extends JpaRepository<TradeLogImportError, Long> {
+    List<TradeLogImportError> findByJobIdOrderByLineNumber(Long jobId, Pageable pageable);
+}
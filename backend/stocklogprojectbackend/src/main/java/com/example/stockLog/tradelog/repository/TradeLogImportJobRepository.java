@@ -0,0 +1,27 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.ImportJobStatus;
+import com.example.stockLog.tradelog.entity.TradeLogImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface TradeLogImportJobRepository extends JpaRepository<TradeLogImportJob, Long> {
+    Optional<TradeLogImportJob> findByIdAndUserId(Long id, Long userId);
+
+    //유저당 동시에 도는 작업 수 제한용
+    long countByUserIdAndStatusIn(Long userId, Collection<ImportJobStatus> statuses);
+
+    //서버가 재시작되면 돌던 작업은 이어갈 수 없으므로(업로드 임시 파일이 없음) 실패로 정리
+    @Modifying
+    @Query("UPDATE TradeLogImportJob j SET j.status = com.example.stockLog.tradelog.entity.ImportJobStatus.FAILED, " +
+            "j.errorMessage = :message, j.finishedAt = :now " +
+            "WHERE j.status IN (com.example.stockLog.tradelog.entity.ImportJobStatus.PENDING, " +
+            "com.example.stockLog.tradelog.entity.ImportJobStatus.RUNNING)")
+    int failActiveJobs(@Param("message") String message, @Param("now") LocalDateTime now);
+}
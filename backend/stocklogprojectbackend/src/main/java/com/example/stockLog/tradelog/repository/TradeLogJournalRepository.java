@@ -0,0 +1,18 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.TradeLogJournal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TradeLogJournalRepository extends JpaRepository<TradeLogJournal, Long> {
+    //id 는 trade_log 의 id 와 같음 (@MapsId)
+
+    //매매일지 일괄 삭제 전에 같은 id 청크로 먼저 지움
+    @Modifying
+    @Query("DELETE FROM TradeLogJournal j WHERE j.id IN :tradeLogIds")
+    int deleteByTradeLogIds(@Param("tradeLogIds") List<Long> tradeLogIds);
+}
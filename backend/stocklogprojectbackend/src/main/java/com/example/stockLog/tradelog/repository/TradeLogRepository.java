@@ -1,27 +1,56 @@
 package com.example.stockLog.tradelog.repository;
 
+import com.example.stockLog.graph.dto.MonthlyRollupDto;
+import com.example.stockLog.graph.dto.PnlCubeCellDto;
 import com.example.stockLog.graph.dto.StrategyResponseDto;
+import com.example.stockLog.sync.dto.SyncTradeLogDto;
+import com.example.stockLog.tradelog.dto.DailyJournalResponseDto;
+import com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto;
+import com.example.stockLog.tradelog.dto.FingerprintCountDto;
+import com.example.stockLog.tradelog.dto.SimpleTradeLogResponseDto;
+import com.example.stockLog.tradelog.dto.TaxYearTallyRowDto;
+import com.example.stockLog.tradelog.dto.TradeDayDto;
+import com.example.stockLog.tradelog.dto.TradeLogColumnRowDto;
+import com.example.stockLog.tradelog.dto.TradeLogExportRowDto;
+import com.example.stockLog.tradelog.dto.TradeSummaryDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
 import com.example.stockLog.tradelog.entity.TradeLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface TradeLogRepository extends JpaRepository<TradeLog, Long> {
+public interface TradeLogRepository extends JpaRepository<TradeLog, Long>, TradeLogSearchRepository {
     List<TradeLog> findAllByUserId(Long userId);
     // 특정 사용자의 특정 기간(시작일~종료일) 사이의 모든 매매기록 가져오기
     List<TradeLog> findByUserIdAndTradeDateBetween(Long userId, LocalDate start, LocalDate end);
     // 특정 사용자의 특정 날짜 매매 기록 가져오기 (하단 종목 리스트용)
     List<TradeLog> findByUserIdAndTradeDate(Long userId, LocalDate tradeDate);
     List<TradeLog> findByUserIdAndStockName(Long userId, String stockName);
-    @Query("SELECT SUM(t.realizedPL) FROM TradeLog t " +
-            "WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end")
-    Double getTotalRealizedPL(@Param("userId") Long userId,
-                              @Param("start") LocalDate start,
-                              @Param("end") LocalDate end);
+    //캘린더 점 찍기용. (user_id, trade_date, trade_type) 인덱스만 읽고 끝남
+    @Query("SELECT new com.example.stockLog.tradelog.dto.TradeDayDto(t.tradeDate, t.tradeType) FROM TradeLog t " +
+            "WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end " +
+            "GROUP BY t.tradeDate, t.tradeType")
+    List<TradeDayDto> findTradeDays(@Param("userId") Long userId,
+                                    @Param("start") LocalDate start,
+                                    @Param("end") LocalDate end);
+    //합계, 건수, 평균 수익률을 한 번에 집계 (AVG 는 null 수익률을 알아서 빼고 계산)
+    @Query("SELECT new com.example.stockLog.tradelog.dto.TradeSummaryDto(SUM(t.realizedPL), COUNT(t), AVG(t.rateOfReturn)) " +
+            "FROM TradeLog t WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end")
+    TradeSummaryDto getSummary(@Param("userId") Long userId,
+                               @Param("start") LocalDate start,
+                               @Param("end") LocalDate end);
     @Query("SELECT new com.example.stockLog.graph.dto.StrategyResponseDto(EXTRACT(MONTH FROM t.tradeDate), COALESCE(SUM(t.realizedPL), 0.0)) " +
             "FROM TradeLog t " +
             "WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end " +
@@ -29,8 +58,272 @@ public interface TradeLogRepository extends JpaRepository<TradeLog, Long> {
     List<StrategyResponseDto> findMonthlyRealizedPL(@Param("userId") Long userId,
                                                     @Param("start") LocalDate start,
                                                     @Param("end") LocalDate end);
+    //월간 집계(strategy) 재계산용. 한 유저의 기록을 연/월로 묶어서 손익 합계, 매도 건수, 수익 건수를 구함
+    @Query("SELECT new com.example.stockLog.graph.dto.MonthlyRollupDto(EXTRACT(YEAR FROM t.tradeDate), EXTRACT(MONTH FROM t.tradeDate), " +
+            "SUM(t.realizedPL), " +
+            "SUM(CASE WHEN t.tradeType = com.example.stockLog.tradelog.entity.TradeType.SELL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.realizedPL > 0 THEN 1 ELSE 0 END)) " +
+            "FROM TradeLog t WHERE t.user.id = :userId AND t.tradeDate IS NOT NULL " +
+            "GROUP BY EXTRACT(YEAR FROM t.tradeDate), EXTRACT(MONTH FROM t.tradeDate)")
+    List<MonthlyRollupDto> findMonthlyRollups(@Param("userId") Long userId);
+    //연간 세금 집계(tax_year_tally) 재계산용. TaxTallyService.add 와 같은 기준
+    @Query("SELECT new com.example.stockLog.tradelog.dto.TaxYearTallyRowDto(EXTRACT(YEAR FROM t.tradeDate), " +
+            "SUM(CASE WHEN t.marketType = com.example.stockLog.tradelog.entity.MarketType.USA " +
+            "AND t.tradeType = com.example.stockLog.tradelog.entity.TradeType.SELL AND t.realizedPL > 0 THEN t.realizedPL ELSE 0 END), " +
+            "SUM(CASE WHEN t.marketType = com.example.stockLog.tradelog.entity.MarketType.USA " +
+            "AND t.tradeType = com.example.stockLog.tradelog.entity.TradeType.SELL AND t.realizedPL < 0 THEN t.realizedPL ELSE 0 END), " +
+            "SUM(CASE WHEN t.marketType = com.example.stockLog.tradelog.entity.MarketType.USA " +
+            "AND t.tradeType = com.example.stockLog.tradelog.entity.TradeType.SELL THEN 1 ELSE 0 END), " +
+            "SUM(COALESCE(t.tax, 0))) " +
+            "FROM TradeLog t WHERE t.user.id = :userId AND t.tradeDate IS NOT NULL " +
+            "GROUP BY EXTRACT(YEAR FROM t.tradeDate)")
+    List<TaxYearTallyRowDto> findTaxYearTallies(@Param("userId") Long userId);
+    //손익 큐브(pnl_cube) 재계산용. 연/월/시장/증권사/매수매도 칸 단위로 묶음
+    @Query("SELECT new com.example.stockLog.graph.dto.PnlCubeCellDto(EXTRACT(YEAR FROM t.tradeDate), EXTRACT(MONTH FROM t.tradeDate), " +
+            "t.marketType, t.broker, t.tradeType, SUM(t.realizedPL), COUNT(t), " +
+            "SUM(CASE WHEN t.realizedPL > 0 THEN 1 ELSE 0 END)) " +
+            "FROM TradeLog t WHERE t.user.id = :userId AND t.tradeDate IS NOT NULL " +
+            "GROUP BY EXTRACT(YEAR FROM t.tradeDate), EXTRACT(MONTH FROM t.tradeDate), t.marketType, t.broker, t.tradeType")
+    List<PnlCubeCellDto> findCubeCells(@Param("userId") Long userId);
+    @Query("SELECT DISTINCT t.user.id FROM TradeLog t")
+    List<Long> findAllUserIds();
     void deleteByUserId(Long userId);
     List<TradeLog> findByUserIdOrderByTradeDateDesc(Long userId);
 
+    //--- 목록 화면용 DTO 프로젝션. 엔티티를 통째로 읽지 않고 필요한 컬럼만 조회 ---
+    //매매 이유(긴 글)가 필요한 detail/journal 만 trade_log_journal 을 LEFT JOIN 함
+    //결산 simple 화면: 매도 기록의 4개 컬럼만. 매도 필터도 SQL에서 처리
+    @Query("SELECT new com.example.stockLog.tradelog.dto.SimpleTradeLogResponseDto(" +
+            "t.id, t.stockName, t.realizedPL, t.rateOfReturn) " +
+            "FROM TradeLog t " +
+            "WHERE t.user.id = :userId AND t.tradeType = com.example.stockLog.tradelog.entity.TradeType.SELL " +
+            "AND t.tradeDate BETWEEN :start AND :end")
+    List<SimpleTradeLogResponseDto> findSimpleSellLogs(@Param("userId") Long userId,
+                                                       @Param("start") LocalDate start,
+                                                       @Param("end") LocalDate end);
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end")
+    List<DetailTradeLogResponseDto> findDetailLogs(@Param("userId") Long userId,
+                                                   @Param("start") LocalDate start,
+                                                   @Param("end") LocalDate end);
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DailyJournalResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId ORDER BY t.tradeDate DESC")
+    List<DailyJournalResponseDto> findJournalLogs(@Param("userId") Long userId);
+    //태그 필터: mask 의 태그를 모두 가진 기록. 조인 없이 tag_bits 한 칸에 대한 비트 연산 조건 하나로 처리
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId AND bitand(t.tagBits, cast(:mask as Integer)) = :mask " +
+            "AND t.tradeDate BETWEEN :start AND :end " +
+            "ORDER BY t.tradeDate DESC")
+    List<DetailTradeLogResponseDto> findDetailLogsWithTags(@Param("userId") Long userId,
+                                                           @Param("mask") int mask,
+                                                           @Param("start") LocalDate start,
+                                                           @Param("end") LocalDate end);
+
+    //--- 긴 목록용 키셋 페이지네이션. (trade_date, id) 기준으로 커서 뒤쪽만 읽어서 OFFSET 없이 이어감 ---
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end " +
+            "AND (t.tradeDate < :cursorDate OR (t.tradeDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.tradeDate DESC, t.id DESC")
+    List<DetailTradeLogResponseDto> findDetailLogsAfter(@Param("userId") Long userId,
+                                                        @Param("start") LocalDate start,
+                                                        @Param("end") LocalDate end,
+                                                        @Param("cursorDate") LocalDate cursorDate,
+                                                        @Param("cursorId") Long cursorId,
+                                                        Pageable pageable);
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DailyJournalResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId " +
+            "AND (t.tradeDate < :cursorDate OR (t.tradeDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.tradeDate DESC, t.id DESC")
+    List<DailyJournalResponseDto> findJournalLogsAfter(@Param("userId") Long userId,
+                                                       @Param("cursorDate") LocalDate cursorDate,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    //--- NDJSON 스트리밍용. 결과를 한꺼번에 올리지 않고 fetch size 만큼씩 커서로 받아옴 (트랜잭션 안에서 닫아야 함) ---
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId AND t.tradeDate BETWEEN :start AND :end " +
+            "ORDER BY t.tradeDate DESC, t.id DESC")
+    Stream<DetailTradeLogResponseDto> streamDetailLogs(@Param("userId") Long userId,
+                                                       @Param("start") LocalDate start,
+                                                       @Param("end") LocalDate end);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.stockLog.tradelog.dto.DailyJournalResponseDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId ORDER BY t.tradeDate DESC, t.id DESC")
+    Stream<DailyJournalResponseDto> streamJournalLogs(@Param("userId") Long userId);
+    //내보내기용. 전체를 날짜 순으로
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.stockLog.tradelog.dto.TradeLogExportRowDto(" +
+            "t.tradeDate, t.stockName, t.ticker, t.tradeType, t.executionPrice, t.executedQuantity, t.purchasePrice, " +
+            "t.realizedPL, t.rateOfReturn, t.broker, t.marketType, j.reasonForBuy, j.reasonForSale) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId ORDER BY t.tradeDate, t.id")
+    Stream<TradeLogExportRowDto> streamExportRows(@Param("userId") Long userId);
+
+    //액면분할 조정용. (ticker, trade_date) 인덱스를 타서 다음 청크 시작 id를 찾음
+    @Query("SELECT MIN(t.id) FROM TradeLog t " +
+            "WHERE t.ticker = :ticker AND t.tradeDate < :effectiveDate AND t.id > :afterId")
+    Long findNextIdForTicker(@Param("ticker") String ticker,
+                             @Param("effectiveDate") LocalDate effectiveDate,
+                             @Param("afterId") Long afterId);
+    //조정이 끝난 뒤 집계를 다시 계산할 유저들
+    @Query("SELECT DISTINCT t.user.id FROM TradeLog t WHERE t.ticker = :ticker AND t.tradeDate < :effectiveDate")
+    List<Long> findUserIdsForTicker(@Param("ticker") String ticker,
+                                    @Param("effectiveDate") LocalDate effectiveDate);
+    //id 구간 단위로 잘라서 갱신 -> 테이블 전체가 아니라 해당 구간 행만 잠김
+    //분할은 가격을 ratio 로 나누고 수량을 ratio 배 하므로 금액(가격x수량)과 실현손익((매도가-매입가)x수량)은 그대로 -> 가격/수량만 고침
+    @Modifying
+    @Query("UPDATE TradeLog t SET " +
+            "t.executionPrice = t.executionPrice / :ratio, " +
+            "t.purchasePrice = t.purchasePrice / :ratio, " +
+            "t.executedQuantity = t.executedQuantity * :ratio, " +
+            "t.updatedAt = :now " +
+            "WHERE t.ticker = :ticker AND t.tradeDate < :effectiveDate AND t.id BETWEEN :fromId AND :toId")
+    int applySplit(@Param("ticker") String ticker,
+                   @Param("effectiveDate") LocalDate effectiveDate,
+                   @Param("ratio") double ratio,
+                   @Param("fromId") Long fromId,
+                   @Param("toId") Long toId,
+                   @Param("now") LocalDateTime now);
+    //커밋 후 비동기 종목명 보정. 같은 티커에 같은 잘못된 이름으로 저장된 일지를 한 번에 고침 (idx_trade_log_ticker_date)
+    @Modifying
+    @Query("UPDATE TradeLog t SET t.stockName = :stockName, t.updatedAt = :now " +
+            "WHERE t.ticker = :ticker AND t.stockName = :wrongName")
+    int updateStockNameByTicker(@Param("ticker") String ticker, @Param("wrongName") String wrongName,
+                                @Param("stockName") String stockName, @Param("now") LocalDateTime now);
+    //일지 본문(trade_log_journal)만 바뀐 수정도 동기화에 잡히도록 updated_at 만 갱신
+    @Modifying
+    @Query("UPDATE TradeLog t SET t.updatedAt = :now WHERE t.id = :id")
+    int touchUpdatedAt(@Param("id") Long id, @Param("now") LocalDateTime now);
+    //모바일 동기화(SyncService). (updated_at, id) 키셋으로 until 직전까지 바뀐 기록 (idx_trade_log_user_updated)
+    @Query("SELECT new com.example.stockLog.sync.dto.SyncTradeLogDto(" +
+            "t.id, t.tradeDate, t.marketType, t.stockName, t.ticker, t.broker, t.tradeType, t.buyDate, t.sellDate, " +
+            "t.holdingPeriod, t.realizedPL, t.rateOfReturn, t.executionPrice, t.executedQuantity, " +
+            "t.tradingCost, t.totalCost, j.reasonForSale, j.reasonForBuy, t.tagBits, t.updatedAt) " +
+            "FROM TradeLog t LEFT JOIN TradeLogJournal j ON j.id = t.id " +
+            "WHERE t.user.id = :userId AND t.updatedAt < :until " +
+            "AND (t.updatedAt > :afterAt OR (t.updatedAt = :afterAt AND t.id > :afterId)) " +
+            "ORDER BY t.updatedAt, t.id")
+    List<SyncTradeLogDto> findChangedAfter(@Param("userId") Long userId,
+                                           @Param("afterAt") LocalDateTime afterAt,
+                                           @Param("afterId") Long afterId,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable pageable);
+    //일괄 수정/삭제. 조건으로 고른 id 청크 단위로 실행하고, 다른 유저 행은 user_id 로 한 번 더 막음
+    //벌크 연산은 엔티티 리스너를 거치지 않으므로 updated_at 도 직접 갱신
+    //(bits | add) & keep 과 같은 값. add 와 remove 가 겹치지 않으므로 bitand 만으로 풀어 씀 (H2/MySQL 공통)
+    @Modifying
+    @Query("UPDATE TradeLog t SET " +
+            "t.tagBits = bitand(t.tagBits, cast(:keepBits as Integer)) + :addBits - bitand(t.tagBits, cast(:addBits as Integer)), " +
+            "t.updatedAt = :now " +
+            "WHERE t.user.id = :userId AND t.id IN :ids")
+    int retagByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids,
+                   @Param("addBits") int addBits, @Param("keepBits") int keepBits,
+                   @Param("now") LocalDateTime now);
+    //증권사만 바꿈. 수수료는 새 증권사 요율 구간별로 repriceByIds 로 이어서 다시 계산
+    @Modifying
+    @Query("UPDATE TradeLog t SET t.broker = :broker, t.updatedAt = :now " +
+            "WHERE t.user.id = :userId AND t.id IN :ids")
+    int changeBrokerByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids,
+                          @Param("broker") Broker broker,
+                          @Param("now") LocalDateTime now);
+    //수수료율 재계산. 쓰기 경로(calculateFee -> calculateTotalCost -> roundAmount)와 같은 순서로
+    //수수료를 먼저 반올림하고, 금액 +- 반올림한 수수료 +- 세금을 다시 반올림함
+    //tradingCost 는 클라이언트가 입력/수정하는 값이라 여기서 건드리지 않음
+    //(UPDATE 안에서 바뀐 fee 를 다시 읽는 순서는 DB 마다 달라서 식을 그대로 반복함)
+    String REPRICE_BASE = "COALESCE(t.executionPrice, 0) * COALESCE(t.executedQuantity, 0)";
+    String REPRICE_FEE = "ROUND(" + REPRICE_BASE + " * :rate, 2)";
+    String REPRICE_SET = "t.fee = " + REPRICE_FEE + ", " +
+            "t.totalCost = ROUND(CASE WHEN t.tradeType = com.example.stockLog.tradelog.entity.TradeType.BUY " +
+            "THEN " + REPRICE_BASE + " + " + REPRICE_FEE + " + COALESCE(t.tax, 0) " +
+            "ELSE " + REPRICE_BASE + " - " + REPRICE_FEE + " - COALESCE(t.tax, 0) END, 2), " +
+            "t.updatedAt = :now ";
+    //요율 구간 [from, to). 마지막 구간이면 날짜 없는 행도 포함 (BrokerRateBook.RatePeriod)
+    String IN_RATE_PERIOD = "(t.tradeDate >= :from AND t.tradeDate < :to OR (:latest = true AND t.tradeDate IS NULL))";
+    //증권사에서 받은 체결(executionId)은 수수료가 실제 값일 수 있어서 건드리지 않음 (repriceRange 와 같음)
+    @Modifying
+    @Query("UPDATE TradeLog t SET " + REPRICE_SET +
+            "WHERE t.user.id = :userId AND t.id IN :ids AND t.marketType = :marketType " +
+            "AND t.executionId IS NULL AND " + IN_RATE_PERIOD)
+    int repriceByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids,
+                     @Param("marketType") MarketType marketType,
+                     @Param("from") LocalDate from, @Param("to") LocalDate to, @Param("latest") boolean latest,
+                     @Param("rate") double rate,
+                     @Param("now") LocalDateTime now);
+    //시장이 비어 있는 행은 요율을 알 수 없어서 calculateFee(BrokerRateBook.rateOf)처럼 요율 0 으로 계산
+    @Modifying
+    @Query("UPDATE TradeLog t SET " + REPRICE_SET +
+            "WHERE t.user.id = :userId AND t.id IN :ids AND t.marketType IS NULL AND t.executionId IS NULL")
+    int repriceWithoutMarketByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids,
+                                  @Param("rate") double rate,
+                                  @Param("now") LocalDateTime now);
+    //요율 변경 재계산은 증권사 x 시장 단위로 나눠서 id 키셋으로 청크를 자름 (idx_trade_log_broker_market, 인덱스만 읽음)
+    @Query("SELECT t.id FROM TradeLog t WHERE t.broker = :broker AND t.marketType = :marketType AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsForBrokerMarket(@Param("broker") Broker broker, @Param("marketType") MarketType marketType,
+                                      @Param("afterId") Long afterId, Pageable pageable);
+    //증권사에서 받은 체결(executionId)은 수수료가 실제 값일 수 있어서 건드리지 않음
+    @Modifying
+    @Query("UPDATE TradeLog t SET " + REPRICE_SET +
+            "WHERE t.broker = :broker AND t.marketType = :marketType AND t.id BETWEEN :fromId AND :toId " +
+            "AND t.executionId IS NULL AND " + IN_RATE_PERIOD)
+    int repriceRange(@Param("broker") Broker broker, @Param("marketType") MarketType marketType,
+                     @Param("from") LocalDate from, @Param("to") LocalDate to, @Param("latest") boolean latest,
+                     @Param("rate") double rate,
+                     @Param("fromId") Long fromId, @Param("toId") Long toId,
+                     @Param("now") LocalDateTime now);
+    //재계산이 끝난 뒤 집계를 다시 계산할 유저들
+    @Query("SELECT DISTINCT t.user.id FROM TradeLog t " +
+            "WHERE t.broker = :broker AND t.marketType = :marketType AND t.executionId IS NULL AND " + IN_RATE_PERIOD)
+    List<Long> findUserIdsForRatePeriod(@Param("broker") Broker broker, @Param("marketType") MarketType marketType,
+                                        @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("latest") boolean latest);
+    @Modifying
+    @Query("DELETE FROM TradeLog t WHERE t.user.id = :userId AND t.id IN :ids")
+    int deleteByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids);
+    //컬럼 캐시 적재. 날짜 순으로 읽어야 캐시 쪽에서 이진 탐색으로 기간을 자를 수 있음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.stockLog.tradelog.dto.TradeLogColumnRowDto(t.tradeDate, " +
+            "t.realizedPL, t.rateOfReturn, t.tradeType) " +
+            "FROM TradeLog t WHERE t.user.id = :userId AND t.tradeDate IS NOT NULL " +
+            "ORDER BY t.tradeDate, t.id")
+    Stream<TradeLogColumnRowDto> streamColumnRows(@Param("userId") Long userId);
+    //체결 동기화 upsert 용. 이미 저장된 체결번호 (uk_trade_log_user_broker_execution)
+    @Query("SELECT t FROM TradeLog t WHERE t.user.id = :userId AND t.broker = :broker AND t.executionId IN :executionIds")
+    List<TradeLog> findByExecutionIds(@Param("userId") Long userId, @Param("broker") Broker broker,
+                                      @Param("executionIds") Collection<String> executionIds);
+    //가져오기 중복 확인. 같은 원본 행이 이미 몇 개 저장돼 있는지 청크 단위로 한 번에 셈 (idx_trade_log_user_fingerprint)
+    @Query("SELECT new com.example.stockLog.tradelog.dto.FingerprintCountDto(t.fingerprint, COUNT(t)) " +
+            "FROM TradeLog t WHERE t.user.id = :userId AND t.fingerprint IN :fingerprints " +
+            "GROUP BY t.fingerprint")
+    List<FingerprintCountDto> countByFingerprints(@Param("userId") Long userId,
+                                                  @Param("fingerprints") Collection<String> fingerprints);
 
 }
@@ -0,0 +1,17 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto;
+import com.example.stockLog.tradelog.dto.TradeLogSortKey;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+//Specification 조건으로 DTO 프로젝션 + 키셋 정렬을 하는 조회. TradeLogRepository 에 붙어서 같이 주입됨
+public interface TradeLogSearchRepository {
+    List<DetailTradeLogResponseDto> search(Specification<TradeLog> spec, TradeLogSortKey sortKey,
+                                           boolean ascending, int limit);
+
+    //조건에 맞는 id 를 오름차순으로 limit 개. 일괄 수정/삭제의 청크 단위
+    List<Long> findIds(Specification<TradeLog> spec, int limit);
+}
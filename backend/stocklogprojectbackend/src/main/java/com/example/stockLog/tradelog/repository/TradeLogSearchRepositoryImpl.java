@@ -0,0 +1,56 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.dto.DetailTradeLogResponseDto;
+import com.example.stockLog.tradelog.dto.TradeLogSortKey;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class TradeLogSearchRepositoryImpl implements TradeLogSearchRepository {
+    @PersistenceContext
+    private EntityManager em;
+
+    //목록용이라 매매 이유(긴 글)는 읽지 않음 -> trade_log_journal 조인 없이 trade_log 인덱스만으로 처리
+    @Override
+    public List<DetailTradeLogResponseDto> search(Specification<TradeLog> spec, TradeLogSortKey sortKey,
+                                                  boolean ascending, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<DetailTradeLogResponseDto> query = cb.createQuery(DetailTradeLogResponseDto.class);
+        Root<TradeLog> t = query.from(TradeLog.class);
+        query.select(cb.construct(DetailTradeLogResponseDto.class,
+                t.get("id"), t.get("tradeDate"), t.get("marketType"), t.get("stockName"), t.get("ticker"),
+                t.get("broker"), t.get("tradeType"), t.get("buyDate"), t.get("sellDate"), t.get("holdingPeriod"),
+                t.get("realizedPL"), t.get("rateOfReturn"), t.get("executionPrice"), t.get("executedQuantity"),
+                t.get("tradingCost"), t.get("totalCost"), cb.nullLiteral(String.class), cb.nullLiteral(String.class),
+                t.get("tagBits")));
+
+        Predicate where = spec.toPredicate(t, query, cb);
+        if (where != null) query.where(where);
+        query.orderBy(
+                ascending ? cb.asc(t.get(sortKey.getField())) : cb.desc(t.get(sortKey.getField())),
+                ascending ? cb.asc(t.get("id")) : cb.desc(t.get("id")));
+
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<TradeLog> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TradeLog> t = query.from(TradeLog.class);
+        query.select(t.get("id"));
+
+        Predicate where = spec.toPredicate(t, query, cb);
+        if (where != null) query.where(where);
+        query.orderBy(cb.asc(t.get("id")));
+
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.stockLog.tradelog.repository;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+//매매일지 검색 조건 조각들. 값이 null 이면 조건 없음(null 반환)이라 원하는 것만 골라서 allOf 로 묶으면 됨
+public final class TradeLogSpecifications {
+    private TradeLogSpecifications() {
+    }
+
+    public static Specification<TradeLog> ownedBy(Long userId) {
+        return (t, query, cb) -> cb.equal(t.get("user").get("id"), userId);
+    }
+
+    public static Specification<TradeLog> tickerEquals(String ticker) {
+        if (ticker == null || ticker.isBlank()) return null;
+        return (t, query, cb) -> cb.equal(t.get("ticker"), ticker.trim());
+    }
+
+    public static Specification<TradeLog> brokerEquals(Broker broker) {
+        if (broker == null) return null;
+        return (t, query, cb) -> cb.equal(t.get("broker"), broker);
+    }
+
+    public static Specification<TradeLog> marketTypeEquals(MarketType marketType) {
+        if (marketType == null) return null;
+        return (t, query, cb) -> cb.equal(t.get("marketType"), marketType);
+    }
+
+    public static Specification<TradeLog> tradeTypeEquals(TradeType tradeType) {
+        if (tradeType == null) return null;
+        return (t, query, cb) -> cb.equal(t.get("tradeType"), tradeType);
+    }
+
+    //mask 의 태그를 모두 가진 기록. tag_bits 한 칸에 대한 비트 연산 (findDetailLogsWithTags 와 같은 조건)
+    public static Specification<TradeLog> hasAllTags(int mask) {
+        if (mask == 0) return null;
+        return (t, query, cb) -> cb.equal(
+                cb.function("bitand", Integer.class, t.get("tagBits"), cb.literal(mask)), mask);
+    }
+
+    public static Specification<TradeLog> realizedPLBetween(Double min, Double max) {
+        if (min == null && max == null) return null;
+        return (t, query, cb) -> {
+            if (min == null) return cb.le(t.get("realizedPL"), max);
+            if (max == null) return cb.ge(t.get("realizedPL"), min);
+            return cb.between(t.get("realizedPL"), min, max);
+        };
+    }
+
+    public static Specification<TradeLog> tradeDateBetween(LocalDate start, LocalDate end) {
+        if (start == null && end == null) return null;
+        return (t, query, cb) -> {
+            if (start == null) return cb.lessThanOrEqualTo(t.get("tradeDate"), end);
+            if (end == null) return cb.greaterThanOrEqualTo(t.get("tradeDate"), start);
+            return cb.between(t.get("tradeDate"), start, end);
+        };
+    }
+
+    public static Specification<TradeLog> isNotNull(String field) {
+        return (t, query, cb) -> cb.isNotNull(t.get(field));
+    }
+
+    //일괄 수정/삭제를 id 순으로 잘라 처리할 때 쓰는 커서
+    public static Specification<TradeLog> idGreaterThan(Long id) {
+        return (t, query, cb) -> cb.greaterThan(t.get("id"), id);
+    }
+
+    //키셋 커서: 정렬 순서상 (value, id) 다음에 오는 행만
+    public static <Y extends Comparable<? super Y>> Specification<TradeLog> after(String field, Y value, Long id,
+                                                                                  boolean ascending) {
+        return (t, query, cb) -> ascending
+                ? cb.or(cb.greaterThan(t.get(field), value),
+                        cb.and(cb.equal(t.get(field), value), cb.greaterThan(t.get("id"), id)))
+                : cb.or(cb.lessThan(t.get(field), value),
+                        cb.and(cb.equal(t.get(field), value), cb.lessThan(t.get("id"), id)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.BrokerExecutionDto;
+import com.example.stockLog.tradelog.entity.Broker;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+//증권사 체결 내역 조회. 증권사 API 마다 하나씩 구현해서 빈으로 등록하면 BrokerSyncService 가 씀
+public interface BrokerExecutionSource {
+    boolean supports(Broker broker);
+
+    //(afterAt, afterId) 보다 뒤의 체결을 (체결 시각, 체결번호) 순서로 최대 limit 개. afterAt 이 null 이면 처음부터
+    List<BrokerExecutionDto> fetchExecutions(Long userId, Broker broker, LocalDateTime afterAt, String afterId, int limit);
+
+    //정정된 체결을 (정정 시각, 체결번호) 가 (afterAt, afterId) 보다 뒤인 것만 그 순서로 최대 limit 개. afterAt 이 null 이면 처음부터
+    //정정은 체결 시각을 그대로 두는 경우가 많아서 fetchExecutions 의 watermark 로는 다시 받을 수 없음
+    List<BrokerExecutionDto> fetchCorrections(Long userId, Broker broker, LocalDateTime afterAt, String afterId, int limit);
+}
@@ -0,0 +1,138 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerRate;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.repository.BrokerRateRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrokerRateBook {
+    //수수료율 메모리 요율표. 매매 저장 때는 DB 를 보지 않고 여기서만 찾음
+    //(증권사, 시장) 을 배열 칸 하나로 두고, 칸마다 적용일 오름차순 배열을 들고 있음
+    //최근 날짜(대부분의 저장)는 마지막 칸을 바로 읽고, 과거 날짜만 이진 탐색
+    //DB 의 날짜 컬럼 범위에 맞춘 경계값. 첫 적용일 이전 날짜는 Broker 의 초기값을 씀
+    public static final LocalDate FIRST_DAY = LocalDate.of(1000, 1, 1);
+    public static final LocalDate LAST_DAY = LocalDate.of(9999, 12, 31);
+    private static final int MARKETS = MarketType.values().length;
+
+    private final BrokerRateRepository brokerRateRepository;
+
+    private volatile Schedule[] schedules = new Schedule[Broker.values().length * MARKETS];
+
+    //다른 서버에서 추가한 요율도 따라가도록 주기적으로 다시 읽음 (행 수가 적어서 전체를 읽어도 가벼움)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${broker-rate.reload-interval-ms:60000}",
+            initialDelayString = "${broker-rate.reload-interval-ms:60000}")
+    public void reload() {
+        Schedule[] loaded = new Schedule[schedules.length];
+        List<BrokerRate> rates = brokerRateRepository.findAllByOrderByBrokerAscMarketTypeAscEffectiveFromAscRevisionAsc();
+        int from = 0;
+        while (from < rates.size()) {
+            BrokerRate first = rates.get(from);
+            int to = from;
+            while (to < rates.size() && rates.get(to).getBroker() == first.getBroker()
+                    && rates.get(to).getMarketType() == first.getMarketType()) {
+                to++;
+            }
+            loaded[slot(first.getBroker(), first.getMarketType())] = Schedule.of(
+                    rates.subList(from, to), defaultRate(first.getBroker(), first.getMarketType()));
+            from = to;
+        }
+        schedules = loaded;
+        log.info("수수료율 요율표 로드: {}건", rates.size());
+    }
+
+    //증권사/시장을 모르면 기타(직접 입력)와 같이 0, 요율표가 비어 있으면 Broker 의 초기값
+    public double rateOf(Broker broker, MarketType marketType, LocalDate tradeDate) {
+        if (broker == null || marketType == null) return 0.0;
+        Schedule schedule = schedules[slot(broker, marketType)];
+        if (schedule == null) return defaultRate(broker, marketType);
+        return schedule.rateOn(tradeDate);
+    }
+
+    //적용 구간 목록. 일괄 증권사 변경처럼 여러 날짜의 행을 한 번에 다시 계산할 때 구간마다 UPDATE 한 번씩 돌림
+    public List<RatePeriod> periodsOf(Broker broker, MarketType marketType) {
+        Schedule schedule = schedules[slot(broker, marketType)];
+        if (schedule == null) {
+            return List.of(new RatePeriod(FIRST_DAY, LAST_DAY, true, defaultRate(broker, marketType)));
+        }
+        List<RatePeriod> periods = new ArrayList<>(schedule.froms.length + 1);
+        if (schedule.froms[0].isAfter(FIRST_DAY)) {
+            periods.add(new RatePeriod(FIRST_DAY, schedule.froms[0], false, schedule.before));
+        }
+        for (int i = 0; i < schedule.froms.length; i++) {
+            boolean last = i == schedule.froms.length - 1;
+            periods.add(new RatePeriod(schedule.froms[i], last ? LAST_DAY : schedule.froms[i + 1], last, schedule.rates[i]));
+        }
+        return periods;
+    }
+
+    private static double defaultRate(Broker broker, MarketType marketType) {
+        return marketType == MarketType.KOR ? broker.getDomesticRate() : broker.getForeignRate();
+    }
+
+    private static int slot(Broker broker, MarketType marketType) {
+        return broker.ordinal() * MARKETS + marketType.ordinal();
+    }
+
+    //[from, to) 구간에 rate 적용. 마지막 구간은 날짜 없는 행도 포함 (저장 때 최신 요율을 쓰므로)
+    @Getter
+    @RequiredArgsConstructor
+    public static class RatePeriod {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final boolean latest;
+        private final double rate;
+    }
+
+    private static class Schedule {
+        private final LocalDate[] froms;
+        private final double[] rates;
+        private final double before; //첫 적용일 이전
+
+        private Schedule(LocalDate[] froms, double[] rates, double before) {
+            this.froms = froms;
+            this.rates = rates;
+            this.before = before;
+        }
+
+        //같은 적용일이 여러 revision 이면 뒤(큰 revision)가 덮어씀
+        private static Schedule of(List<BrokerRate> sorted, double before) {
+            List<LocalDate> froms = new ArrayList<>();
+            List<Double> rates = new ArrayList<>();
+            for (BrokerRate rate : sorted) {
+                int last = froms.size() - 1;
+                if (last >= 0 && froms.get(last).equals(rate.getEffectiveFrom())) {
+                    rates.set(last, rate.getRate());
+                } else {
+                    froms.add(rate.getEffectiveFrom());
+                    rates.add(rate.getRate());
+                }
+            }
+            return new Schedule(froms.toArray(new LocalDate[0]), rates.stream().mapToDouble(Double::doubleValue).toArray(),
+                    before);
+        }
+
+        private double rateOn(LocalDate date) {
+            int last = froms.length - 1;
+            if (date == null || !date.isBefore(froms[last])) return rates[last];
+            int index = Arrays.binarySearch(froms, date);
+            if (index < 0) index = -index - 2;
+            return index < 0 ? before : rates[index];
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.BrokerRateRequestDto;
+import com.example.stockLog.tradelog.dto.BrokerRateResponseDto;
+import com.example.stockLog.tradelog.entity.BrokerRate;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.repository.BrokerRateRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BrokerRateService {
+    //수수료율 변경 등록 + 기존 기록 재계산
+    //재계산은 증권사 x 시장 하나만 대상으로, 그 안에서 id 키셋 청크마다 UPDATE 한 번 (행 단위로 읽어서 고치지 않음)
+    //청크마다 따로 커밋해야 해서 클래스 전체에 @Transactional 을 걸지 않음 (CorporateActionService 와 같은 방식)
+    private static final int CHUNK_SIZE = 5000;
+
+    private final BrokerRateRepository brokerRateRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final BrokerRateBook brokerRateBook;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //등록 즉시 요율표를 다시 읽어서 새로 저장되는 매매부터 바로 적용. 기존 기록은 reprice 로 따로 반영
+    public Long register(BrokerRateRequestDto dto) {
+        if (dto.getBroker() == null || dto.getMarketType() == null) {
+            throw new IllegalArgumentException("증권사와 시장은 필수입니다.");
+        }
+        if (dto.getEffectiveFrom() == null) {
+            throw new IllegalArgumentException("적용일은 필수입니다.");
+        }
+        if (dto.getRate() == null || dto.getRate() < 0 || dto.getRate() >= 0.1) {
+            throw new IllegalArgumentException("수수료율은 0 이상 0.1 미만의 소수로 입력해주세요. (0.015% = 0.00015)");
+        }
+        Long id = transactionTemplate.execute(status -> {
+            Integer revision = brokerRateRepository.findMaxRevision(
+                    dto.getBroker(), dto.getMarketType(), dto.getEffectiveFrom());
+            BrokerRate rate = BrokerRate.builder()
+                    .broker(dto.getBroker())
+                    .marketType(dto.getMarketType())
+                    .rate(dto.getRate())
+                    .effectiveFrom(dto.getEffectiveFrom())
+                    .revision(revision == null ? 1 : revision + 1)
+                    .build();
+            return brokerRateRepository.save(rate).getId();
+        });
+        brokerRateBook.reload();
+        return id;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BrokerRateResponseDto> getRates() {
+        return brokerRateRepository.findAllByOrderByBrokerAscMarketTypeAscEffectiveFromAscRevisionAsc()
+                .stream()
+                .map(BrokerRateResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
+    @Async("adjustmentExecutor")
+    public void repriceAsync(Long rateId) {
+        try {
+            reprice(rateId);
+        } catch (Exception e) {
+            log.error("수수료 재계산 실패 (id={}): {}", rateId, e.getMessage(), e);
+        }
+    }
+
+    //같은 값으로 다시 써도 결과가 같으므로, 끝난 요율을 다시 돌리면 처음부터, 멈춘 요율은 체크포인트부터 이어서 처리
+    public BrokerRateResponseDto reprice(Long rateId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BrokerRate rate = findRate(rateId);
+            Integer latest = brokerRateRepository.findMaxRevision(
+                    rate.getBroker(), rate.getMarketType(), rate.getEffectiveFrom());
+            if (latest != null && latest > rate.getRevision()) {
+                throw new IllegalStateException("같은 적용일에 더 최신 요율이 있습니다. 최신 요율로 재계산해주세요. ID: " + rateId);
+            }
+            if (rate.getRepricedAt() != null) rate.restartReprice();
+        });
+        //다른 서버에서 등록된 요율이면 아직 안 읽었을 수 있으므로, 재계산 전에 저장 쪽 요율표부터 맞춤
+        brokerRateBook.reload();
+
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> repriceChunk(rateId)))) {
+            // 청크 단위 반복
+        }
+
+        //수수료/총비용이 바뀌었으므로 해당 유저들의 집계/캐시를 유저 단위로 다시 맞춤
+        BrokerRate repriced = findRate(rateId);
+        Period period = periodOf(repriced);
+        for (Long userId : tradeLogRepository.findUserIdsForRatePeriod(repriced.getBroker(), repriced.getMarketType(),
+                period.from, period.to, period.latest)) {
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(TradeLogChangedEvent.bulk(userId)));
+        }
+
+        return transactionTemplate.execute(status -> {
+            BrokerRate rate = findRate(rateId);
+            rate.markRepriced();
+            log.info("수수료 재계산 완료: {} {} {} ({} 부터), {}행", rate.getBroker(), rate.getMarketType(),
+                    rate.getRate(), rate.getEffectiveFrom(), rate.getRepricedRows());
+            return new BrokerRateResponseDto(rate);
+        });
+    }
+
+    //updated_at 은 청크 트랜잭션마다 새로 찍음. 재계산 시작 시각으로 찍으면 뒤 청크가 모바일 동기화의 commit-lag 보다 늦게 커밋될 수 있음
+    private boolean repriceChunk(Long rateId) {
+        BrokerRate rate = findRate(rateId);
+        List<Long> ids = tradeLogRepository.findIdsForBrokerMarket(rate.getBroker(), rate.getMarketType(),
+                rate.getRepriceCheckpoint(), PageRequest.of(0, CHUNK_SIZE));
+        if (ids.isEmpty()) return false;
+
+        Period period = periodOf(rate);
+        Long toId = ids.get(ids.size() - 1);
+        int rows = tradeLogRepository.repriceRange(rate.getBroker(), rate.getMarketType(),
+                period.from, period.to, period.latest, rate.getRate(), ids.get(0), toId, LocalDateTime.now());
+        rate.advanceReprice(toId, rows);
+        return true;
+    }
+
+    //이 요율이 적용되는 구간 [적용일, 다음 적용일). 마지막 요율은 날짜 없는 행까지 포함 (BrokerRateBook.rateOf 와 같은 규칙)
+    private Period periodOf(BrokerRate rate) {
+        LocalDate next = brokerRateRepository.findNextEffectiveFrom(
+                rate.getBroker(), rate.getMarketType(), rate.getEffectiveFrom());
+        return new Period(rate.getEffectiveFrom(), next == null ? BrokerRateBook.LAST_DAY : next, next == null);
+    }
+
+    private BrokerRate findRate(Long rateId) {
+        return brokerRateRepository.findById(rateId)
+                .orElseThrow(() -> new IllegalArgumentException("수수료율을 찾을 수 없습니다. ID: " + rateId));
+    }
+
+    private static class Period {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final boolean latest;
+
+        private Period(LocalDate from, LocalDate to, boolean latest) {
+            this.from = from;
+            this.to = to;
+            this.latest = latest;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.tradelog.dto.BrokerExecutionDto;
+import com.example.stockLog.tradelog.dto.BrokerSyncResultDto;
+import com.example.stockLog.tradelog.dto.BrokerSyncStateDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerSyncState;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.BrokerSyncStateRepository;
+import com.example.stockLog.tradelog.repository.TradeLogBatchWriter;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class BrokerSyncService {
+    //증권사 체결 내역을 유저 x 증권사별 watermark 이후 것만 받아와서 TradeLog 에 넣음 -> 한 번 동기화 비용은 새 체결 수에 비례
+    //페이지마다 저장 + watermark 갱신을 한 트랜잭션으로 커밋하므로 중간에 실패해도 다음 동기화가 그 뒤부터 이어받음
+    //체결번호로 upsert 해서 같은 체결을 다시 받아도 한 번만 저장됨
+    //증권사 정정은 체결 시각이 그대로라 watermark 로는 다시 못 받으므로, (정정 시각, 체결번호) 커서로 따로 받아서 반영함
+    //페이지마다 커밋해야 해서 클래스 전체에 @Transactional 을 걸지 않음
+    private static final int PAGE_SIZE = 500;
+    private static final int DUE_BATCH = 200;
+
+    private final BrokerSyncStateRepository brokerSyncStateRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final UserRepository userRepository;
+    private final TradeLogBatchWriter tradeLogBatchWriter;
+    private final StockMasterDictionary stockMasterDictionary;
+    private final BrokerRateBook brokerRateBook;
+    private final List<BrokerExecutionSource> sources;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor syncExecutor;
+    private final Duration interval;
+
+    public BrokerSyncService(BrokerSyncStateRepository brokerSyncStateRepository,
+                             TradeLogRepository tradeLogRepository,
+                             UserRepository userRepository,
+                             TradeLogBatchWriter tradeLogBatchWriter,
+                             StockMasterDictionary stockMasterDictionary,
+                             BrokerRateBook brokerRateBook,
+                             List<BrokerExecutionSource> sources,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             @Qualifier("brokerSyncExecutor") ThreadPoolTaskExecutor syncExecutor,
+                             @Value("${broker-sync.interval-ms:300000}") long intervalMs) {
+        this.brokerSyncStateRepository = brokerSyncStateRepository;
+        this.tradeLogRepository = tradeLogRepository;
+        this.userRepository = userRepository;
+        this.tradeLogBatchWriter = tradeLogBatchWriter;
+        this.stockMasterDictionary = stockMasterDictionary;
+        this.brokerRateBook = brokerRateBook;
+        this.sources = sources;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.syncExecutor = syncExecutor;
+        this.interval = Duration.ofMillis(intervalMs);
+    }
+
+    //연결하면 다음 주기에 처음부터(watermark 없음) 받아옴. 이미 연결했던 증권사는 이어서 받음
+    @Transactional
+    public BrokerSyncStateDto connect(Long userId, Broker broker) {
+        sourceFor(broker);
+        BrokerSyncState state = brokerSyncStateRepository.findByUserIdAndBroker(userId, broker)
+                .orElseGet(() -> brokerSyncStateRepository.save(BrokerSyncState.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .broker(broker)
+                        .build()));
+        state.enable(LocalDateTime.now());
+        return new BrokerSyncStateDto(state);
+    }
+
+    @Transactional
+    public void disconnect(Long userId, Broker broker) {
+        findState(userId, broker).disable();
+    }
+
+    @Transactional(readOnly = true)
+    public List<BrokerSyncStateDto> getStates(Long userId) {
+        return brokerSyncStateRepository.findByUserIdOrderByBroker(userId).stream()
+                .map(BrokerSyncStateDto::new)
+                .collect(Collectors.toList());
+    }
+
+    public BrokerSyncResultDto syncNow(Long userId, Broker broker) {
+        BrokerSyncState state = findState(userId, broker);
+        if (!state.isEnabled()) throw new IllegalStateException("연결이 해제된 증권사입니다: " + broker.getName());
+        return sync(state.getId());
+    }
+
+    //주기 동기화. 차례가 된 상태를 선점(다음 시각으로 미룸)한 뒤 크기가 정해진 풀에 넘김
+    //풀이 꽉 차면 스케줄러 스레드가 직접 돌려서(CallerRuns) 유저가 많아도 동시에 도는 동기화 수는 늘지 않음
+    @Scheduled(fixedDelayString = "${broker-sync.interval-ms:300000}", initialDelayString = "${broker-sync.initial-delay-ms:60000}")
+    public void syncDue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = now.plus(interval);
+        Long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = brokerSyncStateRepository.findDueIds(now, afterId, PageRequest.of(0, DUE_BATCH));
+            for (Long id : ids) {
+                Integer claimed = transactionTemplate.execute(status -> brokerSyncStateRepository.claim(id, now, next));
+                if (claimed != null && claimed > 0) syncExecutor.execute(() -> syncQuietly(id));
+            }
+            if (!ids.isEmpty()) afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == DUE_BATCH);
+    }
+
+    public BrokerSyncResultDto sync(Long stateId) {
+        BrokerSyncState state = brokerSyncStateRepository.findById(stateId)
+                .orElseThrow(() -> new IllegalArgumentException("동기화 상태를 찾을 수 없습니다. ID: " + stateId));
+        Long userId = state.getUser().getId();
+        Broker broker = state.getBroker();
+        BrokerExecutionSource source = sourceFor(broker);
+
+        long fetched = 0, inserted = 0, corrected = 0;
+        try {
+            LocalDateTime afterAt = state.getWatermarkAt();
+            String afterId = state.getWatermarkId();
+            while (true) {
+                List<BrokerExecutionDto> page = source.fetchExecutions(userId, broker, afterAt, afterId, PAGE_SIZE);
+                if (page.isEmpty()) break;
+                BrokerSyncResultDto saved = transactionTemplate.execute(status -> savePage(stateId, userId, broker, page));
+                fetched += saved.getFetched();
+                inserted += saved.getInserted();
+                corrected += saved.getCorrected();
+                BrokerExecutionDto last = page.get(page.size() - 1);
+                afterAt = last.getExecutedAt();
+                afterId = last.getExecutionId();
+                if (page.size() < PAGE_SIZE) break;
+            }
+            //새 체결을 다 받은 뒤에 정정을 받음 -> 아직 저장 안 된 체결의 정정은 위에서 이미 정정된 값으로 들어옴
+            LocalDateTime modifiedAfterAt = state.getCorrectionWatermarkAt();
+            String modifiedAfterId = state.getCorrectionWatermarkId();
+            while (true) {
+                List<BrokerExecutionDto> page = source.fetchCorrections(userId, broker, modifiedAfterAt, modifiedAfterId, PAGE_SIZE);
+                if (page.isEmpty()) break;
+                Integer saved = transactionTemplate.execute(status -> saveCorrections(stateId, userId, broker, page));
+                corrected += saved == null ? 0 : saved;
+                BrokerExecutionDto last = page.get(page.size() - 1);
+                modifiedAfterAt = last.getModifiedAt();
+                modifiedAfterId = last.getExecutionId();
+                if (page.size() < PAGE_SIZE) break;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    brokerSyncStateRepository.findById(stateId).ifPresent(s -> s.succeed(LocalDateTime.now())));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status ->
+                    brokerSyncStateRepository.findById(stateId).ifPresent(s -> s.fail(e.getMessage())));
+            throw e;
+        }
+        if (fetched > 0 || corrected > 0) log.info("체결 동기화: user={}, broker={}, 새 체결 {}건 (저장 {}), 정정 {}건", userId, broker, fetched, inserted, corrected);
+        return new BrokerSyncResultDto(fetched, inserted, corrected);
+    }
+
+    private void syncQuietly(Long stateId) {
+        try {
+            sync(stateId);
+        } catch (Exception e) {
+            log.warn("체결 동기화 실패 (state={}): {}", stateId, e.getMessage());
+        }
+    }
+
+    //상태 행을 잠그고 watermark 를 다시 확인 -> 같은 유저/증권사를 두 곳에서 동시에 돌려도 한쪽이 이미 넣은 체결은 건너뜀
+    private BrokerSyncResultDto savePage(Long stateId, Long userId, Broker broker, List<BrokerExecutionDto> page) {
+        BrokerSyncState state = brokerSyncStateRepository.findForUpdate(stateId)
+                .orElseThrow(() -> new IllegalArgumentException("동기화 상태를 찾을 수 없습니다. ID: " + stateId));
+        Map<String, BrokerExecutionDto> fresh = new LinkedHashMap<>();
+        for (BrokerExecutionDto execution : page) {
+            if (state.isAfterWatermark(execution.getExecutedAt(), execution.getExecutionId())) {
+                fresh.put(execution.getExecutionId(), execution);
+            }
+        }
+        if (fresh.isEmpty()) return new BrokerSyncResultDto(0, 0, 0);
+
+        Map<String, TradeLog> existing = tradeLogRepository.findByExecutionIds(userId, broker, fresh.keySet()).stream()
+                .collect(Collectors.toMap(TradeLog::getExecutionId, Function.identity()));
+        User user = userRepository.getReferenceById(userId);
+        List<TradeLog> inserts = new ArrayList<>();
+        int corrected = 0;
+        for (BrokerExecutionDto execution : fresh.values()) {
+            TradeLog current = existing.get(execution.getExecutionId());
+            if (current == null) {
+                inserts.add(toTradeLog(user, broker, execution));
+            } else if (correct(userId, broker, current, execution)) {
+                corrected++;
+            }
+        }
+        tradeLogBatchWriter.insertAll(inserts);
+        if (!inserts.isEmpty()) {
+            eventPublisher.publishEvent(TradeLogChangedEvent.created(userId,
+                    inserts.stream().map(TradeLogSnapshot::of).collect(Collectors.toList())));
+        }
+        BrokerExecutionDto last = page.get(page.size() - 1);
+        state.advance(last.getExecutedAt(), last.getExecutionId());
+        return new BrokerSyncResultDto(fresh.size(), inserts.size(), corrected);
+    }
+
+    //정정 한 페이지. savePage 와 같이 상태 행을 잠그고 정정 watermark 를 다시 확인함
+    //저장된 적 없는 체결(유저가 지웠거나 아직 watermark 앞에 없는 것)의 정정은 건너뜀. 후자는 새 체결로 받을 때 정정된 값으로 들어옴
+    private int saveCorrections(Long stateId, Long userId, Broker broker, List<BrokerExecutionDto> page) {
+        BrokerSyncState state = brokerSyncStateRepository.findForUpdate(stateId)
+                .orElseThrow(() -> new IllegalArgumentException("동기화 상태를 찾을 수 없습니다. ID: " + stateId));
+        Map<String, BrokerExecutionDto> fresh = new LinkedHashMap<>();
+        for (BrokerExecutionDto execution : page) {
+            if (state.isAfterCorrectionWatermark(execution.getModifiedAt(), execution.getExecutionId())) {
+                fresh.put(execution.getExecutionId(), execution);
+            }
+        }
+        if (fresh.isEmpty()) return 0;
+
+        int corrected = 0;
+        for (TradeLog current : tradeLogRepository.findByExecutionIds(userId, broker, fresh.keySet())) {
+            if (correct(userId, broker, current, fresh.get(current.getExecutionId()))) corrected++;
+        }
+        BrokerExecutionDto last = page.get(page.size() - 1);
+        state.advanceCorrections(last.getModifiedAt(), last.getExecutionId());
+        return corrected;
+    }
+
+    //값이 달라졌을 때만 고치고 변경 이벤트를 냄
+    private boolean correct(Long userId, Broker broker, TradeLog current, BrokerExecutionDto execution) {
+        if (!isCorrected(current, execution)) return false;
+        TradeLogSnapshot before = TradeLogSnapshot.of(current);
+        double fee = feeOf(broker, execution);
+        double tax = taxOf(execution);
+        current.correctExecution(execution.getTradeType(), execution.getExecutionPrice(), execution.getExecutedQuantity(),
+                execution.getExecutedAt().toLocalDate(), fee, tax, totalCostOf(execution, fee, tax));
+        eventPublisher.publishEvent(TradeLogChangedEvent.updated(userId, before, TradeLogSnapshot.of(current)));
+        return true;
+    }
+
+    private TradeLog toTradeLog(User user, Broker broker, BrokerExecutionDto execution) {
+        double fee = feeOf(broker, execution);
+        double tax = taxOf(execution);
+        TradeLog tradeLog = TradeLog.builder()
+                .user(user)
+                .broker(broker)
+                .marketType(execution.getMarketType())
+                .ticker(execution.getTicker())
+                .stockName(stockMasterDictionary.findName(execution.getTicker())
+                        .orElse(execution.getStockName() != null ? execution.getStockName() : execution.getTicker()))
+                .tradeType(execution.getTradeType())
+                .executionPrice(execution.getExecutionPrice())
+                .executedQuantity(execution.getExecutedQuantity())
+                .tradeDate(execution.getExecutedAt().toLocalDate())
+                .realizedPL(null)
+                .fee(fee)
+                .tax(tax)
+                .totalCost(totalCostOf(execution, fee, tax))
+                .executionId(execution.getExecutionId())
+                .build();
+        tradeLog.initStatus();
+        tradeLog.assignFingerprint();
+        return tradeLog;
+    }
+
+    private static boolean isCorrected(TradeLog current, BrokerExecutionDto execution) {
+        return current.getTradeType() != execution.getTradeType()
+                || !Objects.equals(current.getExecutionPrice(), execution.getExecutionPrice())
+                || !Objects.equals(current.getExecutedQuantity(), execution.getExecutedQuantity())
+                || !Objects.equals(current.getTradeDate(), execution.getExecutedAt().toLocalDate())
+                || (execution.getFee() != null && !Objects.equals(current.getFee(), execution.getFee()));
+    }
+
+    //증권사가 수수료를 알려주지 않으면 직접 입력과 같은 기본 수수료율로 계산 (TradeLogService.calculateFee)
+    private double feeOf(Broker broker, BrokerExecutionDto execution) {
+        if (execution.getFee() != null) return execution.getFee();
+        double rate = brokerRateBook.rateOf(broker, execution.getMarketType(), execution.getExecutedAt().toLocalDate());
+        return Math.round(baseAmountOf(execution) * rate * 100) / 100.0;
+    }
+
+    private static double taxOf(BrokerExecutionDto execution) {
+        return SecuritiesTransactionTax.amountOf(execution.getMarketType(), execution.getTradeType(),
+                execution.getExecutedAt().toLocalDate(), baseAmountOf(execution));
+    }
+
+    private static double totalCostOf(BrokerExecutionDto execution, double fee, double tax) {
+        double total = execution.getTradeType() == TradeType.BUY
+                ? baseAmountOf(execution) + fee + tax : baseAmountOf(execution) - fee - tax;
+        return Math.round(total * 100) / 100.0;
+    }
+
+    private static double baseAmountOf(BrokerExecutionDto execution) {
+        return execution.getExecutionPrice() * execution.getExecutedQuantity();
+    }
+
+    private BrokerSyncState findState(Long userId, Broker broker) {
+        return brokerSyncStateRepository.findByUserIdAndBroker(userId, broker)
+                .orElseThrow(() -> new IllegalArgumentException("연결하지 않은 증권사입니다: " + broker.getName()));
+    }
+
+    private BrokerExecutionSource sourceFor(Broker broker) {
+        return sources.stream()
+                .filter(source -> source.supports(broker))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("체결 동기화를 지원하지 않는 증권사입니다: " + broker.getName()));
+    }
+}
@@ -1,46 +1,163 @@
-/*
 package com.example.stockLog.tradelog.service;
 
-import com.example.stockLog.tradelog.dto.CalculateDto;
-import com.example.stockLog.tradelog.dto.StockInfoDto;
+import com.example.stockLog.portfolio.repostiory.PortfolioRepository;
+import com.example.stockLog.tradelog.dto.DividendPaymentDto;
+import com.example.stockLog.tradelog.dto.DividendPositionDto;
+import com.example.stockLog.tradelog.dto.DividendProjectionDto;
 import com.example.stockLog.tradelog.entity.Calculate;
 import com.example.stockLog.tradelog.repository.CalculateRepository;
+import com.example.stockLog.tradelog.repository.DividendProjectionBatchWriter;
+import com.example.stockLog.tradelog.repository.DividendProjectionRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
+@Slf4j
 public class CalculateService {
+    //배당금 계산기. 포트폴리오 보유 수량 x 종목별 배당 일정(DividendScheduleCache)으로 앞으로 12개월 월별 배당 수입을 예상
+    //야간 배치가 배당 일정을 받아 오고 모든 유저의 예상치를 dividend_projection 에 미리 써 둠. 조회는 그 행들만 읽음
+    //청크마다 따로 커밋해야 해서 클래스 전체에 @Transactional 을 걸지 않음
+    private static final int MONTHS = 12;
+    private static final int USER_CHUNK = 500;
+    private static final int TICKER_CHUNK = 500;
+
     private final CalculateRepository calculateRepository;
-    private final StockApiClient apiClient;
-    //배당금 계산하기
-    //API에서 가져오기. 저장하기
-    public void calculateDividend(CalculateDto dto) {
-        //api 저장소 만들기..? 거기서 api가져오기..?
+    private final DividendProjectionRepository dividendProjectionRepository;
+    private final DividendProjectionBatchWriter dividendProjectionBatchWriter;
+    private final PortfolioRepository portfolioRepository;
+    private final DividendScheduleCache dividendScheduleCache;
+    private final List<DividendScheduleSource> sources;
+    private final TransactionTemplate transactionTemplate;
+
+    //배치 전에 처음 포트폴리오를 만든 유저처럼 미리 계산된 행이 없으면 그 자리에서 계산 (유저 한 명 분량이라 가벼움)
+    @Transactional(readOnly = true)
+    public List<DividendProjectionDto> getProjection(Long userId) {
+        LocalDate start = LocalDate.now().withDayOfMonth(1);
+        List<DividendProjectionDto> stored = dividendProjectionRepository.findFrom(userId, start).stream()
+                .map(DividendProjectionDto::new)
+                .collect(Collectors.toList());
+        if (!stored.isEmpty()) return stored;
+
+        double[][] amounts = project(portfolioRepository.findDividendPositions(List.of(userId)), start)
+                .getOrDefault(userId, new double[2][MONTHS]);
+        List<DividendProjectionDto> projection = new ArrayList<>(MONTHS);
+        for (int k = 0; k < MONTHS; k++) {
+            projection.add(new DividendProjectionDto(start.plusMonths(k), amounts[0][k], amounts[1][k]));
+        }
+        return projection;
     }
-    public void update(Long dividendId, CalculateDto dto) {
-        Calculate calculate = calculateRepository.findById(dividendId)
-                .orElseThrow(()-> new IllegalArgumentException("없"));
 
-        calculate.updateDividend(dto.getStockName(), dto.getQuantity());
+    //새벽에 배당 일정 갱신 -> 캐시 다시 읽기 -> 전체 유저 예상치 다시 쓰기
+    @Scheduled(cron = "${dividend.projection.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void nightly() {
+        try {
+            refreshSchedules();
+            projectAll();
+        } catch (Exception e) {
+            log.error("배당 예상 배치 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Async("adjustmentExecutor")
+    public void nightlyAsync() {
+        nightly();
     }
-    //가져온 api정보 저장하기
-        public void saveWithApi(String userInputName, double quantity) {
-            // 1. 이름으로 티커와 상세 정보 가져오기 (기계 작동)
-            StockInfoDto info = apiClient.searchByStockName(userInputName);
-
-            // 2. 가져온 정보로 엔티티 만들기
-            Calculate dividend = Calculate.builder()
-                    .stockName(info.getStockName()) // API가 찾아준 정확한 이름
-                    .ticker(info.getTicker())       // API가 찾아준 티커
-                    .quantity(quantity)
-                    // ... 나머지는 나중에 배당 API에서 가져올 부분
-                    .build();
 
-            calculateRepository.save(dividend);
+    //포트폴리오에 있는 종목만 배당 소스에서 받아 옴. 같은 (종목, 지급일)이 이미 있으면 금액만 고침
+    public int refreshSchedules() {
+        int saved = 0;
+        if (!sources.isEmpty()) {
+            LocalDate from = LocalDate.now().minusYears(1);
+            List<String> tickers = portfolioRepository.findDistinctTickers();
+            for (int i = 0; i < tickers.size(); i += TICKER_CHUNK) {
+                List<String> chunk = tickers.subList(i, Math.min(i + TICKER_CHUNK, tickers.size()));
+                List<DividendPaymentDto> payments = new ArrayList<>();
+                sources.forEach(source -> payments.addAll(source.fetchPayments(chunk, from)));
+                Integer rows = transactionTemplate.execute(status -> saveSchedules(chunk, payments));
+                saved += rows != null ? rows : 0;
+            }
         }
+        dividendScheduleCache.reload();
+        return saved;
+    }
 
+    //유저 id 키셋 청크마다 보유 종목을 한 번에 읽고, 예상치를 지웠다가 다시 넣음
+    //포트폴리오를 다 비운 유저의 옛 예상치도 지워지도록 id 구간 단위로 지움
+    public int projectAll() {
+        LocalDate start = LocalDate.now().withDayOfMonth(1);
+        long afterId = 0L;
+        int users = 0;
+        while (true) {
+            List<Long> userIds = portfolioRepository.findUserIdsAfter(afterId, PageRequest.of(0, USER_CHUNK));
+            long fromId = afterId;
+            long toId = userIds.isEmpty() ? Long.MAX_VALUE : userIds.get(userIds.size() - 1);
+            Integer projected = transactionTemplate.execute(status -> {
+                dividendProjectionRepository.deleteByUserIdRange(fromId, toId);
+                if (userIds.isEmpty()) return 0;
+                Map<Long, double[][]> projections = project(portfolioRepository.findDividendPositions(userIds), start);
+                dividendProjectionBatchWriter.insertAll(start, projections);
+                return projections.size();
+            });
+            users += projected != null ? projected : 0;
+            if (userIds.isEmpty()) break;
+            afterId = toId;
+        }
+        log.info(">> [System] 배당 예상 배치 완료: 배당 있는 유저 {}명", users);
+        return users;
+    }
+
+    //보유 종목 목록을 한 번 훑으면서 유저별 [원, 달러] x 12개월 배열에 1주당 배당금 x 수량을 더함
+    private Map<Long, double[][]> project(List<DividendPositionDto> positions, LocalDate start) {
+        int startIndex = start.getMonthValue() - 1;
+        Map<Long, double[][]> projections = new HashMap<>();
+        for (DividendPositionDto position : positions) {
+            DividendScheduleCache.Schedule schedule = dividendScheduleCache.find(position.getTicker());
+            if (schedule == null || position.getQuantity() <= 0) continue;
+            double[][] amounts = projections.computeIfAbsent(position.getUserId(), id -> new double[2][MONTHS]);
+            double[] target = schedule.isForeign() ? amounts[1] : amounts[0];
+            for (int k = 0; k < MONTHS; k++) {
+                target[k] += position.getQuantity() * schedule.perShareIn((startIndex + k) % MONTHS + 1);
+            }
+        }
+        return projections;
+    }
+
+    private int saveSchedules(List<String> tickers, List<DividendPaymentDto> payments) {
+        Map<String, Calculate> existing = calculateRepository.findByTickerIn(tickers).stream()
+                .collect(Collectors.toMap(c -> c.getTicker() + "|" + c.getPaymentDate(), Function.identity(), (a, b) -> a));
+        List<Calculate> inserts = new ArrayList<>();
+        for (DividendPaymentDto payment : payments) {
+            Calculate current = existing.get(payment.getTicker() + "|" + payment.getPaymentDate());
+            if (current != null) {
+                current.updateDividend(payment.getStockName(), payment.getMarketType(), payment.getDividendPerShare());
+                continue;
+            }
+            Calculate schedule = Calculate.builder()
+                    .ticker(payment.getTicker())
+                    .stockName(payment.getStockName())
+                    .marketType(payment.getMarketType())
+                    .paymentDate(payment.getPaymentDate())
+                    .dividendPerShare(payment.getDividendPerShare())
+                    .build();
+            existing.put(payment.getTicker() + "|" + payment.getPaymentDate(), schedule);
+            inserts.add(schedule);
+        }
+        calculateRepository.saveAll(inserts);
+        return payments.size();
     }
-*/
+}
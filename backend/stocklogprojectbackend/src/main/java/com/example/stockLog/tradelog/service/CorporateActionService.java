@@ -0,0 +1,138 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.portfolio.repostiory.PortfolioRepository;
+import com.example.stockLog.tradelog.dto.CorporateActionRequestDto;
+import com.example.stockLog.tradelog.dto.CorporateActionResponseDto;
+import com.example.stockLog.tradelog.entity.CorporateAction;
+import com.example.stockLog.tradelog.entity.CorporateActionStatus;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.repository.CorporateActionRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CorporateActionService {
+    //청크마다 따로 커밋해야 해서 클래스 전체에 @Transactional 을 걸지 않음
+    private static final int CHUNK_SIZE = 5000;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final CorporateActionRepository corporateActionRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long register(CorporateActionRequestDto dto) {
+        if (dto.getTicker() == null || dto.getTicker().isBlank()) {
+            throw new IllegalArgumentException("티커는 필수입니다.");
+        }
+        if (dto.getEffectiveDate() == null) {
+            throw new IllegalArgumentException("기준일은 필수입니다.");
+        }
+        if (dto.getRatio() == null || dto.getRatio() <= 0 || dto.getRatio() == 1.0) {
+            throw new IllegalArgumentException("분할 비율은 0보다 크고 1이 아니어야 합니다.");
+        }
+        CorporateAction action = CorporateAction.builder()
+                .ticker(dto.getTicker().trim())
+                .effectiveDate(dto.getEffectiveDate())
+                .ratio(dto.getRatio())
+                .build();
+        return corporateActionRepository.save(action).getId();
+    }
+
+    @Transactional(readOnly = true)
+    public List<CorporateActionResponseDto> getActions() {
+        return corporateActionRepository.findAllByOrderByEffectiveDateDesc()
+                .stream()
+                .map(CorporateActionResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
+    @Async("adjustmentExecutor")
+    public void applyAsync(Long actionId) {
+        try {
+            apply(actionId);
+        } catch (Exception e) {
+            log.error("기업 이벤트 조정 실패 (id={}): {}", actionId, e.getMessage(), e);
+        }
+    }
+
+    //같은 행을 두 번 나누면 안 되므로 청크마다 체크포인트를 같은 트랜잭션에서 같이 커밋함
+    public CorporateActionResponseDto apply(Long actionId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            CorporateAction action = findAction(actionId);
+            if (action.getStatus() == CorporateActionStatus.APPLIED) {
+                throw new IllegalStateException("이미 적용된 기업 이벤트입니다. ID: " + actionId);
+            }
+            action.markInProgress();
+        });
+
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> adjustTradeLogChunk(actionId)))) {
+            // 청크 단위 반복
+        }
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> adjustPortfolioChunk(actionId)))) {
+            // 청크 단위 반복
+        }
+
+        //실현손익을 다시 계산했으므로 해당 종목을 가진 유저들의 집계/캐시도 유저 단위로 다시 맞춤
+        CorporateAction adjusted = findAction(actionId);
+        for (Long userId : tradeLogRepository.findUserIdsForTicker(adjusted.getTicker(), adjusted.getEffectiveDate())) {
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(TradeLogChangedEvent.bulk(userId)));
+        }
+
+        return transactionTemplate.execute(status -> {
+            CorporateAction action = findAction(actionId);
+            action.markApplied();
+            log.info("기업 이벤트 조정 완료: {} x{} ({} 이전), {}행", action.getTicker(), action.getRatio(),
+                    action.getEffectiveDate(), action.getAdjustedRows());
+            return new CorporateActionResponseDto(action);
+        });
+    }
+
+    private boolean adjustTradeLogChunk(Long actionId) {
+        CorporateAction action = findAction(actionId);
+        Long fromId = tradeLogRepository.findNextIdForTicker(
+                action.getTicker(), action.getEffectiveDate(), action.getTradeLogCheckpoint());
+        if (fromId == null) return false;
+
+        long toId = fromId + CHUNK_SIZE - 1;
+        int rows = tradeLogRepository.applySplit(
+                action.getTicker(), action.getEffectiveDate(), action.getRatio(), fromId, toId, LocalDateTime.now());
+        action.advanceTradeLog(toId, rows);
+        return true;
+    }
+
+    private boolean adjustPortfolioChunk(Long actionId) {
+        CorporateAction action = findAction(actionId);
+        Date effectiveDate = Date.from(action.getEffectiveDate().atStartOfDay(SEOUL).toInstant());
+        Long fromId = portfolioRepository.findNextIdForTicker(
+                action.getTicker(), effectiveDate, action.getPortfolioCheckpoint());
+        if (fromId == null) return false;
+
+        long toId = fromId + CHUNK_SIZE - 1;
+        int rows = portfolioRepository.applySplit(
+                action.getTicker(), effectiveDate, action.getRatio(), fromId, toId, LocalDateTime.now());
+        action.advancePortfolio(toId, rows);
+        return true;
+    }
+
+    private CorporateAction findAction(Long actionId) {
+        return corporateActionRepository.findById(actionId)
+                .orElseThrow(() -> new IllegalArgumentException("기업 이벤트를 찾을 수 없습니다. ID: " + actionId));
+    }
+}
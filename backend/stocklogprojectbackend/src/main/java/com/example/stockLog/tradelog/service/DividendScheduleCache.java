@@ -0,0 +1,91 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.entity.Calculate;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.repository.CalculateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DividendScheduleCache {
+    //종목별 배당 일정 메모리 캐시. 배당 예상 계산과 매매 저장 때는 DB 를 보지 않고 여기서만 찾음
+    //종목마다 "달(1~12월)별 1주당 배당금" 배열 하나로 들고 있음. 최근 1년 지급 + 공시된 미래 지급을 달 칸에 넣고,
+    //같은 달 칸에 여러 번 있으면 가장 최근 지급이 이김 -> 앞으로도 같은 달에 같은 금액을 준다고 봄
+    //"005930.KS" 와 "005930" 둘 다로 찾을 수 있게 거래소 접미사를 뗀 키도 같이 넣어 둠 (StockMasterDictionary 와 같은 방식)
+    private final CalculateRepository calculateRepository;
+
+    private volatile Map<String, Schedule> schedules = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<String, Schedule> loaded = new HashMap<>();
+        //지급일 순으로 읽으므로 뒤에 오는(최근) 지급이 같은 달 칸을 덮어씀
+        for (Calculate payment : calculateRepository.findSchedulesFrom(LocalDate.now().minusYears(1).plusDays(1))) {
+            String key = normalize(payment.getTicker());
+            if (key == null) continue;
+            Schedule schedule = loaded.computeIfAbsent(key, k -> new Schedule(payment.getMarketType()));
+            schedule.perShareByMonth[payment.getPaymentDate().getMonthValue() - 1] = payment.getDividendPerShare();
+        }
+        Map<String, Schedule> withBaseCodes = new HashMap<>(loaded);
+        loaded.forEach((key, schedule) -> withBaseCodes.putIfAbsent(baseCode(key), schedule));
+        schedules = withBaseCodes;
+        log.info("배당 일정 캐시 로드: {}종목", loaded.size());
+    }
+
+    //배당이 없거나 모르는 종목은 null
+    public Schedule find(String ticker) {
+        String key = normalize(ticker);
+        if (key == null) return null;
+        Map<String, Schedule> current = schedules;
+        Schedule schedule = current.get(key);
+        return schedule != null ? schedule : current.get(baseCode(key));
+    }
+
+    public double annualPerShare(String ticker) {
+        Schedule schedule = find(ticker);
+        return schedule != null ? schedule.annualPerShare() : 0.0;
+    }
+
+    private static String normalize(String ticker) {
+        if (ticker == null || ticker.isBlank()) return null;
+        return ticker.trim().toUpperCase();
+    }
+
+    private static String baseCode(String key) {
+        int dot = key.indexOf('.');
+        return dot > 0 ? key.substring(0, dot) : key;
+    }
+
+    //캐시를 다시 읽을 때 통째로 새로 만들고, 만든 뒤에는 바꾸지 않음
+    public static class Schedule {
+        private final MarketType marketType;
+        private final double[] perShareByMonth = new double[12]; //[0]=1월
+
+        private Schedule(MarketType marketType) {
+            this.marketType = marketType;
+        }
+
+        public boolean isForeign() {
+            return marketType == MarketType.USA;
+        }
+
+        public double perShareIn(int monthValue) {
+            return perShareByMonth[monthValue - 1];
+        }
+
+        public double annualPerShare() {
+            double sum = 0;
+            for (double perShare : perShareByMonth) sum += perShare;
+            return sum;
+        }
+    }
+}
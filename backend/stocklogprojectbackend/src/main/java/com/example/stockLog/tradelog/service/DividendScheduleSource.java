@@ -0,0 +1,13 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.DividendPaymentDto;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+//종목별 배당 일정 조회. 배당 API 마다 하나씩 구현해서 빈으로 등록하면 CalculateService 가 야간 배치에서 씀
+public interface DividendScheduleSource {
+    //tickers 종목의 from 이후 지급(공시된 미래 지급 포함). 모르는 종목은 빼고 돌려줌
+    List<DividendPaymentDto> fetchPayments(Collection<String> tickers, LocalDate from);
+}
@@ -0,0 +1,102 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.BrokerExecutionDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+//로컬/테스트용 체결 소스. {directory}/{userId}/{BROKER}.csv 를 증권사 API 대신 읽음
+//컬럼: executionId,executedAt(ISO),ticker,stockName,marketType,tradeType,price,quantity[,fee][,modifiedAt(ISO)]
+//정정은 행의 값을 고치고 modifiedAt 을 채워서 흉내냄 (체결 시각은 그대로 둬도 fetchCorrections 로 받아감)
+//broker-sync.file.directory 를 설정했을 때만 등록되고, 모든 증권사를 지원하는 것으로 취급
+@Component
+@ConditionalOnProperty(name = "broker-sync.file.directory")
+public class FileBrokerExecutionSource implements BrokerExecutionSource {
+    private static final Comparator<BrokerExecutionDto> ORDER = Comparator
+            .comparing(BrokerExecutionDto::getExecutedAt)
+            .thenComparing(BrokerExecutionDto::getExecutionId);
+    private static final Comparator<BrokerExecutionDto> CORRECTION_ORDER = Comparator
+            .comparing(BrokerExecutionDto::getModifiedAt)
+            .thenComparing(BrokerExecutionDto::getExecutionId);
+
+    private final Path directory;
+
+    public FileBrokerExecutionSource(@Value("${broker-sync.file.directory}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @Override
+    public boolean supports(Broker broker) {
+        return true;
+    }
+
+    @Override
+    public List<BrokerExecutionDto> fetchExecutions(Long userId, Broker broker, LocalDateTime afterAt, String afterId, int limit) {
+        List<BrokerExecutionDto> executions = new ArrayList<>();
+        for (BrokerExecutionDto execution : readAll(userId, broker)) {
+            if (afterAt == null || ORDER.compare(execution, cursor(afterAt, afterId)) > 0) {
+                executions.add(execution);
+            }
+        }
+        executions.sort(ORDER);
+        return executions.size() > limit ? executions.subList(0, limit) : executions;
+    }
+
+    @Override
+    public List<BrokerExecutionDto> fetchCorrections(Long userId, Broker broker, LocalDateTime afterAt, String afterId, int limit) {
+        List<BrokerExecutionDto> corrections = new ArrayList<>();
+        for (BrokerExecutionDto execution : readAll(userId, broker)) {
+            if (execution.getModifiedAt() == null) continue;
+            int compared = afterAt == null ? 1 : execution.getModifiedAt().compareTo(afterAt);
+            if (compared > 0 || (compared == 0 && execution.getExecutionId().compareTo(afterId) > 0)) {
+                corrections.add(execution);
+            }
+        }
+        corrections.sort(CORRECTION_ORDER);
+        return corrections.size() > limit ? corrections.subList(0, limit) : corrections;
+    }
+
+    private List<BrokerExecutionDto> readAll(Long userId, Broker broker) {
+        Path file = directory.resolve(String.valueOf(userId)).resolve(broker.name() + ".csv");
+        if (!Files.exists(file)) return List.of();
+
+        List<BrokerExecutionDto> executions = new ArrayList<>();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8); CSVReader reader = new CSVReader(in)) {
+            reader.skip(1); //헤더
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                if (row.length < 8 || row[0].isBlank()) continue;
+                executions.add(new BrokerExecutionDto(row[0].trim(), LocalDateTime.parse(row[1].trim()),
+                        row[2].trim(), row[3].trim(), MarketType.valueOf(row[4].trim()), TradeType.valueOf(row[5].trim()),
+                        Double.valueOf(row[6].trim()), Double.valueOf(row[7].trim()),
+                        row.length > 8 && !row[8].isBlank() ? Double.valueOf(row[8].trim()) : null,
+                        row.length > 9 && !row[9].isBlank() ? LocalDateTime.parse(row[9].trim()) : null));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CsvValidationException e) {
+            throw new IllegalStateException("체결 파일 형식이 올바르지 않습니다: " + file, e);
+        }
+        return executions;
+    }
+
+    private static BrokerExecutionDto cursor(LocalDateTime afterAt, String afterId) {
+        return new BrokerExecutionDto(afterId == null ? "" : afterId, afterAt, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.DividendPaymentDto;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+//로컬/테스트용 배당 소스. 배당 API 대신 CSV 파일 하나를 읽음
+//컬럼: ticker,stockName,marketType,paymentDate(ISO),dividendPerShare
+//dividend.file.path 를 설정했을 때만 등록됨
+@Component
+@ConditionalOnProperty(name = "dividend.file.path")
+public class FileDividendScheduleSource implements DividendScheduleSource {
+    private final Path file;
+
+    public FileDividendScheduleSource(@Value("${dividend.file.path}") String file) {
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public List<DividendPaymentDto> fetchPayments(Collection<String> tickers, LocalDate from) {
+        if (!Files.exists(file)) return List.of();
+
+        Set<String> wanted = new HashSet<>(tickers);
+        List<DividendPaymentDto> payments = new ArrayList<>();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8); CSVReader reader = new CSVReader(in)) {
+            reader.skip(1); //헤더
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                if (row.length < 5 || row[0].isBlank() || !wanted.contains(row[0].trim())) continue;
+                LocalDate paymentDate = LocalDate.parse(row[3].trim());
+                if (paymentDate.isBefore(from)) continue;
+                payments.add(new DividendPaymentDto(row[0].trim(), row[1].trim(), MarketType.valueOf(row[2].trim()),
+                        paymentDate, Double.parseDouble(row[4].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CsvValidationException e) {
+            throw new IllegalStateException("배당 파일 형식이 올바르지 않습니다: " + file, e);
+        }
+        return payments;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.TradeLogImportErrorDto;
+
+import java.util.List;
+
+//가져오기 진행 콜백. 청크를 저장하는 트랜잭션 안에서 불리므로 여기서 쓴 진행 상황은 저장된 행과 같이 커밋됨
+@FunctionalInterface
+public interface ImportProgressListener {
+    //totalRows/savedRows/duplicateRows 는 누적값, errors 는 지난 호출 이후 새로 건너뛴 행들
+    void onChunk(long totalRows, long savedRows, long duplicateRows, List<TradeLogImportErrorDto> errors);
+}
@@ -0,0 +1,13 @@
+package com.example.stockLog.tradelog.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+//가져오기 입력을 한 행씩 문자열 배열로 돌려줌. CSV/XLSX 가 같은 파싱 -> 검증 -> 배치 저장 경로를 타도록 하기 위함
+interface ImportRowReader extends Closeable {
+    //다음 행. 없으면 null. 형식이 깨져서 더 읽을 수 없으면 IllegalArgumentException
+    String[] readNext() throws IOException;
+
+    //방금 읽은 행의 파일상 번호 (오류 보고용)
+    long getLineNumber();
+}
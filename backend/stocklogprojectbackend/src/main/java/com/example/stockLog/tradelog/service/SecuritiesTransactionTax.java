@@ -0,0 +1,37 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public final class SecuritiesTransactionTax {
+    //국내 주식 매도 때 떼는 거래세 (증권거래세 + 농특세 합산, 코스피/코스닥 같은 세율로 봄)
+    //해외 주식은 거래세가 없고 양도세로 따로 계산 (TaxTallyService)
+    //체결일 기준 세율. 법 개정으로 바뀌면 여기에 한 줄 추가
+    private static final NavigableMap<LocalDate, Double> RATES = new TreeMap<>(Map.of(
+            LocalDate.of(1900, 1, 1), 0.003,
+            LocalDate.of(2019, 6, 3), 0.0025,
+            LocalDate.of(2021, 1, 1), 0.0023,
+            LocalDate.of(2023, 1, 1), 0.0020,
+            LocalDate.of(2024, 1, 1), 0.0018,
+            LocalDate.of(2025, 1, 1), 0.0015,
+            LocalDate.of(2026, 1, 1), 0.0020));
+
+    private SecuritiesTransactionTax() {
+    }
+
+    //원 미만은 버림. 체결일이 없으면 오늘 세율
+    public static double amountOf(MarketType marketType, TradeType tradeType, LocalDate tradeDate, double baseAmount) {
+        if (marketType != MarketType.KOR || tradeType != TradeType.SELL || baseAmount <= 0) return 0;
+        return Math.floor(baseAmount * rateOn(tradeDate != null ? tradeDate : LocalDate.now()));
+    }
+
+    static double rateOn(LocalDate tradeDate) {
+        Map.Entry<LocalDate, Double> entry = RATES.floorEntry(tradeDate);
+        return entry != null ? entry.getValue() : RATES.firstEntry().getValue();
+    }
+}
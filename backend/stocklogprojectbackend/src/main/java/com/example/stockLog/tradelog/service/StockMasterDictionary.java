@@ -0,0 +1,68 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.entity.StockMaster;
+import com.example.stockLog.tradelog.repository.StockMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockMasterDictionary {
+    //종목명 보정용 메모리 사전. 매매일지 저장 때 외부 시트를 받지 않고 여기서만 찾음
+    //"005930.KS" 와 "005930" 둘 다로 찾을 수 있게 거래소 접미사를 뗀 키도 같이 넣어 둠
+    private final StockMasterRepository stockMasterRepository;
+
+    private volatile Map<String, String> names = Map.of();
+
+    //StockDataInitializer(CommandLineRunner) 가 초기 데이터를 넣은 뒤에 올라오도록 ApplicationReady 시점에 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<String, String> loaded = new HashMap<>();
+        for (StockMaster stock : stockMasterRepository.findAll()) {
+            putKeys(loaded, stock.getTicker(), stock.getStockName());
+        }
+        names = loaded;
+        log.info("종목 사전 로드: {}개 키", loaded.size());
+    }
+
+    public Optional<String> findName(String ticker) {
+        String key = normalize(ticker);
+        if (key == null) return Optional.empty();
+        Map<String, String> current = names;
+        String name = current.get(key);
+        if (name == null) name = current.get(baseCode(key));
+        return Optional.ofNullable(name);
+    }
+
+    //비동기 보정에서 새로 알게 된 이름을 바로 다음 저장부터 쓰도록 추가 (읽는 쪽은 잠금 없이 보도록 복사 후 교체)
+    public synchronized void put(String ticker, String stockName) {
+        Map<String, String> copy = new HashMap<>(names);
+        putKeys(copy, ticker, stockName);
+        names = copy;
+    }
+
+    private static void putKeys(Map<String, String> target, String ticker, String stockName) {
+        String key = normalize(ticker);
+        if (key == null || stockName == null || stockName.isBlank()) return;
+        target.put(key, stockName);
+        target.putIfAbsent(baseCode(key), stockName);
+    }
+
+    private static String normalize(String ticker) {
+        if (ticker == null || ticker.isBlank()) return null;
+        return ticker.trim().toUpperCase();
+    }
+
+    private static String baseCode(String key) {
+        int dot = key.indexOf('.');
+        return dot > 0 ? key.substring(0, dot) : key;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.StockInfoDto;
+import com.example.stockLog.tradelog.event.StockNameLookupEvent;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockNameEnricher {
+    //사전에 없는 티커의 이름 보정. 저장 트랜잭션이 커밋된 뒤 별도 스레드에서 돌아서 저장 응답시간에 외부 호출이 끼지 않음
+    //시트는 호출마다 전체 CSV 를 받으므로 조회를 마친 티커는 일정 시간 동안 다시 묻지 않음 (실패하면 다음 저장 때 다시 물음)
+    private static final long RETRY_AFTER_MILLIS = 60 * 60 * 1000L;
+    private static final int MAX_TICKERS = 10_000;
+
+    private final StockDataService stockDataService;
+    private final StockMasterDictionary stockMasterDictionary;
+    private final TradeLogRepository tradeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    //오래된 티커부터 밀어내서 크기를 묶어 둠
+    private final Map<String, Long> lastLookup = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_TICKERS;
+        }
+    });
+    //같은 티커를 동시에 두 번 묻지 않도록 조회 중인 티커
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Async("enrichmentExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLookup(StockNameLookupEvent event) {
+        String ticker = event.getTicker().trim().toUpperCase();
+        Long last = lastLookup.get(ticker);
+        if (last != null && System.currentTimeMillis() - last < RETRY_AFTER_MILLIS) return;
+        if (!inFlight.add(ticker)) return;
+
+        try {
+            StockInfoDto info = stockDataService.getStockInfo(ticker);
+            lastLookup.put(ticker, System.currentTimeMillis());
+            if (info == null || info.getStockName() == null || info.getStockName().isBlank()) return;
+
+            String name = info.getStockName().trim();
+            stockMasterDictionary.put(ticker, name);
+            if (name.equals(event.getStockName())) return;
+            //조회를 기다리는 동안 같은 티커, 같은 잘못된 이름으로 저장된 일지도 함께 고침
+            //티커가 있는 행의 fingerprint 는 티커로 계산돼 있어서 이름만 바꿔도 다시 가져오기 중복 확인은 그대로 맞음
+            Integer updated = transactionTemplate.execute(status ->
+                    tradeLogRepository.updateStockNameByTicker(event.getTicker(), event.getStockName(), name, LocalDateTime.now()));
+            log.info("종목명 보정 (ticker={}): {} -> {}, {}건", ticker, event.getStockName(), name, updated);
+        } catch (Exception e) {
+            log.warn("종목명 보정 실패 (ticker={}): {}", ticker, e.getMessage());
+        } finally {
+            inFlight.remove(ticker);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.tradelog.dto.TaxEstimateDto;
+import com.example.stockLog.tradelog.dto.TaxYearTallyRowDto;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TaxYearTally;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.TaxYearTallyRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class TaxTallyService extends TradeLogRollup<Integer, TaxTallyService.YearDelta> {
+    //tax_year_tally(유저별 연간 세금 집계)를 관리. 세금 추정은 이 한 행만 읽음. 칸은 연도
+    //해외 주식 양도세: 연간 손익 통산 후 기본공제 250만원, 양도세 20% + 지방세 2%
+    private static final double FOREIGN_BASIC_DEDUCTION = 2_500_000;
+    private static final double FOREIGN_TAX_RATE = 0.22;
+
+    private final TaxYearTallyRepository taxYearTallyRepository;
+    private final TradeLogRepository tradeLogRepository;
+    private final UserRepository userRepository;
+    private final double usdKrwRate;
+
+    public TaxTallyService(TaxYearTallyRepository taxYearTallyRepository,
+                           TradeLogRepository tradeLogRepository,
+                           UserRepository userRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${tax.usd-krw-rate:1350}") double usdKrwRate) {
+        super(tradeLogRepository, transactionTemplate, "연간 세금 집계");
+        this.taxYearTallyRepository = taxYearTallyRepository;
+        this.tradeLogRepository = tradeLogRepository;
+        this.userRepository = userRepository;
+        this.usdKrwRate = usdKrwRate;
+    }
+
+    @Transactional(readOnly = true)
+    public TaxEstimateDto estimate(Long userId, int year) {
+        return taxYearTallyRepository.findByUserIdAndTaxYear(userId, year)
+                .map(tally -> new TaxEstimateDto(year, tally.getForeignGain(), tally.getForeignLoss(),
+                        tally.getForeignSellCount(), usdKrwRate, FOREIGN_BASIC_DEDUCTION, FOREIGN_TAX_RATE,
+                        tally.getTransactionTax()))
+                .orElseGet(() -> new TaxEstimateDto(year, 0, 0, 0, usdKrwRate, FOREIGN_BASIC_DEDUCTION,
+                        FOREIGN_TAX_RATE, 0));
+    }
+
+    @Override
+    protected Integer keyOf(TradeLogSnapshot snapshot) {
+        return snapshot.getTradeDate().getYear();
+    }
+
+    @Override
+    protected YearDelta newDelta() {
+        return new YearDelta();
+    }
+
+    //TradeLogRepository.findTaxYearTallies 와 같은 기준. 거래세는 모든 기록, 양도 손익은 해외 매도만
+    @Override
+    protected void add(YearDelta delta, TradeLogSnapshot snapshot, int sign) {
+        delta.transactionTax += sign * (snapshot.getTax() != null ? snapshot.getTax() : 0.0);
+        if (snapshot.getMarketType() != MarketType.USA || snapshot.getTradeType() != TradeType.SELL) return;
+        double pl = snapshot.getRealizedPL() != null ? snapshot.getRealizedPL() : 0.0;
+        if (pl > 0) delta.foreignGain += sign * pl;
+        if (pl < 0) delta.foreignLoss += sign * pl;
+        delta.foreignSellCount += sign;
+    }
+
+    @Override
+    protected void upsert(Long userId, Integer year, YearDelta delta) {
+        taxYearTallyRepository.addYearly(userId, year, delta.foreignGain, delta.foreignLoss,
+                delta.foreignSellCount, delta.transactionTax);
+    }
+
+    @Override
+    protected void replaceUser(Long userId) {
+        taxYearTallyRepository.deleteByUser(userId);
+        List<TaxYearTally> rows = tradeLogRepository.findTaxYearTallies(userId).stream()
+                .map(row -> toTally(userId, row))
+                .collect(Collectors.toList());
+        taxYearTallyRepository.saveAll(rows);
+    }
+
+    private TaxYearTally toTally(Long userId, TaxYearTallyRowDto row) {
+        return TaxYearTally.builder()
+                .user(userRepository.getReferenceById(userId))
+                .taxYear(row.getTaxYear())
+                .foreignGain(row.getForeignGain())
+                .foreignLoss(row.getForeignLoss())
+                .foreignSellCount(row.getForeignSellCount())
+                .transactionTax(row.getTransactionTax())
+                .build();
+    }
+
+    //국내 매수처럼 세금과 상관없는 변경은 비어있음
+    static class YearDelta implements TradeLogRollup.Delta {
+        private double foreignGain;
+        private double foreignLoss;
+        private int foreignSellCount;
+        private double transactionTax;
+
+        @Override
+        public boolean isEmpty() {
+            return foreignGain == 0.0 && foreignLoss == 0.0 && foreignSellCount == 0 && transactionTax == 0.0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class TradeCalendarCache {
+    //유저별 월 캘린더 캐시. 값은 (일-1) 자리에 TradeType 비트를 OR 한 byte 배열
+    //오래 안 쓴 유저부터 밀어내고, 일지가 바뀌면 커밋 후 그 유저 것만 통째로 비움
+    private static final int MAX_USERS = 10_000;
+    private static final int MAX_MONTHS_PER_USER = 24;
+    private static final int STRIPES = 64;
+
+    private final Map<Long, Map<YearMonth, byte[]>> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Map<YearMonth, byte[]>> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+    //읽는 도중에 무효화된 유저 것을 덮어쓰지 않도록 유저 id 구간별로 무효화 횟수를 셈 (TradeLogColumnCache 와 같은 방식)
+    private final long[] generations = new long[STRIPES];
+
+    public byte[] get(Long userId, YearMonth month, Supplier<byte[]> loader) {
+        long generation;
+        synchronized (cache) {
+            Map<YearMonth, byte[]> months = cache.get(userId);
+            byte[] days = months != null ? months.get(month) : null;
+            if (days != null) return days;
+            generation = generations[stripe(userId)];
+        }
+        byte[] loaded = loader.get();
+        synchronized (cache) {
+            if (generations[stripe(userId)] != generation) return loaded; //읽는 사이에 바뀜. 이번 결과만 쓰고 저장은 안 함
+            cache.computeIfAbsent(userId, id -> newMonthMap()).put(month, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        synchronized (cache) {
+            generations[stripe(userId)]++;
+            cache.remove(userId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTradeLogChanged(TradeLogChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+
+    private static Map<YearMonth, byte[]> newMonthMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, byte[]> eldest) {
+                return size() > MAX_MONTHS_PER_USER;
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.sync.entity.SyncEntityType;
+import com.example.stockLog.sync.service.SyncService;
+import com.example.stockLog.tradelog.dto.TradeLogBulkEditRequestDto;
+import com.example.stockLog.tradelog.dto.TradeLogBulkEditResponseDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.Tag;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.repository.AiAnalysisRepository;
+import com.example.stockLog.tradelog.repository.TradeLogJournalRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.repository.TradeLogSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TradeLogBulkEditService {
+    //조건으로 고른 내 매매일지를 id 청크 단위 UPDATE/DELETE 로 한 번에 고침
+    //청크마다 따로 커밋해서 한 번에 잡는 행 잠금을 작게 유지 (CorporateActionService 와 같은 방식)
+    //updated_at 은 청크 트랜잭션 안에서 찍어야 모바일 동기화의 commit-lag 가 청크 하나 길이만 감당하면 됨 (SyncService)
+    //건별 수정(update)과 달리 AI 분석 상태는 건드리지 않음
+    private static final int CHUNK_SIZE = 1000;
+    private static final int ALL_TAG_BITS = Tag.toBits(Arrays.asList(Tag.values()));
+
+    private final TradeLogRepository tradeLogRepository;
+    private final AiAnalysisRepository aiAnalysisRepository;
+    private final TradeLogJournalRepository tradeLogJournalRepository;
+    private final BrokerRateBook brokerRateBook;
+    private final SyncService syncService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //태그만 바뀌므로 집계(손익, 캘린더)는 그대로
+    public TradeLogBulkEditResponseDto retag(Long userId, TradeLogBulkEditRequestDto dto) {
+        int addBits = Tag.toBits(dto.getAddTags());
+        int removeBits = Tag.toBits(dto.getRemoveTags());
+        if (addBits == 0 && removeBits == 0) {
+            throw new IllegalArgumentException("붙이거나 뗄 태그를 하나 이상 선택해주세요.");
+        }
+        if ((addBits & removeBits) != 0) {
+            throw new IllegalArgumentException("같은 태그를 동시에 붙이고 뗄 수 없습니다.");
+        }
+        int keepBits = ALL_TAG_BITS & ~removeBits;
+        long rows = forEachChunk(userId, dto,
+                ids -> tradeLogRepository.retagByIds(userId, ids, addBits, keepBits, LocalDateTime.now()));
+        return new TradeLogBulkEditResponseDto(rows);
+    }
+
+    public TradeLogBulkEditResponseDto changeBroker(Long userId, TradeLogBulkEditRequestDto dto) {
+        Broker broker = dto.getTargetBroker();
+        if (broker == null) {
+            throw new IllegalArgumentException("바꿀 증권사를 선택해주세요.");
+        }
+        //수수료율은 시장, 체결일마다 다르므로 같은 id 청크에 요율 구간별 UPDATE 를 이어서 돌림 (보통 시장당 1~2개)
+        long rows = forEachChunk(userId, dto, ids -> {
+            LocalDateTime now = LocalDateTime.now();
+            int changed = tradeLogRepository.changeBrokerByIds(userId, ids, broker, now);
+            for (MarketType marketType : MarketType.values()) {
+                for (BrokerRateBook.RatePeriod period : brokerRateBook.periodsOf(broker, marketType)) {
+                    tradeLogRepository.repriceByIds(userId, ids, marketType, period.getFrom(), period.getTo(),
+                            period.isLatest(), period.getRate(), now);
+                }
+            }
+            tradeLogRepository.repriceWithoutMarketByIds(userId, ids, brokerRateBook.rateOf(broker, null, null), now);
+            return changed;
+        });
+        publishBulk(userId, rows);
+        return new TradeLogBulkEditResponseDto(rows);
+    }
+
+    //FK 순서대로 AI 분석 -> 일지 본문 -> 매매일지를 같은 id 청크로 지움
+    public TradeLogBulkEditResponseDto delete(Long userId, TradeLogBulkEditRequestDto dto) {
+        long rows = forEachChunk(userId, dto, ids -> {
+            aiAnalysisRepository.deleteByTradeLogIds(ids);
+            tradeLogJournalRepository.deleteByTradeLogIds(ids);
+            syncService.recordDeleted(userId, SyncEntityType.TRADE_LOG, ids);
+            return tradeLogRepository.deleteByIds(userId, ids);
+        });
+        publishBulk(userId, rows);
+        return new TradeLogBulkEditResponseDto(rows);
+    }
+
+    private long forEachChunk(Long userId, TradeLogBulkEditRequestDto dto, Function<List<Long>, Integer> action) {
+        if (!dto.hasFilter()) {
+            throw new IllegalArgumentException("기간, 티커, 증권사, 태그 중 하나 이상의 조건이 필요합니다.");
+        }
+        Specification<TradeLog> filter = Specification.allOf(Arrays.asList(
+                TradeLogSpecifications.ownedBy(userId),
+                TradeLogSpecifications.tradeDateBetween(dto.getStartDate(), dto.getEndDate()),
+                TradeLogSpecifications.tickerEquals(dto.getTicker()),
+                TradeLogSpecifications.brokerEquals(dto.getBroker()),
+                TradeLogSpecifications.hasAllTags(Tag.toBits(dto.getTags()))));
+
+        long total = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            long[] chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = tradeLogRepository.findIds(
+                        filter.and(TradeLogSpecifications.idGreaterThan(afterId)), CHUNK_SIZE);
+                if (ids.isEmpty()) return null;
+                return new long[]{action.apply(ids), ids.get(ids.size() - 1)};
+            });
+            if (chunk == null) break;
+            total += chunk[0];
+            lastId = chunk[1];
+        }
+        log.info("매매일지 일괄 처리: user={}, {}행", userId, total);
+        return total;
+    }
+
+    //손익/캘린더 집계는 그 유저 것만 다시 계산
+    private void publishBulk(Long userId, long rows) {
+        if (rows == 0) return;
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(TradeLogChangedEvent.bulk(userId)));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.TradeLogColumnRowDto;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class TradeLogColumnCache {
+    //유저별 TradeLogColumns 캐시. tradelog.column-cache.enabled=true 일 때만 씀 (기본은 꺼짐 -> 기존처럼 DB 집계)
+    //처음 조회할 때 한 번 읽어 두고, 일지가 바뀌면 커밋 후 그 유저 것만 버림 -> 다음 조회 때 DB 에서 다시 읽음 (DB 가 원본)
+    //전체 크기가 예산을 넘으면 오래 안 쓴 유저부터 밀어냄
+    private static final int STRIPES = 64;
+
+    private final TradeLogRepository tradeLogRepository;
+    private final boolean enabled;
+    private final long maxBytes;
+
+    private final LinkedHashMap<Long, TradeLogColumns> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    //읽는 도중에 무효화된 유저 것을 덮어쓰지 않도록 유저 id 구간별로 무효화 횟수를 셈
+    private final long[] generations = new long[STRIPES];
+
+    public TradeLogColumnCache(TradeLogRepository tradeLogRepository,
+                               @Value("${tradelog.column-cache.enabled:false}") boolean enabled,
+                               @Value("${tradelog.column-cache.max-megabytes:64}") long maxMegabytes) {
+        this.tradeLogRepository = tradeLogRepository;
+        this.enabled = enabled;
+        this.maxBytes = maxMegabytes * 1024 * 1024;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //호출하는 쪽 트랜잭션 안에서 불러야 함 (스트림 조회)
+    public TradeLogColumns get(Long userId) {
+        long generation;
+        synchronized (cache) {
+            TradeLogColumns columns = cache.get(userId);
+            if (columns != null) return columns;
+            generation = generations[stripe(userId)];
+        }
+
+        TradeLogColumns loaded;
+        try (Stream<TradeLogColumnRowDto> rows = tradeLogRepository.streamColumnRows(userId)) {
+            Iterator<TradeLogColumnRowDto> iterator = rows.iterator();
+            loaded = TradeLogColumns.load(iterator);
+        }
+
+        synchronized (cache) {
+            if (generations[stripe(userId)] != generation) return loaded; //읽는 사이에 바뀜. 이번 결과만 쓰고 저장은 안 함
+            TradeLogColumns previous = cache.put(userId, loaded);
+            if (previous != null) totalBytes -= previous.sizeInBytes();
+            totalBytes += loaded.sizeInBytes();
+            evictOverBudget(userId);
+        }
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        synchronized (cache) {
+            generations[stripe(userId)]++;
+            TradeLogColumns removed = cache.remove(userId);
+            if (removed != null) totalBytes -= removed.sizeInBytes();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTradeLogChanged(TradeLogChangedEvent event) {
+        if (enabled) evict(event.getUserId());
+    }
+
+    //방금 넣은 유저는 예산보다 커도 남겨 둠 (바로 다음 조회에서 다시 읽지 않도록)
+    private void evictOverBudget(Long keep) {
+        Iterator<Map.Entry<Long, TradeLogColumns>> it = cache.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Long, TradeLogColumns> eldest = it.next();
+            if (eldest.getKey().equals(keep)) continue;
+            totalBytes -= eldest.getValue().sizeInBytes();
+            it.remove();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+}
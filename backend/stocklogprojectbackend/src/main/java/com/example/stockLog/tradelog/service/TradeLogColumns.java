@@ -0,0 +1,156 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.graph.dto.StrategyResponseDto;
+import com.example.stockLog.tradelog.dto.TradeLogColumnRowDto;
+import com.example.stockLog.tradelog.dto.TradeSummaryDto;
+import com.example.stockLog.tradelog.entity.TradeType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+//한 유저의 매매일지에서 결산/캘린더/그래프가 쓰는 필드만 열(column)별 기본형 배열로 들고 있는 읽기 전용 스냅샷
+//날짜(epoch day) 오름차순이라 기간은 이진 탐색으로 자르고, 집계는 그 구간만 배열을 훑음
+//null 인 실수 값은 NaN, null 인 enum 은 -1 로 저장. 집계 결과는 DB 쿼리(getSummary, findTradeDays, findMonthlyRollups)와 같게 맞춤 (TradeLogColumnsTest)
+public final class TradeLogColumns {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int size;
+    private final int[] epochDays;
+    private final double[] realizedPLs;
+    private final double[] ratesOfReturn;
+    private final byte[] tradeTypes;
+
+    private TradeLogColumns(int size, int[] epochDays, double[] realizedPLs, double[] ratesOfReturn, byte[] tradeTypes) {
+        this.size = size;
+        this.epochDays = epochDays;
+        this.realizedPLs = realizedPLs;
+        this.ratesOfReturn = ratesOfReturn;
+        this.tradeTypes = tradeTypes;
+    }
+
+    //rows 는 (tradeDate, id) 오름차순이어야 함 (streamColumnRows)
+    public static TradeLogColumns load(Iterator<TradeLogColumnRowDto> rows) {
+        int capacity = INITIAL_CAPACITY;
+        int[] epochDays = new int[capacity];
+        double[] realizedPLs = new double[capacity];
+        double[] ratesOfReturn = new double[capacity];
+        byte[] tradeTypes = new byte[capacity];
+
+        int n = 0;
+        while (rows.hasNext()) {
+            TradeLogColumnRowDto row = rows.next();
+            if (n == capacity) {
+                capacity *= 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                realizedPLs = Arrays.copyOf(realizedPLs, capacity);
+                ratesOfReturn = Arrays.copyOf(ratesOfReturn, capacity);
+                tradeTypes = Arrays.copyOf(tradeTypes, capacity);
+            }
+            epochDays[n] = (int) row.getTradeDate().toEpochDay();
+            realizedPLs[n] = orNaN(row.getRealizedPL());
+            ratesOfReturn[n] = orNaN(row.getRateOfReturn());
+            tradeTypes[n] = ordinal(row.getTradeType());
+            n++;
+        }
+        //남는 칸은 메모리 예산을 잡아먹으므로 딱 맞게 줄임
+        return new TradeLogColumns(n, Arrays.copyOf(epochDays, n), Arrays.copyOf(realizedPLs, n),
+                Arrays.copyOf(ratesOfReturn, n), Arrays.copyOf(tradeTypes, n));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    //대략적인 힙 사용량. 캐시의 메모리 예산 계산용 (행당 4+8*2+1 바이트 + 배열 헤더)
+    public long sizeInBytes() {
+        return 64L + 4 * 16L + (long) size * (4 + 8 * 2 + 1);
+    }
+
+    //SUM(realizedPL), COUNT, AVG(rateOfReturn) 과 같음. SUM 은 값이 하나도 없으면 null
+    public TradeSummaryDto summary(LocalDate start, LocalDate end) {
+        int from = lowerBound((int) start.toEpochDay());
+        int to = lowerBound((int) end.toEpochDay() + 1);
+        double plSum = 0;
+        int plCount = 0;
+        double rateSum = 0;
+        int rateCount = 0;
+        for (int i = from; i < to; i++) {
+            double pl = realizedPLs[i];
+            if (pl == pl) { // NaN(null) 제외
+                plSum += pl;
+                plCount++;
+            }
+            double rate = ratesOfReturn[i];
+            if (rate == rate) {
+                rateSum += rate;
+                rateCount++;
+            }
+        }
+        return new TradeSummaryDto(plCount == 0 ? null : plSum, (long) (to - from),
+                rateCount == 0 ? null : rateSum / rateCount);
+    }
+
+    //캘린더용. (일-1) 자리에 그날 TradeType 비트를 OR
+    public byte[] dayBits(YearMonth month) {
+        byte[] days = new byte[month.lengthOfMonth()];
+        int first = (int) month.atDay(1).toEpochDay();
+        int from = lowerBound(first);
+        int to = lowerBound(first + days.length);
+        TradeType[] types = TradeType.values();
+        for (int i = from; i < to; i++) {
+            if (tradeTypes[i] < 0) continue;
+            days[epochDays[i] - first] |= types[tradeTypes[i]].getBit();
+        }
+        return days;
+    }
+
+    //그래프용 1~12월 손익 합계, 매도 건수, 수익 건수. 매매가 없던 달은 0
+    public List<StrategyResponseDto> monthly(int year) {
+        double[] pl = new double[12];
+        int[] trades = new int[12];
+        int[] wins = new int[12];
+        int sell = TradeType.SELL.ordinal();
+        LocalDate cursor = LocalDate.of(year, 1, 1);
+        for (int m = 0; m < 12; m++, cursor = cursor.plusMonths(1)) {
+            int from = lowerBound((int) cursor.toEpochDay());
+            int to = lowerBound((int) cursor.plusMonths(1).toEpochDay());
+            for (int i = from; i < to; i++) {
+                double value = realizedPLs[i];
+                if (value == value) {
+                    pl[m] += value;
+                    if (value > 0) wins[m]++;
+                }
+                if (tradeTypes[i] == sell) trades[m]++;
+            }
+        }
+        List<StrategyResponseDto> result = new ArrayList<>(12);
+        for (int m = 0; m < 12; m++) {
+            result.add(new StrategyResponseDto(m + 1, pl[m], trades[m], wins[m]));
+        }
+        return result;
+    }
+
+    //epochDay 이상인 첫 위치
+    private int lowerBound(int epochDay) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDays[mid] < epochDay) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static double orNaN(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? -1 : (byte) value.ordinal();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.TradeLogExportFormat;
+import com.example.stockLog.tradelog.dto.TradeLogExportRowDto;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.opencsv.CSVWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TradeLogExportService {
+    //매매기록 전체를 CSV/XLSX 로 내보냄. fetch size 커서로 읽으면서 바로 응답에 써서 행 수와 상관없이 메모리는 일정하고,
+    //헤더부터 바로 내려감. 스트림은 트랜잭션이 열려있는 동안만 읽을 수 있어서 쓰기까지 이 안에서 끝냄
+    //헤더 이름은 가져오기(TradeLogImportService)의 컬럼 별칭과 같아서 내보낸 파일을 그대로 다시 올릴 수 있음
+    //(티커 말고 매도 사유부터 뒤쪽 컬럼은 참고용이라 가져오기에서는 무시됨)
+    //모든 행에 fingerprint 가 있어서 다시 올리면 중복으로 걸러짐. 티커가 있으면 종목명 대신 티커로 식별해서 종목명이 보정돼도 걸러짐
+    //단 저장 뒤 직접 날짜/티커/단가/수량을 고친 행은 처음 값 기준이라 새 행으로 들어감
+    private static final List<String> HEADER = List.of("거래일자", "종목명", "매매구분", "체결단가", "체결수량", "매입단가", "메모",
+            "매도 사유", "티커", "증권사", "시장", "실현손익", "수익률");
+    private static final int FLUSH_ROWS = 500;
+
+    private final TradeLogRepository tradeLogRepository;
+
+    @Transactional(readOnly = true)
+    public void export(Long userId, TradeLogExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TradeLogExportRowDto> rows = tradeLogRepository.streamExportRows(userId)) {
+            if (format == TradeLogExportFormat.XLSX) writeXlsx(rows.iterator(), out);
+            else writeCsv(rows.iterator(), out);
+        }
+    }
+
+    //엑셀에서 한글이 깨지지 않도록 BOM 을 붙임 (가져오기에서는 BOM 을 떼고 읽음)
+    private void writeCsv(Iterator<TradeLogExportRowDto> rows, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        CSVWriter csv = new CSVWriter(writer);
+        csv.writeNext(HEADER.toArray(new String[0]), false);
+        csv.flush();
+        for (int count = 1; rows.hasNext(); count++) {
+            csv.writeNext(cells(rows.next()).stream().map(TradeLogExportService::text).toArray(String[]::new), false);
+            if (count % FLUSH_ROWS == 0) csv.flush();
+        }
+        csv.flush();
+    }
+
+    private void writeXlsx(Iterator<TradeLogExportRowDto> rows, OutputStream out) throws IOException {
+        try (XlsxSheetWriter sheet = new XlsxSheetWriter(out, "매매일지")) {
+            sheet.writeRow(HEADER);
+            sheet.flush();
+            for (int count = 1; rows.hasNext(); count++) {
+                sheet.writeRow(cells(rows.next()));
+                if (count % FLUSH_ROWS == 0) sheet.flush();
+            }
+        }
+    }
+
+    //HEADER 순서
+    private static List<Object> cells(TradeLogExportRowDto row) {
+        return Arrays.asList(
+                row.getTradeDate(),
+                row.getStockName(),
+                row.getTradeType() == null ? null : row.getTradeType() == TradeType.SELL ? "매도" : "매수",
+                row.getExecutionPrice(),
+                row.getExecutedQuantity(),
+                row.getPurchasePrice(),
+                row.getReasonForBuy(),
+                row.getReasonForSale(),
+                row.getTicker(),
+                row.getBroker() == null ? null : row.getBroker().getName(),
+                row.getMarketType() == null ? null : row.getMarketType().name(),
+                row.getRealizedPL(),
+                row.getRateOfReturn());
+    }
+
+    //CSV 용. 숫자는 지수 표기 없이 (1.0E7 -> 10000000)
+    private static String text(Object value) {
+        if (value == null) return "";
+        if (value instanceof Double number) return BigDecimal.valueOf(number).stripTrailingZeros().toPlainString();
+        return value.toString();
+    }
+}
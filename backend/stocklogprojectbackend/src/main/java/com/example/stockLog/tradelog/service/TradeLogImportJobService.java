@@ -0,0 +1,180 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.tradelog.dto.TradeLogImportErrorDto;
+import com.example.stockLog.tradelog.dto.TradeLogImportJobResponseDto;
+import com.example.stockLog.tradelog.entity.ImportJobStatus;
+import com.example.stockLog.tradelog.entity.TradeLogImportError;
+import com.example.stockLog.tradelog.entity.TradeLogImportJob;
+import com.example.stockLog.tradelog.repository.TradeLogImportErrorRepository;
+import com.example.stockLog.tradelog.repository.TradeLogImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class TradeLogImportJobService {
+    //CSV/XLSX 가져오기를 백그라운드 작업으로 돌림. 업로드는 임시 파일로 옮겨 두고 작업 id 만 바로 돌려줌
+    //워커 풀(importExecutor)은 크기가 정해져 있고, 한 유저가 동시에 돌릴 수 있는 작업 수도 제한해서 다른 유저가 밀리지 않게 함
+    private static final int MAX_ACTIVE_JOBS_PER_USER = 1;
+    private static final int MAX_STORED_ERRORS = 1000;
+    private static final int ERRORS_IN_STATUS = 100;
+    private static final List<ImportJobStatus> ACTIVE = List.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING);
+
+    private final TradeLogImportJobRepository importJobRepository;
+    private final TradeLogImportErrorRepository importErrorRepository;
+    private final UserRepository userRepository;
+    private final TradeLogImportService tradeLogImportService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor importExecutor;
+
+    public TradeLogImportJobService(TradeLogImportJobRepository importJobRepository,
+                                    TradeLogImportErrorRepository importErrorRepository,
+                                    UserRepository userRepository,
+                                    TradeLogImportService tradeLogImportService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("importExecutor") ThreadPoolTaskExecutor importExecutor) {
+        this.importJobRepository = importJobRepository;
+        this.importErrorRepository = importErrorRepository;
+        this.userRepository = userRepository;
+        this.tradeLogImportService = tradeLogImportService;
+        this.transactionTemplate = transactionTemplate;
+        this.importExecutor = importExecutor;
+    }
+
+    public Long submit(Long userId, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        boolean xlsx = isXlsx(file.getOriginalFilename());
+        Long jobId = transactionTemplate.execute(status -> {
+            //같은 유저의 동시 업로드가 둘 다 0건으로 세고 들어오지 않도록 유저 행을 잠근 채로 세고 넣음
+            User user = userRepository.findForUpdate(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("user not found"));
+            if (importJobRepository.countByUserIdAndStatusIn(userId, ACTIVE) >= MAX_ACTIVE_JOBS_PER_USER) {
+                throw new IllegalStateException("이미 진행 중인 가져오기 작업이 있습니다. 끝난 뒤에 다시 시도해주세요.");
+            }
+            TradeLogImportJob job = TradeLogImportJob.builder()
+                    .user(user)
+                    .fileName(file.getOriginalFilename())
+                    .build();
+            return importJobRepository.save(job).getId();
+        });
+
+        //요청이 끝나면 업로드 파일이 지워지므로 작업이 읽을 임시 파일로 옮겨 둠
+        Path upload = Files.createTempFile("tradelog-import-" + jobId + "-", xlsx ? ".xlsx" : ".csv");
+        try {
+            file.transferTo(upload);
+            importExecutor.execute(() -> run(jobId, userId, upload, xlsx));
+        } catch (IOException | TaskRejectedException e) {
+            Files.deleteIfExists(upload);
+            finish(jobId, e instanceof TaskRejectedException
+                    ? "가져오기 작업이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요." : "업로드 파일 저장 실패: " + e.getMessage());
+            if (e instanceof TaskRejectedException) {
+                throw new IllegalStateException("가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            throw (IOException) e;
+        }
+        return jobId;
+    }
+
+    @Transactional(readOnly = true)
+    public TradeLogImportJobResponseDto getJob(Long userId, Long jobId) {
+        TradeLogImportJob job = importJobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("가져오기 작업을 찾을 수 없습니다. ID: " + jobId));
+        List<TradeLogImportErrorDto> errors = importErrorRepository
+                .findByJobIdOrderByLineNumber(jobId, PageRequest.of(0, ERRORS_IN_STATUS))
+                .stream()
+                .map(TradeLogImportErrorDto::new)
+                .collect(Collectors.toList());
+        return new TradeLogImportJobResponseDto(job, errors);
+    }
+
+    //서버가 꺼지면 임시 파일과 워커가 같이 사라지므로, 남아 있는 진행 중 작업은 실패로 정리 (안 하면 유저가 새 작업을 못 올림)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedJobs() {
+        int jobs = importJobRepository.failActiveJobs("서버 재시작으로 중단되었습니다. 다시 업로드해주세요.", LocalDateTime.now());
+        if (jobs > 0) log.info("중단된 가져오기 작업 {}건을 실패로 정리", jobs);
+    }
+
+    //확장자로 구분. 옛 엑셀 형식(.xls)은 행 단위로 읽을 수 없어서 받지 않음
+    private static boolean isXlsx(String fileName) {
+        String name = fileName == null ? "" : fileName.toLowerCase();
+        if (name.endsWith(".xls")) {
+            throw new IllegalArgumentException(".xls 형식은 지원하지 않습니다. .xlsx 나 .csv 로 저장해서 올려주세요.");
+        }
+        return name.endsWith(".xlsx");
+    }
+
+    private void run(Long jobId, Long userId, Path upload, boolean xlsx) {
+        transactionTemplate.executeWithoutResult(status -> findJob(jobId).markRunning());
+        AtomicLong storedErrors = new AtomicLong();
+        //청크 트랜잭션 안에서 진행 상황과 건너뛴 행 사유를 같이 기록
+        ImportProgressListener listener = (totalRows, savedRows, duplicateRows, errors) -> {
+            findJob(jobId).progress(totalRows, savedRows, duplicateRows);
+            List<TradeLogImportError> rows = errors.stream()
+                    .limit(Math.max(0, MAX_STORED_ERRORS - storedErrors.get()))
+                    .map(error -> TradeLogImportError.builder()
+                            .jobId(jobId)
+                            .lineNumber(error.getLineNumber())
+                            .reason(error.getReason())
+                            .build())
+                    .collect(Collectors.toList());
+            importErrorRepository.saveAll(rows);
+            storedErrors.addAndGet(rows.size());
+        };
+        try {
+            if (xlsx) {
+                tradeLogImportService.importXlsx(upload, userId, listener);
+            } else {
+                try (InputStream in = Files.newInputStream(upload)) {
+                    tradeLogImportService.importCsv(in, userId, listener);
+                }
+            }
+            finish(jobId, null);
+        } catch (Exception e) {
+            log.error("가져오기 작업 실패 (id={}): {}", jobId, e.getMessage(), e);
+            finish(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", upload);
+            }
+        }
+    }
+
+    //errorMessage 가 null 이면 성공
+    private void finish(Long jobId, String errorMessage) {
+        transactionTemplate.executeWithoutResult(status -> {
+            TradeLogImportJob job = findJob(jobId);
+            if (errorMessage == null) job.complete();
+            else job.fail(errorMessage);
+        });
+    }
+
+    private TradeLogImportJob findJob(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("가져오기 작업을 찾을 수 없습니다. ID: " + jobId));
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.tradelog.dto.TradeLogImportErrorDto;
+import com.example.stockLog.tradelog.dto.TradeLogImportResultDto;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeLogJournal;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.dto.FingerprintCountDto;
+import com.example.stockLog.tradelog.repository.TradeLogBatchWriter;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TradeLogImportService {
+    //증권사 내보내기 CSV 가져오기. 파일 전체를 읽지 않고 한 행씩 읽어서 CHUNK_SIZE 개마다 JDBC 배치로 넣고 커밋
+    //-> 10만 행이어도 메모리에는 한 청크만 있음. 청크마다 커밋하므로 중간에 실패하면 앞 청크까지는 남음
+    //청크마다 따로 커밋해야 해서 클래스 전체에 @Transactional 을 걸지 않음
+    //겹치는 기간의 내보내기를 다시 올려도 두 번 저장되지 않도록 행마다 fingerprint 를 붙이고 청크 단위로 이미 있는지 확인함
+    private static final int CHUNK_SIZE = 1000;
+    //행마다 쓰는 정규식/포맷터는 한 번만 만듦
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    private static final Pattern NON_NUMERIC = Pattern.compile("[^0-9.-]");
+    private static final Pattern SERIAL_DATE = Pattern.compile("\\d{1,6}(\\.\\d+)?");
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+    private static final DateTimeFormatter DATE_FORMAT = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy")
+            .appendLiteral("-")
+            .appendValue(ChronoField.MONTH_OF_YEAR)
+            .appendLiteral("-")
+            .appendValue(ChronoField.DAY_OF_MONTH)
+            .toFormatter();
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("stockName", "tradeDate", "executionPrice", "executedQuantity");
+
+    private final UserRepository userRepository;
+    private final TradeLogBatchWriter tradeLogBatchWriter;
+    private final TradeLogRepository tradeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TradeLogImportResultDto importCsv(InputStream in, Long userId, ImportProgressListener listener) throws IOException {
+        return importRows(new CsvRowReader(in), userId, listener);
+    }
+
+    //엑셀에서 옮겨오는 유저용. 첫 번째 시트를 CSV 와 같은 방식(헤더 별칭, 청크 저장)으로 가져옴
+    public TradeLogImportResultDto importXlsx(Path file, Long userId, ImportProgressListener listener) throws IOException {
+        return importRows(new XlsxRowReader(file), userId, listener);
+    }
+
+    //읽기 -> 파싱 -> 검증 -> 배치 저장을 한 행씩 흘려보내고, 청크가 차면 저장하면서 listener 로 진행 상황을 알림
+    private TradeLogImportResultDto importRows(ImportRowReader rows, Long userId, ImportProgressListener listener) throws IOException {
+        ImportChunk chunk = new ImportChunk();
+        try (ImportRowReader reader = rows) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("user not found"));
+            String[] header = reader.readNext();
+            if (header == null) throw new IllegalArgumentException("빈 파일입니다.");
+
+            Map<String, Integer> idx = findColumnIndices(header);
+            log.info("가져오기 컬럼 매핑: {}", idx);
+            for (String required : REQUIRED_COLUMNS) {
+                if (!idx.containsKey(required)) {
+                    throw new IllegalArgumentException("필수 컬럼을 찾을 수 없습니다: " + required);
+                }
+            }
+
+            String[] data;
+            while ((data = reader.readNext()) != null) {
+                chunk.totalRows++;
+                try {
+                    chunk.add(toTradeLog(user, data, idx), getValue(data, idx, "memo"));
+                } catch (IllegalArgumentException e) {
+                    chunk.errors.add(new TradeLogImportErrorDto(reader.getLineNumber(), e.getMessage()));
+                }
+                if (chunk.isFull()) flush(userId, chunk, listener);
+            }
+        }
+        flush(userId, chunk, listener);
+        log.info("가져오기 완료: user={}, {}행 중 {}행 저장, 중복 {}행", userId, chunk.totalRows, chunk.savedRows, chunk.duplicateRows);
+        return new TradeLogImportResultDto(chunk.totalRows, chunk.savedRows, chunk.duplicateRows,
+                chunk.totalRows - chunk.savedRows - chunk.duplicateRows);
+    }
+
+    //한 청크 = 한 트랜잭션. 이미 있는 행을 걸러내고 매매일지/메모를 배치로 넣고, 집계는 같은 트랜잭션에서 청크만큼만 더함
+    private void flush(Long userId, ImportChunk chunk, ImportProgressListener listener) {
+        transactionTemplate.executeWithoutResult(status -> {
+            dropDuplicates(userId, chunk);
+            if (!chunk.logs.isEmpty()) {
+                List<Long> ids = tradeLogBatchWriter.insertAll(chunk.logs);
+                List<Object[]> journals = new ArrayList<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    if (!TradeLogJournal.hasContent(chunk.memos.get(i), null, null)) continue;
+                    journals.add(new Object[]{ids.get(i), chunk.memos.get(i), null, null});
+                }
+                tradeLogBatchWriter.insertJournals(journals);
+                eventPublisher.publishEvent(TradeLogChangedEvent.created(userId,
+                        chunk.logs.stream().map(TradeLogSnapshot::of).collect(Collectors.toList())));
+            }
+            listener.onChunk(chunk.totalRows, chunk.savedRows + chunk.logs.size(), chunk.duplicateRows, chunk.errors);
+        });
+        chunk.savedRows += chunk.logs.size();
+        chunk.logs.clear();
+        chunk.memos.clear();
+        chunk.errors.clear();
+    }
+
+    //같은 거래가 하루에 여러 번 있을 수 있어서(같은 가격으로 나눠 체결) 있다/없다가 아니라 개수로 비교함
+    //DB 에 같은 fingerprint 가 n 개 있으면 파일에서 처음 n 번 나온 것은 이미 저장된 것으로 보고 건너뜀
+    //처음 보는 fingerprint 만 DB 에 물어보므로, 이번 가져오기에서 넣은 행이 다시 세어지지 않음
+    private void dropDuplicates(Long userId, ImportChunk chunk) {
+        Set<String> unseen = new HashSet<>();
+        for (TradeLog tradeLog : chunk.logs) {
+            if (!chunk.existing.containsKey(tradeLog.getFingerprint())) unseen.add(tradeLog.getFingerprint());
+        }
+        if (!unseen.isEmpty()) {
+            for (String fingerprint : unseen) chunk.existing.put(fingerprint, 0L);
+            for (FingerprintCountDto row : tradeLogRepository.countByFingerprints(userId, unseen)) {
+                chunk.existing.put(row.getFingerprint(), row.getCount());
+            }
+        }
+        for (int i = chunk.logs.size() - 1; i >= 0; i--) {
+            //뒤에서부터 지워도 "앞에서 n 개"와 개수는 같음 (같은 fingerprint 끼리는 내용이 같으므로)
+            String fingerprint = chunk.logs.get(i).getFingerprint();
+            long remaining = chunk.existing.get(fingerprint);
+            if (remaining > 0) {
+                chunk.existing.put(fingerprint, remaining - 1);
+                chunk.logs.remove(i);
+                chunk.memos.remove(i);
+                chunk.duplicateRows++;
+            }
+        }
+    }
+
+    //검증에 실패하면 사유를 담아 IllegalArgumentException
+    private TradeLog toTradeLog(User user, String[] data, Map<String, Integer> idx) {
+        String sName = getValue(data, idx, "stockName");
+        if (sName == null || sName.isBlank()) throw new IllegalArgumentException("종목명이 없습니다.");
+        Double ePrice = parseNumeric(getValue(data, idx, "executionPrice"));
+        if (ePrice == null || ePrice <= 0) throw new IllegalArgumentException("단가가 없거나 0 이하입니다.");
+        Double eQty = parseNumeric(getValue(data, idx, "executedQuantity"));
+        if (eQty == null || eQty <= 0) throw new IllegalArgumentException("수량이 없거나 0 이하입니다.");
+        LocalDate sDate = parseDate(getValue(data, idx, "tradeDate"));
+        if (sDate == null) throw new IllegalArgumentException("날짜를 읽을 수 없습니다.");
+        String sType = getValue(data, idx, "tradeType");
+        //내보낸 파일에는 티커가 있음. 같이 저장해야 fingerprint 가 직접 입력한 원본 행과 같아짐
+        String ticker = getValue(data, idx, "ticker");
+        if (ticker != null && ticker.isBlank()) ticker = null;
+
+        Double pPrice = idx.containsKey("purchasePrice") ? parseNumeric(getValue(data, idx, "purchasePrice")) : null;
+        Double realizedPL = null;
+        Double rateOfReturn = null;
+
+        TradeType tradeType = parseTradeType(sType);
+        if (tradeType == TradeType.SELL && pPrice != null && pPrice > 0) {
+            realizedPL = (ePrice - pPrice) * eQty;
+            rateOfReturn = ((ePrice - pPrice) / pPrice) * 100;
+        }
+
+        TradeLog tradeLog = TradeLog.builder()
+                .user(user)
+                .stockName(sName)
+                .ticker(ticker == null ? null : ticker.trim())
+                .executionPrice(ePrice)
+                .executedQuantity(eQty)
+                .purchasePrice(pPrice)
+                .realizedPL(realizedPL)
+                .rateOfReturn(rateOfReturn)
+                .tradeDate(sDate)
+                .tradeType(tradeType)
+                .build();
+        tradeLog.initStatus();
+        tradeLog.assignFingerprint();
+        return tradeLog;
+    }
+
+    //저장 대기 중인 한 청크와 누적 카운트
+    private static class ImportChunk {
+        private final List<TradeLog> logs = new ArrayList<>(CHUNK_SIZE);
+        private final List<String> memos = new ArrayList<>(CHUNK_SIZE);
+        private final List<TradeLogImportErrorDto> errors = new ArrayList<>();
+        //fingerprint -> 이번 파일에서 앞으로 더 건너뛸 개수. 업로드 크기 제한(10MB)이 있어 파일 전체를 들고 있어도 됨
+        private final Map<String, Long> existing = new HashMap<>();
+        private long totalRows;
+        private long savedRows;
+        private long duplicateRows;
+
+        void add(TradeLog tradeLog, String memo) {
+            logs.add(tradeLog);
+            memos.add(memo);
+        }
+
+        //오류만 계속 쌓이는 파일도 진행 상황이 보이도록 오류 수도 같이 봄
+        boolean isFull() {
+            return logs.size() + errors.size() >= CHUNK_SIZE;
+        }
+    }
+
+    private static class CsvRowReader implements ImportRowReader {
+        private final CSVReader reader;
+
+        CsvRowReader(InputStream in) {
+            this.reader = new CSVReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public String[] readNext() throws IOException {
+            try {
+                return reader.readNext();
+            } catch (CsvValidationException e) {
+                throw new IllegalArgumentException("CSV 형식이 올바르지 않습니다: " + e.getMessage());
+            }
+        }
+
+        //따옴표 안에 줄바꿈이 있는 행은 그 행이 끝나는 줄 번호
+        @Override
+        public long getLineNumber() {
+            return reader.getLinesRead();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    //"Ticker" 는 종목 칸 하나만 있는 해외 증권사 파일 때문에 종목명으로 읽음
+    private static final Map<String, List<String>> COLUMN_ALIASES = Map.of(
+            "stockName", List.of("종목", "종목명", "주식", "Stock", "Ticker", "Item", "stock_name", "종목 이름"),
+            "ticker", List.of("티커", "종목코드", "종목 코드", "Symbol"),
+            "tradeDate", List.of("날짜", "거래일", "거래일자", "일시", "Date", "TradeDate", "trade_date"),
+            "tradeType", List.of("구분", "매매", "타입", "Action", "Type", "Side","매수/매도", "매수매도" ,"trade_type", "매매구분"),
+            "executionPrice", List.of("단가", "체결가", "가격", "Price", "AvgPrice", "체결 단가", "체결단가"),
+            "executedQuantity", List.of("수량", "수량(주)", "Quantity", "Qty", "Amount", "체결수량","체결 수량"),
+            "purchasePrice", List.of("매입단가", "매입가", "평균단가", "PurchasePrice", "purchase_price"),
+            "memo", List.of("메모", "사유", "매매사유", "비고", "Note", "Reason","매매 사유")
+    );
+
+    private Map<String, Integer> findColumnIndices(String[] header) {
+        Map<String, Integer> idxMap = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            //엑셀에서 저장한 UTF-8 CSV 는 첫 칸 앞에 BOM 이 붙어 있음
+            String cleanedHeader = WHITESPACE.matcher(header[i].replace("\uFEFF", "")).replaceAll("");
+            for (Map.Entry<String, List<String>> entry : COLUMN_ALIASES.entrySet()) {
+                for (String alias : entry.getValue()) {
+                    if (cleanedHeader.equalsIgnoreCase(alias.replaceAll("\\s", ""))) {
+                        idxMap.put(entry.getKey(), i);
+                        break;
+                    }
+                }
+            }
+        }
+        return idxMap;
+    }
+
+    private String getValue(String[] data, Map<String, Integer> map, String key) {
+        Integer index = map.get(key);
+        if (index == null || index >= data.length) return null; //뒤쪽 칸이 비어 있는 짧은 행
+        return data[index];
+    }
+
+    private Double parseNumeric(String input) {
+        if (input == null || input.trim().isEmpty()) return null;
+        try {
+            return Double.parseDouble(NON_NUMERIC.matcher(input).replaceAll(""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private LocalDate parseDate(String input) {
+        if (input == null || input.isBlank()) return null;
+        //엑셀 날짜 셀은 1899-12-30 부터의 일수로 저장됨 (시각은 소수점 아래)
+        if (SERIAL_DATE.matcher(input.trim()).matches()) {
+            return EXCEL_EPOCH.plusDays((long) Double.parseDouble(input.trim()));
+        }
+        String cleaned = WHITESPACE.matcher(input).replaceAll("").replace(".", "-").replace("/", "-");
+        if (cleaned.endsWith("-")) cleaned = cleaned.substring(0, cleaned.length() - 1);
+        try {
+            return LocalDate.parse(cleaned, DATE_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private TradeType parseTradeType(String input) {
+        if (input == null) return TradeType.BUY;
+        if (input.contains("매도") || input.equalsIgnoreCase("SELL")) return TradeType.SELL;
+        return TradeType.BUY;
+    }
+}
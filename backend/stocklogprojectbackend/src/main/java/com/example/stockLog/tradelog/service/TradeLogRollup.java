@@ -0,0 +1,92 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//매매일지에서 파생되는 집계 테이블(월간 손익, 손익 큐브, 연간 세금 ...)의 공통 갱신 흐름
+//평소엔 이벤트의 전/후 스냅샷을 칸(K)별 차이(D)로 모아서 더하고, 대량 변경은 그 유저 것만 다시 계산
+//전체 재계산은 유저 단위 트랜잭션으로 나눠서 돌림. 하위 클래스는 칸을 고르는 법, 차이를 더하는 법, 저장하는 법만 정함
+@Slf4j
+public abstract class TradeLogRollup<K, D extends TradeLogRollup.Delta> {
+    private final TradeLogRepository tradeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String name; //로그용 집계 이름
+
+    protected TradeLogRollup(TradeLogRepository tradeLogRepository, TransactionTemplate transactionTemplate, String name) {
+        this.tradeLogRepository = tradeLogRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.name = name;
+    }
+
+    //일지를 쓰는 트랜잭션 안에서 바로 실행됨. 일지가 롤백되면 집계도 같이 롤백
+    @EventListener
+    public void onTradeLogChanged(TradeLogChangedEvent event) {
+        if (event.isBulk()) {
+            rebuildUser(event.getUserId());
+            return;
+        }
+        Map<K, D> deltas = new HashMap<>();
+        event.getBefore().forEach(snapshot -> accumulate(deltas, snapshot, -1));
+        event.getAfter().forEach(snapshot -> accumulate(deltas, snapshot, 1));
+        deltas.forEach((key, delta) -> {
+            if (delta.isEmpty()) return; // 메모만 고친 경우 등은 집계에 영향 없음
+            upsert(event.getUserId(), key, delta);
+        });
+    }
+
+    @Transactional
+    public void rebuildUser(Long userId) {
+        replaceUser(userId);
+    }
+
+    //유저마다 따로 커밋해서 한 번에 큰 트랜잭션이 생기지 않게 함
+    public int rebuildAll() {
+        List<Long> userIds = tradeLogRepository.findAllUserIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuildUser(userId));
+        }
+        log.info(">> [System] {} 재계산 완료: {}명", name, userIds.size());
+        return userIds.size();
+    }
+
+    @Async("adjustmentExecutor")
+    public void rebuildAllAsync() {
+        try {
+            rebuildAll();
+        } catch (Exception e) {
+            log.error("{} 재계산 실패: {}", name, e.getMessage(), e);
+        }
+    }
+
+    //날짜 없는 기록은 어느 칸에도 들어가지 않음
+    private void accumulate(Map<K, D> deltas, TradeLogSnapshot snapshot, int sign) {
+        if (snapshot.getTradeDate() == null) return;
+        add(deltas.computeIfAbsent(keyOf(snapshot), key -> newDelta()), snapshot, sign);
+    }
+
+    protected abstract K keyOf(TradeLogSnapshot snapshot);
+
+    protected abstract D newDelta();
+
+    //sign 은 이벤트 전 스냅샷이면 -1, 후 스냅샷이면 +1
+    protected abstract void add(D delta, TradeLogSnapshot snapshot, int sign);
+
+    protected abstract void upsert(Long userId, K key, D delta);
+
+    //그 유저 집계 행을 지우고 매매일지에서 다시 만듦 (rebuildUser 트랜잭션 안)
+    protected abstract void replaceUser(Long userId);
+
+    public interface Delta {
+        boolean isEmpty();
+    }
+}
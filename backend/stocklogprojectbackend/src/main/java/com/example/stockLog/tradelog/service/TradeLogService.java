@@ -2,42 +2,65 @@ package com.example.stockLog.tradelog.service;
 
 import com.example.stockLog.tradelog.dto.*;
 import com.example.stockLog.tradelog.entity.*;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.event.StockNameLookupEvent;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
 import com.example.stockLog.community.entity.User;
 import com.example.stockLog.tradelog.repository.AiAnalysisRepository;
-import com.example.stockLog.tradelog.repository.StockMasterRepository;
+import com.example.stockLog.tradelog.repository.TradeLogBatchWriter;
+import com.example.stockLog.tradelog.repository.TradeLogJournalRepository;
 import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.example.stockLog.tradelog.repository.TradeLogSpecifications;
 import com.example.stockLog.community.repository.UserRepository;
-import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
+import com.example.stockLog.sync.entity.SyncEntityType;
+import com.example.stockLog.sync.service.SyncService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(timeoutString = SyncService.WRITE_TIMEOUT)
 @Slf4j
 public class TradeLogService {
     private final TradeLogRepository tradeLogRepository;
     private final UserRepository userRepository;
     private final AiAnalysisService aiAnalysisService;
-    private final StockDataService stockDataService; // Yahoo API 서비스 주입
-    private final StockMasterRepository stockMasterRepository;
+    private final StockMasterDictionary stockMasterDictionary;
+    private final BrokerRateBook brokerRateBook;
     private final AiAnalysisRepository aiAnalysisRepository;
+    private final TradeLogJournalRepository tradeLogJournalRepository;
+    private final TradeCalendarCache tradeCalendarCache;
+    private final TradeLogColumnCache tradeLogColumnCache;
+    private final DividendScheduleCache dividendScheduleCache;
+    private final SyncService syncService;
+    private final TradeLogBatchWriter tradeLogBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
     @PersistenceContext
     private EntityManager em;
 
@@ -50,16 +73,85 @@ public class TradeLogService {
 
         validateTrade(dto);
 
-        String correctName = dto.getStockName();
-        try {
-            StockInfoDto stockInfo = stockDataService.getStockInfo(dto.getTicker());
-            if (stockInfo != null && stockInfo.getStockName() != null) {
-                correctName = stockInfo.getStockName();
+        //종목명 보정은 메모리 사전만 봄. 사전에 없으면 커밋 후 비동기로 외부 시트에서 찾음 (StockNameEnricher)
+        Optional<String> knownName = stockMasterDictionary.findName(dto.getTicker());
+        String correctName = knownName.orElse(dto.getStockName());
+
+        TradeLog tradeLog = buildTradeLog(user, dto, correctName);
+        tradeLog.initStatus();
+        TradeLog savedLog = tradeLogRepository.saveAndFlush(tradeLog);
+        saveJournal(savedLog, dto.getReasonForSale(), dto.getReasonForBuy(), dto.getChartImageUrl());
+        eventPublisher.publishEvent(TradeLogChangedEvent.created(userId, List.of(TradeLogSnapshot.of(savedLog))));
+        if (knownName.isEmpty() && dto.getTicker() != null && !dto.getTicker().isBlank()) {
+            eventPublisher.publishEvent(new StockNameLookupEvent(dto.getTicker(), correctName));
+        }
+        return savedLog.getId();
+    }
+
+    private static final int MAX_BULK_SIZE = 500;
+
+    //여러 체결을 한 번에 저장. 유저는 한 번만 찾고, 검증을 통과한 건만 JDBC 배치 INSERT 한 번으로 넣음
+    //검증 실패 건은 건너뛰고 결과에 사유를 담아 돌려줌 (나머지는 그대로 저장)
+    public BulkTradeLogResponseDto writeBulk(Long userId, List<TradeLogRequestDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("저장할 매매 기록이 없습니다.");
+        }
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 저장할 수 있습니다.");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("user not found"));
+
+        BulkTradeLogResultDto[] results = new BulkTradeLogResultDto[dtos.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<TradeLog> logs = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TradeLogRequestDto dto = dtos.get(i);
+            try {
+                if (dto == null) throw new IllegalArgumentException("빈 항목입니다.");
+                validateTrade(dto);
+                TradeLog tradeLog = buildTradeLog(user, dto,
+                        stockMasterDictionary.findName(dto.getTicker()).orElse(dto.getStockName()));
+                tradeLog.initStatus();
+                logs.add(tradeLog);
+                indexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = new BulkTradeLogResultDto(i, null, e.getMessage());
             }
-        } catch (Exception e) {
-            System.out.println("외부 API 연동 실패, 입력된 이름 사용: " + e.getMessage());
         }
 
+        //flush 되지 않은 변경이 JDBC INSERT 뒤로 밀리지 않도록 먼저 내보냄
+        em.flush();
+        List<Long> ids = tradeLogBatchWriter.insertAll(logs);
+
+        List<Object[]> journals = new ArrayList<>();
+        Map<String, StockNameLookupEvent> lookups = new LinkedHashMap<>();
+        for (int k = 0; k < ids.size(); k++) {
+            int i = indexes.get(k);
+            TradeLogRequestDto dto = dtos.get(i);
+            results[i] = new BulkTradeLogResultDto(i, ids.get(k), null);
+            if (TradeLogJournal.hasContent(dto.getReasonForBuy(), dto.getReasonForSale(), dto.getChartImageUrl())) {
+                journals.add(new Object[]{ids.get(k), dto.getReasonForBuy(), dto.getReasonForSale(), dto.getChartImageUrl()});
+            }
+            //사전에 없는 티커는 티커당 한 번만 보정 요청
+            if (dto.getTicker() != null && !dto.getTicker().isBlank()
+                    && stockMasterDictionary.findName(dto.getTicker()).isEmpty()) {
+                lookups.putIfAbsent(dto.getTicker().trim().toUpperCase(),
+                        new StockNameLookupEvent(dto.getTicker(), logs.get(k).getStockName()));
+            }
+        }
+        tradeLogBatchWriter.insertJournals(journals);
+
+        if (!logs.isEmpty()) {
+            eventPublisher.publishEvent(TradeLogChangedEvent.created(userId,
+                    logs.stream().map(TradeLogSnapshot::of).collect(Collectors.toList())));
+        }
+        lookups.values().forEach(eventPublisher::publishEvent);
+        return new BulkTradeLogResponseDto(ids.size(), dtos.size() - ids.size(), Arrays.asList(results));
+    }
+
+    //단건/일괄 저장이 같이 쓰는 계산과 매핑
+    private TradeLog buildTradeLog(User user, TradeLogRequestDto dto, String stockName) {
         TradeCalculation calc = calculateTradeValues(dto);
 
         // 🚀 수정 포인트: realizedPL 초기값을 0.0 대신 null로 설정
@@ -81,10 +173,12 @@ public class TradeLogService {
             }
         }
 
+        Integer dividend = dividendPerMonthOf(dto);
+
         // 3. 빌더에서 모든 필드를 정확히 매핑 (누락된 필드 추가)
         TradeLog tradeLog = TradeLog.builder()
                 .user(user)
-                .stockName(correctName)
+                .stockName(stockName)
                 .ticker(dto.getTicker())
                 .marketType(dto.getMarketType())
                 .broker(dto.getBroker())
@@ -100,19 +194,42 @@ public class TradeLogService {
                 .fee(calc.getFee())
                 .tax(calc.getTax())
                 .totalCost(calc.getTotalCost())
-                .reasonForBuy(dto.getReasonForBuy())
-                .reasonForSale(dto.getReasonForSale())
-                .tags(dto.getTags())
-                .chartImageUrl(dto.getChartImageUrl())
+                .tags(Tag.toSet(dto.getTags()))
+                .dividendStockName(dividend != null ? stockName : null)
+                .dividendPerMonth(dividend)
                 .build();
+        //직접 입력한 기록도 내보낸 파일을 다시 가져올 때 중복으로 걸러지도록 가져오기와 같은 fingerprint 를 붙임
+        tradeLog.assignFingerprint();
+        return tradeLog;
+    }
 
-        tradeLog.initStatus();
-        TradeLog savedLog = tradeLogRepository.saveAndFlush(tradeLog);
-        return savedLog.getId();
+    //매수 기록에 "이 수량이면 한 달 평균 배당이 얼마" 를 같이 저장 (최근 1년 배당 / 12, 종목 통화 기준). 배당 없는 종목은 null
+    private Integer dividendPerMonthOf(TradeLogRequestDto dto) {
+        if (dto.getTradeType() != TradeType.BUY || dto.getExecutedQuantity() == null || dto.getExecutedQuantity() <= 0) return null;
+        double annual = dividendScheduleCache.annualPerShare(dto.getTicker());
+        if (annual <= 0) return null;
+        return (int) Math.round(dto.getExecutedQuantity() * annual / 12);
+    }
+
+    //긴 글은 trade_log_journal 에 따로 저장. 아무것도 없으면 행을 만들지 않음
+    private void saveJournal(TradeLog tradeLog, String reasonForSale, String reasonForBuy, String chartImageUrl) {
+        Optional<TradeLogJournal> existing = tradeLog.getId() == null
+                ? Optional.empty() : tradeLogJournalRepository.findById(tradeLog.getId());
+        if (existing.isPresent()) {
+            existing.get().updateJournal(reasonForSale, reasonForBuy, chartImageUrl);
+            return;
+        }
+        if (!TradeLogJournal.hasContent(reasonForBuy, reasonForSale, chartImageUrl)) return;
+        tradeLogJournalRepository.save(TradeLogJournal.builder()
+                .tradeLog(tradeLog)
+                .reasonForSale(reasonForSale)
+                .reasonForBuy(reasonForBuy)
+                .chartImageUrl(chartImageUrl)
+                .build());
     }
 
 
-    @Transactional
+    @Transactional(timeoutString = SyncService.WRITE_TIMEOUT)
     public void update(Long tradeLogId, TradeLogRequestDto dto, Long userId) {
         TradeLog tradeLog = tradeLogRepository.findById(tradeLogId)
                 .orElseThrow(() -> new IllegalArgumentException("수정할 기록이 없습니다. ID: " + tradeLogId));
@@ -120,6 +237,7 @@ public class TradeLogService {
         if (!tradeLog.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("본인 기록만 수정 가능합니다.");
         }
+        TradeLogSnapshot before = TradeLogSnapshot.of(tradeLog);
 
         // 🚀 수정 시에도 서버에서 재계산 (0 저장 방지)
         Double realizedPL = null;
@@ -149,11 +267,12 @@ public class TradeLogService {
                 dto.getExecutedQuantity(),
                 calc.getTax() + calc.getFee(),
                 calc.getTotalCost(),
-                dto.getReasonForSale(),
-                dto.getReasonForBuy(),
-                dto.getTags(),
-                dto.getChartImageUrl()
+                dto.getTags()
         );
+        tradeLog.updateCharges(calc.getFee(), calc.getTax());
+        saveJournal(tradeLog, dto.getReasonForSale(), dto.getReasonForBuy(), dto.getChartImageUrl());
+        tradeLogRepository.touchUpdatedAt(tradeLogId, LocalDateTime.now()); //일지 본문만 바뀐 수정도 모바일 동기화에 잡히게
+        eventPublisher.publishEvent(TradeLogChangedEvent.updated(userId, before, TradeLogSnapshot.of(tradeLog)));
     }
 
     public void delete (Long tradeLogId, Long userId){
@@ -170,17 +289,11 @@ public class TradeLogService {
                 aiAnalysisRepository.findByTradeLog(tradeLog);
 
         aiAnalysisOptional.ifPresent(aiAnalysisRepository::delete);
+        tradeLogJournalRepository.findById(tradeLogId).ifPresent(tradeLogJournalRepository::delete);
 
         tradeLogRepository.deleteById(tradeLogId);
-    }
-
-    private String getCorrectStockName (String ticker, String inputName){
-        StockInfoDto stockInfo = stockDataService.getStockInfo(ticker);
-        if (stockInfo != null) return stockInfo.getStockName();
-
-        return stockMasterRepository.findById(ticker)
-                .map(StockMaster::getStockName)
-                .orElse(inputName);
+        syncService.recordDeleted(userId, SyncEntityType.TRADE_LOG, List.of(tradeLogId));
+        eventPublisher.publishEvent(TradeLogChangedEvent.deleted(userId, TradeLogSnapshot.of(tradeLog)));
     }
 
     private TradeCalculation calculateTradeValues (TradeLogRequestDto dto){
@@ -194,20 +307,18 @@ public class TradeLogService {
         return new TradeCalculation(fee, tax, totalCost);
     }
 
+    //국내 매도 거래세. 해외 양도세는 연 단위라 건별로 떼지 않고 TaxTallyService 가 연간 합계로 계산
     public double calculateTax (TradeLogRequestDto tradeLogRequestDto,double baseAmount){
-        if (tradeLogRequestDto.getTradeType() == TradeType.BUY) return 0;
-        return 0;
+        return SecuritiesTransactionTax.amountOf(tradeLogRequestDto.getMarketType(), tradeLogRequestDto.getTradeType(),
+                tradeLogRequestDto.getTradeDate(), baseAmount);
     }
 
     public double calculateFee (TradeLogRequestDto tradeLogRequestDto){
         if (tradeLogRequestDto.getExecutionPrice() == null || tradeLogRequestDto.getExecutedQuantity() == null) return 0;
-        double rate;
         double baseAmount = tradeLogRequestDto.getExecutionPrice() * tradeLogRequestDto.getExecutedQuantity();
-        if (tradeLogRequestDto.getMarketType().equals(MarketType.KOR)) {
-            rate = tradeLogRequestDto.getBroker().getDomesticRate();
-        } else {
-            rate = tradeLogRequestDto.getBroker().getForeignRate();
-        }
+        //체결일 기준 요율 (메모리 요율표, BrokerRateBook)
+        double rate = brokerRateBook.rateOf(tradeLogRequestDto.getBroker(), tradeLogRequestDto.getMarketType(),
+                tradeLogRequestDto.getTradeDate());
         double fee = baseAmount * rate;
         return Math.round(fee * 100) / 100.0;
     }
@@ -243,11 +354,28 @@ public class TradeLogService {
         tradeLog.initStatus();
     }
 
+    //AI 응답은 오래 걸릴 수 있어서 기다리는 동안 트랜잭션을 잡고 있지 않음 (쓰기 트랜잭션 시간 제한 sync.write-timeout-seconds)
+    //분석 중 표시와 프롬프트 조립, 결과 저장을 각각 짧은 트랜잭션으로 나눔
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String executeAiAnalysis(Long tradeLogId) {
+        String prompt = transactionTemplate.execute(status -> buildAnalysisPrompt(tradeLogId));
+
+        System.out.println(">>> [서비스] 프롬프트 조립 완료:");
+        System.out.println(prompt);
+
+        String result = aiAnalysisService.sendPrompt(prompt);
+        transactionTemplate.executeWithoutResult(status -> saveAnalysisResult(tradeLogId, result));
+        return result;
+    }
+
+    private String buildAnalysisPrompt(Long tradeLogId) {
         TradeLog tradeLog = tradeLogRepository.findById(tradeLogId)
                 .orElseThrow(() -> new IllegalArgumentException("매매 기록이 없습니다"));
 
         tradeLog.markAsAnalyzing();
+        String reasonForSale = tradeLogJournalRepository.findById(tradeLogId)
+                .map(TradeLogJournal::getReasonForSale)
+                .orElse(null);
 
         String promptTemplate = """
             너는 주식 투자 심리 전문가이자 냉철한 자산관리사야. 아래의 매매 기록을 보고, 유저의 '투자 심리'와 '행동'을 분석해서 조언해줘.
@@ -265,23 +393,16 @@ public class TradeLogService {
             3. 마지막에는 '남에게 이끌리지 않는 매매'와 '충동 구매 지양'을 강조하며 토스(Toss) 스타일로 친절하게 3문장으로 요약해줘.
             """;
 
-        String prompt = String.format(promptTemplate,
+        return String.format(promptTemplate,
                 tradeLog.getStockName(),
                 String.valueOf(tradeLog.getExecutedQuantity()),
                 String.valueOf(tradeLog.getExecutionPrice()),
-                tradeLog.getReasonForSale(),
+                reasonForSale,
                 tradeLog.getTagsAsString()
         );
-
-        System.out.println(">>> [서비스] 프롬프트 조립 완료:");
-        System.out.println(prompt);
-
-        String result = aiAnalysisService.sendPrompt(prompt);
-        saveAnalysisResult(tradeLogId, result);
-        return result;
     }
 
-    @Transactional
+    @Transactional(timeoutString = SyncService.WRITE_TIMEOUT)
     public void saveAnalysisResult(Long tradeLogId, String result) {
         TradeLog tradeLog = tradeLogRepository.findById(tradeLogId)
                 .orElseThrow(() -> new IllegalArgumentException("매매 기록이 없습니다."));
@@ -333,18 +454,23 @@ public class TradeLogService {
     }
 
     private List<SimpleTradeLogResponseDto> getSimpleLogs (Long userId, LocalDate start, LocalDate end){
-        return tradeLogRepository.findByUserIdAndTradeDateBetween(userId, start, end)
-                .stream()
-                .filter(log->log.getTradeType()==TradeType.SELL)
-                .map(SimpleTradeLogResponseDto::new)
-                .collect(Collectors.toList());
+        return tradeLogRepository.findSimpleSellLogs(userId, start, end);
     }
 
     private List<DetailTradeLogResponseDto> getDetailLogs (Long userId, LocalDate start, LocalDate end){
-        return tradeLogRepository.findByUserIdAndTradeDateBetween(userId, start, end)
-                .stream()
-                .map(DetailTradeLogResponseDto::new)
-                .collect(Collectors.toList());
+        return tradeLogRepository.findDetailLogs(userId, start, end);
+    }
+
+    //예: 올해 '추격 매수' 태그가 붙은 매매 전부. 여러 개를 주면 모두 가진 기록만
+    @Transactional(readOnly = true)
+    public List<DetailTradeLogResponseDto> getYearlyLogsByTags(Long userId, int year, List<Tag> tags) {
+        int mask = Tag.toBits(tags);
+        if (mask == 0) {
+            throw new IllegalArgumentException("검색할 태그를 하나 이상 선택해주세요.");
+        }
+        LocalDate start = LocalDate.of(year, 1, 1);
+        LocalDate end = LocalDate.of(year, 12, 31);
+        return tradeLogRepository.findDetailLogsWithTags(userId, mask, start, end);
     }
 
     public TradeSummaryDto getMonthlySummary (Long userId,int year, int month){
@@ -360,10 +486,10 @@ public class TradeLogService {
     }
 
     public TradeSummaryDto getSummary (Long userId, LocalDate start, LocalDate end){
-        List<TradeLog> logs = tradeLogRepository.findByUserIdAndTradeDateBetween(userId, start, end);
-        Double totalPL=tradeLogRepository.getTotalRealizedPL(userId, start, end);
-        System.out.println("DB에서 직접 계산한 합계 : "+totalPL);
-        return new TradeSummaryDto(logs, totalPL);
+        if (tradeLogColumnCache.isEnabled()) {
+            return tradeLogColumnCache.get(userId).summary(start, end);
+        }
+        return tradeLogRepository.getSummary(userId, start, end);
     }
 
     @Getter
@@ -377,34 +503,59 @@ public class TradeLogService {
     public List<DetailTradeLogResponseDto> getDailyLogs(Long userId, LocalDate date) {
         em.clear();
         System.out.println(">>> [DEBUG] 조회 요청 날짜: " + date + ", 유저: " + userId);
-        List<TradeLog> logs = tradeLogRepository.findByUserIdAndTradeDate(userId, date);
+        List<DetailTradeLogResponseDto> logs = tradeLogRepository.findDetailLogs(userId, date, date);
         System.out.println(">>> [DEBUG] 조회된 로그 개수: " + logs.size());
-
-        return logs.stream()
-                .map(DetailTradeLogResponseDto::new)
-                .collect(Collectors.toList());
+        return logs;
     }
 
     public List<Integer> getDaysWithTrades(Long userId, int year, int month) {
+        byte[] days = getMonthDayBits(userId, year, month);
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < days.length; i++) {
+            if (days[i] != 0) result.add(i + 1);
+        }
+        return result;
+    }
+
+    //날짜 -> {BUY, SELL}. 캘린더 화면 응답 형태 그대로
+    @Transactional(readOnly = true)
+    public Map<String, Set<String>> getTradeCalendar(Long userId, int year, int month) {
+        byte[] days = getMonthDayBits(userId, year, month);
+        Map<String, Set<String>> tradeMap = new HashMap<>();
+        for (int i = 0; i < days.length; i++) {
+            if (days[i] == 0) continue;
+            Set<String> types = new HashSet<>();
+            for (TradeType type : TradeType.fromBits(days[i])) {
+                types.add(type.name());
+            }
+            tradeMap.put(LocalDate.of(year, month, i + 1).toString(), types);
+        }
+        return tradeMap;
+    }
+
+    private byte[] getMonthDayBits(Long userId, int year, int month) {
         if (userId == null) {
             throw new IllegalArgumentException("로그인이 필요한 서비스입니다.");
         }
-        LocalDate start = LocalDate.of(year, month, 1);
-        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
-
-        return tradeLogRepository.findByUserIdAndTradeDateBetween(userId, start, end)
-                .stream()
-                .map(log -> log.getTradeDate().getDayOfMonth())
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return tradeCalendarCache.get(userId, yearMonth, () -> {
+            if (tradeLogColumnCache.isEnabled()) {
+                return tradeLogColumnCache.get(userId).dayBits(yearMonth);
+            }
+            byte[] days = new byte[yearMonth.lengthOfMonth()];
+            for (TradeDayDto day : tradeLogRepository.findTradeDays(userId, yearMonth.atDay(1), yearMonth.atEndOfMonth())) {
+                if (day.getTradeType() == null) continue;
+                days[day.getTradeDate().getDayOfMonth() - 1] |= day.getTradeType().getBit();
+            }
+            return days;
+        });
     }
 
     public DailyJournalResponseDto dailyJournalStockLog(Long userId, DailyJournalResponseDto requestDto) {
         List<TradeLog> logs = tradeLogRepository.findByUserIdAndStockName(userId, requestDto.getStockName());
         if (logs.isEmpty()) return new DailyJournalResponseDto();
         TradeLog log = logs.get(0);
-        return new DailyJournalResponseDto(log);
+        return new DailyJournalResponseDto(log, tradeLogJournalRepository.findById(log.getId()).orElse(null));
     }
 
     public DailyJournalResponseDto getLogDetailById(Long userId, Long tradeLogId) {
@@ -413,139 +564,122 @@ public class TradeLogService {
         if (!log.getUser().getId().equals(userId)) {
             throw new SecurityException("본인의 기록만 조회할 수 있는 권한이 있습니다.");
         }
-        return new DailyJournalResponseDto(log);
-    }
-
-    @Transactional
-    public void importCsvData(MultipartFile file, Long userId) throws IOException, CsvException {
-        User user = userRepository.findById(userId).orElseThrow();
-
-        try (CSVReader reader = new CSVReader(new InputStreamReader(file.getInputStream(), "UTF-8"))) {
-            List<String[]> lines = reader.readAll();
-            if (lines.size() <= 1) return;
-
-            Map<String, Integer> idx = findColumnIndices(lines.get(0));
-            System.out.println("🔍 매핑된 인덱스: " + idx);
-
-            List<TradeLog> logsToSave = new ArrayList<>();
-
-            for (int i = 1; i < lines.size(); i++) {
-                String[] data = lines.get(i);
-
-                String sName = getValue(data, idx, "stockName");
-                Double ePrice = parseNumeric(getValue(data, idx, "executionPrice"));
-                Double eQty = parseNumeric(getValue(data, idx, "executedQuantity"));
-                String sDateStr = getValue(data, idx, "tradeDate");
-                LocalDate sDate = parseDate(sDateStr);
-                String sType = getValue(data, idx, "tradeType");
-                String sMemo = getValue(data, idx, "memo");
-
-                if (sName == null || ePrice == null || ePrice <= 0 || eQty == null || eQty <= 0 || sDate == null) {
-                    System.out.println("⚠️ " + (i + 1) + "행: 필수 정보 누락으로 스킵");
-                    continue;
-                }
-
-                Double pPrice = idx.containsKey("purchasePrice") ? parseNumeric(getValue(data, idx, "purchasePrice")) : null;
-                Double realizedPL = null;
-                Double rateOfReturn = null;
-
-                TradeType tradeType = parseTradeType(sType);
-                if (tradeType == TradeType.SELL && pPrice != null && pPrice > 0) {
-                    realizedPL = (ePrice - pPrice) * eQty;
-                    rateOfReturn = ((ePrice - pPrice) / pPrice) * 100;
-                }
-
-                TradeLog log = TradeLog.builder()
-                        .user(user)
-                        .stockName(sName)
-                        .executionPrice(ePrice)
-                        .executedQuantity(eQty)
-                        .purchasePrice(pPrice)
-                        .realizedPL(realizedPL)
-                        .rateOfReturn(rateOfReturn)
-                        .tradeDate(sDate)
-                        .tradeType(tradeType)
-                        .reasonForBuy(sMemo)
-                        .build();
-
-                logsToSave.add(log);
-            }
+        return new DailyJournalResponseDto(log, tradeLogJournalRepository.findById(tradeLogId).orElse(null));
+    }
 
-            if (!logsToSave.isEmpty()) {
-                System.out.println("💾 DB 저장 시도... 개수: " + logsToSave.size());
-                tradeLogRepository.saveAll(logsToSave);
-            }
-        }
+    //매매일지 공유하기.
+    @Transactional(readOnly = true)
+    public List<DailyJournalResponseDto> getMyTradeLogList(Long userId) {
+        return tradeLogRepository.findJournalLogs(userId);
     }
 
-    private static final Map<String, List<String>> COLUMN_ALIASES = Map.of(
-            "stockName", List.of("종목", "종목명", "주식", "Stock", "Ticker", "Item", "stock_name", "종목 이름"),
-            "tradeDate", List.of("날짜", "거래일", "거래일자", "일시", "Date", "TradeDate", "trade_date"),
-            "tradeType", List.of("구분", "매매", "타입", "Action", "Type", "Side","매수/매도", "매수매도" ,"trade_type", "매매구분"),
-            "executionPrice", List.of("단가", "체결가", "가격", "Price", "AvgPrice", "체결 단가", "체결단가"),
-            "executedQuantity", List.of("수량", "수량(주)", "Quantity", "Qty", "Amount", "체결수량","체결 수량"),
-            "memo", List.of("메모", "사유", "매매사유", "비고", "Note", "Reason","매매 사유")
-    );
-
-    private Map<String, Integer> findColumnIndices(String[] header) {
-        Map<String, Integer> idxMap = new HashMap<>();
-        for (int i = 0; i < header.length; i++) {
-            String cleanedHeader = header[i].trim().replaceAll("\\s", "");
-            for (Map.Entry<String, List<String>> entry : COLUMN_ALIASES.entrySet()) {
-                for (String alias : entry.getValue()) {
-                    if (cleanedHeader.equalsIgnoreCase(alias.replaceAll("\\s", ""))) {
-                        idxMap.put(entry.getKey(), i);
-                        break;
-                    }
-                }
-            }
-        }
-        return idxMap;
+    //--- 긴 목록: 커서 페이지네이션 / NDJSON 스트리밍 ---
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_FLUSH_ROWS = 500;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DetailTradeLogResponseDto> getYearlyDetailPage(Long userId, int year, String cursor, Integer size) {
+        TradeLogCursor from = TradeLogCursor.parse(cursor);
+        int pageSize = pageSize(size);
+        List<DetailTradeLogResponseDto> rows = tradeLogRepository.findDetailLogsAfter(userId,
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31),
+                from.getTradeDate(), from.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, row -> new TradeLogCursor(row.getTradeDate(), row.getLogId()).toString());
     }
 
-    private String getValue(String[] data, Map<String, Integer> map, String key) {
-        if (!map.containsKey(key)) return null;
-        return data[map.get(key)];
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DailyJournalResponseDto> getMyTradeLogPage(Long userId, String cursor, Integer size) {
+        TradeLogCursor from = TradeLogCursor.parse(cursor);
+        int pageSize = pageSize(size);
+        List<DailyJournalResponseDto> rows = tradeLogRepository.findJournalLogsAfter(userId,
+                from.getTradeDate(), from.getId(), PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize, row -> new TradeLogCursor(row.getTradeDate(), row.getLogId()).toString());
     }
 
-    private Double parseNumeric(String input) {
-        if (input == null || input.trim().isEmpty()) return null;
-        try {
-            return Double.parseDouble(input.replaceAll("[^0-9.-]", ""));
-        } catch (NumberFormatException e) {
-            return null;
+    //조건 검색. 걸린 조건만 WHERE 에 들어가고, 정렬값_id 커서로 이어서 읽음
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<DetailTradeLogResponseDto> searchLogs(Long userId, TradeLogSearchCondition condition) {
+        TradeLogSortKey sortKey = condition.getSort() != null ? condition.getSort() : TradeLogSortKey.TRADE_DATE;
+        boolean ascending = condition.isAscending();
+        if (condition.getMinPL() != null && condition.getMaxPL() != null && condition.getMinPL() > condition.getMaxPL()) {
+            throw new IllegalArgumentException("최소 손익이 최대 손익보다 클 수 없습니다.");
+        }
+
+        List<Specification<TradeLog>> specs = new ArrayList<>();
+        specs.add(TradeLogSpecifications.ownedBy(userId));
+        specs.add(TradeLogSpecifications.tickerEquals(condition.getTicker()));
+        specs.add(TradeLogSpecifications.brokerEquals(condition.getBroker()));
+        specs.add(TradeLogSpecifications.marketTypeEquals(condition.getMarketType()));
+        specs.add(TradeLogSpecifications.tradeTypeEquals(condition.getTradeType()));
+        specs.add(TradeLogSpecifications.hasAllTags(Tag.toBits(condition.getTags())));
+        specs.add(TradeLogSpecifications.realizedPLBetween(condition.getMinPL(), condition.getMaxPL()));
+        specs.add(TradeLogSpecifications.tradeDateBetween(condition.getStartDate(), condition.getEndDate()));
+        if (sortKey == TradeLogSortKey.REALIZED_PL) {
+            specs.add(TradeLogSpecifications.isNotNull(sortKey.getField()));
         }
+        specs.add(searchCursor(sortKey, condition.getCursor(), ascending));
+        specs.removeIf(Objects::isNull);
+
+        int pageSize = pageSize(condition.getSize());
+        List<DetailTradeLogResponseDto> rows = tradeLogRepository.search(
+                Specification.allOf(specs), sortKey, ascending, pageSize + 1);
+        return toPage(rows, pageSize, row -> sortKey.cursorValueOf(row) + "_" + row.getLogId());
     }
 
-    private LocalDate parseDate(String input) {
-        if (input == null || input.isBlank()) return null;
-        String cleaned = input.replaceAll("\\s", "").replace(".", "-").replace("/", "-");
-        if (cleaned.endsWith("-")) cleaned = cleaned.substring(0, cleaned.length() - 1);
+    private Specification<TradeLog> searchCursor(TradeLogSortKey sortKey, String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) return null;
+        int split = cursor.lastIndexOf('_');
         try {
-            java.time.format.DateTimeFormatter formatter = new java.time.format.DateTimeFormatterBuilder()
-                    .appendPattern("yyyy")
-                    .appendLiteral("-")
-                    .appendValue(java.time.temporal.ChronoField.MONTH_OF_YEAR)
-                    .appendLiteral("-")
-                    .appendValue(java.time.temporal.ChronoField.DAY_OF_MONTH)
-                    .toFormatter();
-            return LocalDate.parse(cleaned, formatter);
-        } catch (Exception e) {
-            return null;
+            String value = cursor.substring(0, split);
+            Long id = Long.parseLong(cursor.substring(split + 1));
+            return sortKey == TradeLogSortKey.TRADE_DATE
+                    ? TradeLogSpecifications.after(sortKey.getField(), LocalDate.parse(value), id, ascending)
+                    : TradeLogSpecifications.after(sortKey.getField(), Double.valueOf(value), id, ascending);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
         }
     }
 
-    private TradeType parseTradeType(String input) {
-        if (input == null) return TradeType.BUY;
-        if (input.contains("매도") || input.equalsIgnoreCase("SELL")) return TradeType.SELL;
-        return TradeType.BUY;
+    //스트림은 트랜잭션이 열려있는 동안만 읽을 수 있어서 응답 쓰기까지 이 메서드 안에서 끝냄
+    @Transactional(readOnly = true)
+    public void streamYearlyDetail(Long userId, int year, OutputStream out) throws IOException {
+        try (Stream<DetailTradeLogResponseDto> rows = tradeLogRepository.streamDetailLogs(userId,
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            writeNdjson(rows, out);
+        }
     }
-    //매매일지 공유하기.
+
     @Transactional(readOnly = true)
-    public List<DailyJournalResponseDto> getMyTradeLogList(Long userId) {
-        return tradeLogRepository.findByUserIdOrderByTradeDateDesc(userId)
-                .stream()
-                .map(log -> new DailyJournalResponseDto(log)) // 👈 이렇게 직접 호출하세요!
-                .collect(Collectors.toList());
+    public void streamMyTradeLogs(Long userId, OutputStream out) throws IOException {
+        try (Stream<DailyJournalResponseDto> rows = tradeLogRepository.streamJournalLogs(userId)) {
+            writeNdjson(rows, out);
+        }
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null || size <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    //size+1 개를 읽어서 다음 페이지가 있는지 판단 (COUNT 쿼리 없이)
+    private <T> CursorPageResponseDto<T> toPage(List<T> rows, int pageSize, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageResponseDto<>(items, nextCursor, hasNext);
+    }
+
+    //한 줄에 JSON 하나. 일정 행마다 flush 해서 클라이언트가 바로바로 받게 함
+    private <T> void writeNdjson(Stream<T> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer();
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        int count = 0;
+        for (Iterator<T> it = rows.iterator(); it.hasNext(); ) {
+            buffered.write(writer.writeValueAsBytes(it.next()));
+            buffered.write('\n');
+            if (++count % STREAM_FLUSH_ROWS == 0) buffered.flush();
+        }
+        buffered.flush();
     }
 }
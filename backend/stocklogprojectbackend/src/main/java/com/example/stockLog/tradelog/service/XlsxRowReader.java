@@ -0,0 +1,243 @@
+package com.example.stockLog.tradelog.service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+//XLSX 첫 번째 시트를 StAX 로 한 행씩 읽음. 통합문서 전체를 객체로 만들지 않아서 행 수와 상관없이 메모리는 일정함
+//(메모리에 두는 건 공유 문자열 표뿐 -> 종목명처럼 반복되는 문자열이라 행 수보다 훨씬 작음)
+//xlsx 는 zip 안의 XML 이라 별도 라이브러리 없이 JDK 만으로 읽음. 수식은 저장된 계산값을 씀
+class XlsxRowReader implements ImportRowReader {
+    private static final XMLInputFactory XML_FACTORY = XMLInputFactory.newFactory();
+    //공유 문자열 표는 통째로 메모리에 올리므로 상한을 둠. zip 은 압축률이 커서 10MB 업로드도 풀면 수 GB 가 될 수 있음
+    //매매일지는 종목명/구분 정도라 실제 파일은 이보다 훨씬 작음
+    static final int MAX_SHARED_STRINGS = 100_000;
+    static final long MAX_SHARED_STRING_CHARS = 10_000_000L;
+    //시트 셀(<v>, 셀 안 문자열 <t>)은 한 칸씩 읽고 버리지만 한 칸이 풀어서 수 GB 일 수 있으므로 칸마다 상한. 엑셀 자체의 셀 글자 수 상한과 같음
+    static final int MAX_CELL_CHARS = 32_767;
+
+    static {
+        //업로드 파일이므로 DTD/외부 엔티티는 막음 (XXE)
+        XML_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final ZipFile zip;
+    private final List<String> sharedStrings;
+    private final InputStream sheetStream;
+    private final XMLStreamReader sheet;
+    private long lineNumber;
+
+    XlsxRowReader(Path file) throws IOException {
+        try {
+            this.zip = new ZipFile(file.toFile());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("엑셀(xlsx) 파일이 아닙니다.");
+        }
+        try {
+            Map<String, String> relationships = readRelationships();
+            this.sharedStrings = readSharedStrings(relationships.get("sharedStrings"));
+            this.sheetStream = open(relationships.get(firstSheetId()));
+            this.sheet = XML_FACTORY.createXMLStreamReader(sheetStream);
+        } catch (XMLStreamException | RuntimeException e) {
+            zip.close();
+            throw new IllegalArgumentException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String[] readNext() throws IOException {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && sheet.getLocalName().equals("row")) {
+                    String rowNumber = sheet.getAttributeValue(null, "r");
+                    lineNumber = rowNumber != null ? Long.parseLong(rowNumber) : lineNumber + 1;
+                    String[] row = readRow();
+                    if (row != null) return row; //서식만 있는 빈 행은 건너뜀
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("엑셀 시트 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException ignored) {
+        }
+        sheetStream.close();
+        zip.close();
+    }
+
+    //빈 칸은 <c> 가 아예 없을 수 있어서 셀 참조(A1, C5..)의 열 위치에 값을 놓음. 값이 하나도 없으면 null
+    private String[] readRow() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        boolean hasValue = false;
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && sheet.getLocalName().equals("row")) break;
+            if (event != XMLStreamConstants.START_ELEMENT || !sheet.getLocalName().equals("c")) continue;
+
+            int column = columnIndex(sheet.getAttributeValue(null, "r"), cells.size());
+            String value = readCell(sheet.getAttributeValue(null, "t"));
+            while (cells.size() <= column) cells.add(null);
+            cells.set(column, value);
+            if (value != null && !value.isBlank()) hasValue = true;
+        }
+        return hasValue ? cells.toArray(new String[0]) : null;
+    }
+
+    //type: s=공유 문자열 번호, inlineStr=셀 안 문자열, b=참/거짓, e=오류, 그 외(숫자, 수식 문자열)는 <v> 그대로
+    private String readCell(String type) throws XMLStreamException {
+        String raw = null;
+        StringBuilder inline = null;
+        long chars = 0;
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && sheet.getLocalName().equals("c")) break;
+            if (event != XMLStreamConstants.START_ELEMENT) continue;
+            switch (sheet.getLocalName()) {
+                case "v" -> {
+                    StringBuilder value = new StringBuilder();
+                    chars = appendText(sheet, value, chars, MAX_CELL_CHARS);
+                    raw = value.toString();
+                }
+                case "t" -> {
+                    if (inline == null) inline = new StringBuilder();
+                    chars = appendText(sheet, inline, chars, MAX_CELL_CHARS);
+                }
+                case "rPh" -> skipElement(sheet); //일본어 읽기 표기
+                default -> { }
+            }
+        }
+        if ("inlineStr".equals(type)) return inline == null ? null : inline.toString();
+        if (raw == null || "e".equals(type)) return null;
+        if ("s".equals(type)) {
+            int index = Integer.parseInt(raw.trim());
+            return index < sharedStrings.size() ? sharedStrings.get(index) : null;
+        }
+        if ("b".equals(type)) return "1".equals(raw) ? "TRUE" : "FALSE";
+        return raw;
+    }
+
+    //"AB12" -> 27 (0부터). 참조가 없으면 앞 칸 다음
+    private static int columnIndex(String reference, int next) {
+        if (reference == null) return next;
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column > 0 ? column - 1 : next;
+    }
+
+    private List<String> readSharedStrings(String path) throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        if (path == null || zip.getEntry(path) == null) return strings; //문자열이 하나도 없는 통합문서
+        try (InputStream in = open(path)) {
+            XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+            StringBuilder current = null;
+            long chars = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "si" -> current = new StringBuilder();
+                        case "t" -> { if (current != null) chars = appendText(reader, current, chars, MAX_SHARED_STRING_CHARS); }
+                        case "rPh" -> skipElement(reader);
+                        default -> { }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && reader.getLocalName().equals("si")) {
+                    if (strings.size() >= MAX_SHARED_STRINGS) {
+                        throw new IllegalArgumentException("서로 다른 문자열 셀이 너무 많습니다 (최대 " + MAX_SHARED_STRINGS + "개).");
+                    }
+                    strings.add(current == null ? "" : current.toString());
+                    current = null;
+                }
+            }
+            reader.close();
+        }
+        return strings;
+    }
+
+    //<t>, <v> 안의 글자를 조각(이벤트) 단위로 붙이면서 글자 수를 셈. getElementText 는 한 셀을 통째로 읽은 뒤에야 길이를 알 수 있음
+    //chars 는 지금까지 센 글자 수 (공유 문자열 표 전체 또는 시트 셀 한 칸), limit 을 넘으면 그 자리에서 멈춤
+    private static long appendText(XMLStreamReader reader, StringBuilder target, long chars, long limit) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) break;
+            if (event != XMLStreamConstants.CHARACTERS && event != XMLStreamConstants.CDATA
+                    && event != XMLStreamConstants.SPACE) continue;
+            chars += reader.getTextLength();
+            if (chars > limit) {
+                throw new IllegalArgumentException("셀 내용이 너무 큽니다 (최대 " + limit + "자).");
+            }
+            target.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+        }
+        return chars;
+    }
+
+    //workbook.xml 의 첫 번째 <sheet> 의 관계 id (시트 탭 순서상 첫 시트)
+    private String firstSheetId() throws IOException, XMLStreamException {
+        try (InputStream in = open("xl/workbook.xml")) {
+            XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("sheet")) {
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        if (reader.getAttributeLocalName(i).equals("id")) return reader.getAttributeValue(i);
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("시트가 없습니다.");
+    }
+
+    //관계 id -> zip 안 경로. 공유 문자열 표는 "sharedStrings" 키로도 넣어 둠
+    private Map<String, String> readRelationships() throws IOException, XMLStreamException {
+        Map<String, String> relationships = new HashMap<>();
+        try (InputStream in = open("xl/_rels/workbook.xml.rels")) {
+            XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !reader.getLocalName().equals("Relationship")) continue;
+                String target = reader.getAttributeValue(null, "Target");
+                String path = target.startsWith("/") ? target.substring(1) : "xl/" + target;
+                relationships.put(reader.getAttributeValue(null, "Id"), path);
+                String type = reader.getAttributeValue(null, "Type");
+                if (type != null && type.endsWith("/sharedStrings")) relationships.put("sharedStrings", path);
+            }
+        }
+        return relationships;
+    }
+
+    private InputStream open(String path) throws IOException {
+        ZipEntry entry = path == null ? null : zip.getEntry(path);
+        if (entry == null) throw new IllegalArgumentException("엑셀 파일 구성이 올바르지 않습니다: " + path);
+        return zip.getInputStream(entry);
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT) depth--;
+        }
+    }
+}
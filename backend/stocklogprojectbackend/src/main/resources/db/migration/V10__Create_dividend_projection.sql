@@ -0,0 +1,32 @@
+-- 배당금 계산기: calculate 를 종목별 배당 일정(지급 한 번 = 한 행)으로 바꾸고, 유저별 월 예상 배당 테이블 추가
+-- 보유 수량은 포트폴리오에서 가져오므로 calculate.quantity 는 없앰. 지금까지 채우는 코드가 없었으니 불완전한 행은 지움
+
+delete from calculate where ticker is null or payment_date is null;
+
+alter table calculate drop column quantity;
+
+alter table calculate add column market_type enum ('KOR','USA');
+
+alter table calculate modify column ticker varchar(255) not null;
+
+alter table calculate modify column payment_date date not null;
+
+alter table calculate
+   add constraint uk_calculate_ticker_payment_date unique (ticker, payment_date);
+
+create table dividend_projection (
+    id bigint not null auto_increment,
+    user_id bigint,
+    month date not null,
+    krw float(53) not null,
+    usd float(53) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table dividend_projection
+   add constraint uk_dividend_projection_user_month unique (user_id, month);
+
+alter table dividend_projection
+   add constraint fk_dividend_projection_user
+   foreign key (user_id)
+   references user (id);
@@ -0,0 +1,31 @@
+-- 모바일 증분 동기화: (user_id, updated_at) 인덱스와 삭제 기록(sync_tombstone)
+-- 포트폴리오는 수정 시각이 없었으므로 created_at/updated_at 을 추가하고 기존 행은 지금 시각으로 채움
+-- (첫 동기화는 어차피 전체를 보내므로 기존 행의 정확한 수정 시각은 필요 없음)
+
+alter table portfolio_entity add column created_at datetime(6);
+
+alter table portfolio_entity add column updated_at datetime(6);
+
+update portfolio_entity set created_at = current_timestamp(6), updated_at = current_timestamp(6);
+
+update trade_log set updated_at = coalesce(created_at, current_timestamp(6)) where updated_at is null;
+
+create index idx_trade_log_user_updated on trade_log (user_id, updated_at, id);
+
+create index idx_portfolio_user_updated on portfolio_entity (user_id, updated_at, id);
+
+create table sync_tombstone (
+    id bigint not null auto_increment,
+    user_id bigint,
+    entity_type enum ('PORTFOLIO','TRADE_LOG') not null,
+    entity_id bigint not null,
+    deleted_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_sync_tombstone_user_deleted on sync_tombstone (user_id, deleted_at, id);
+
+alter table sync_tombstone
+   add constraint fk_sync_tombstone_user
+   foreign key (user_id)
+   references user (id);
@@ -0,0 +1,6 @@
+-- 증권사 정정 체결을 (정정 시각, 체결번호) 커서로 따로 받아오기 위한 watermark (BrokerSyncState.correctionWatermark)
+-- 기존 상태는 null -> 다음 동기화에서 정정 내역을 처음부터 한 번 훑음 (이미 같은 값이면 건너뜀)
+
+alter table broker_sync_state add column correction_watermark_at datetime(6);
+
+alter table broker_sync_state add column correction_watermark_id varchar(64);
@@ -0,0 +1,16 @@
+-- 액면분할/병합 등록과 조정 진행 상황 (CorporateAction). 조회 인덱스는 V2 에서 만듦
+
+create table corporate_action (
+    effective_date date not null,
+    ratio float(53) not null,
+    adjusted_rows bigint,
+    applied_at datetime(6),
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    portfolio_checkpoint bigint,
+    trade_log_checkpoint bigint,
+    updated_at datetime(6),
+    ticker varchar(255) not null,
+    status enum ('APPLIED','IN_PROGRESS','PENDING'),
+    primary key (id)
+) engine=InnoDB;
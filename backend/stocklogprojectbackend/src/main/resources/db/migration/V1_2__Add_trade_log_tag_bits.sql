@@ -0,0 +1,4 @@
+-- 태그를 비트마스크 한 칸에 저장 (TradeLog.tags). 옛 trade_log_tags 데이터는 V3 에서 옮김
+
+alter table trade_log
+    add column tag_bits integer default 0 not null;
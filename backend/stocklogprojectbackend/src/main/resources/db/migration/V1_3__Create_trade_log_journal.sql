@@ -0,0 +1,15 @@
+-- 매수/매도 이유, AI 평가, 차트 이미지 같은 긴 글 (TradeLogJournal). 옛 trade_log 컬럼 데이터는 V4 에서 옮김
+
+create table trade_log_journal (
+    trade_log_id bigint not null,
+    ai_personal_evaluation TEXT,
+    chart_image_url varchar(255),
+    reason_for_buy TEXT,
+    reason_for_sale TEXT,
+    primary key (trade_log_id)
+) engine=InnoDB;
+
+alter table trade_log_journal
+   add constraint FKily9sc3avd0w14ml8f45cxabo
+   foreign key (trade_log_id)
+   references trade_log (id);
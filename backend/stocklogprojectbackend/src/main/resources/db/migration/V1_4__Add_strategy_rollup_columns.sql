@@ -0,0 +1,13 @@
+-- strategy 를 유저별 월간 집계로 바꿈 (StrategyRollupService)
+-- 예전 행은 달 중간 날짜나 같은 달 중복이 있을 수 있어서 비우고, 기동 시 RollupBackfill 이 매매일지로 다시 채움
+
+delete from strategy;
+
+alter table strategy
+    add column trade_count integer default 0 not null;
+
+alter table strategy
+    add column win_count integer default 0 not null;
+
+alter table strategy
+   add constraint uk_strategy_user_date unique (user_id, date);
@@ -0,0 +1,23 @@
+-- 유저 x 연 x 월 x 시장 x 증권사 x 매매유형 손익 큐브 (PnlCubeCell). 기동 시 비어 있으면 RollupBackfill 이 채움
+
+create table pnl_cube (
+    month integer not null,
+    realizedpl float(53) not null,
+    trade_count integer not null,
+    win_count integer not null,
+    year integer not null,
+    id bigint not null auto_increment,
+    user_id bigint,
+    trade_type varchar(10) not null,
+    market_type varchar(20) not null,
+    broker varchar(30) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table pnl_cube
+   add constraint uk_pnl_cube_cell unique (user_id, year, month, market_type, broker, trade_type);
+
+alter table pnl_cube
+   add constraint FK753678fpll7y8u9sdca9rimcp
+   foreign key (user_id)
+   references user (id);
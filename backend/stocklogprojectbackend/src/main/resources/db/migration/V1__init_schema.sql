@@ -0,0 +1,237 @@
+-- 초기 스키마. Flyway 도입 전 ddl-auto=update 가 만들던 그대로 (MySQL 8)
+-- 이미 ddl-auto=update 로 만들어진 DB 는 이 버전을 baseline 으로 건너뛰고 V1_1 부터 적용됨
+-- 그래서 여기는 절대 고치지 말고, 바뀐 스키마는 다음 버전으로 추가할 것
+-- 보조 인덱스는 여기 말고 V2 에서 (없을 때만) 만듦
+
+create table ai_analysis (
+    tradelog_id bigint not null,
+    content TEXT,
+    primary key (tradelog_id)
+) engine=InnoDB;
+
+create table calculate (
+    dividend_per_share float(53) not null,
+    payment_date date,
+    quantity float(53) not null,
+    id bigint not null auto_increment,
+    stock_name varchar(255),
+    ticker varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table comment (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    post_id bigint,
+    updated_at datetime(6),
+    user_id bigint,
+    text varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table follow (
+    created_at datetime(6),
+    follower_id bigint,
+    following_id bigint,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table heart (
+    comment_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    post_id bigint,
+    updated_at datetime(6),
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table portfolio_entity (
+    executed_quantity float(53),
+    execution_price float(53),
+    rate_of_return float(53),
+    realizedpl float(53),
+    total_cost float(53),
+    buy_date datetime(6),
+    id bigint not null auto_increment,
+    user_id bigint,
+    stock_name varchar(255) not null,
+    ticker varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table post (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint,
+    view bigint,
+    content TEXT,
+    image_url varchar(255),
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table post_image (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    post_id bigint,
+    updated_at datetime(6),
+    image_url varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table stock_master (
+    id bigint not null auto_increment,
+    market_type varchar(255),
+    stock_name varchar(255) not null,
+    ticker varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table strategy (
+    date date,
+    realizedpl float(53) not null,
+    id bigint not null auto_increment,
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table trade_log (
+    base_amount float(53),
+    dividend_per_month integer,
+    executed_quantity float(53),
+    execution_price float(53),
+    fee float(53),
+    holding_period integer,
+    market_fear_index integer,
+    purchase_price float(53),
+    rate_of_return float(53),
+    realizedpl float(53),
+    tax float(53),
+    total_cost float(53),
+    trade_date date,
+    trading_cost float(53),
+    buy_date datetime(6),
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    sell_date datetime(6),
+    updated_at datetime(6),
+    user_id bigint,
+    ai_personal_evaluation TEXT,
+    chart_image_url varchar(255),
+    dividend_stock_name varchar(255),
+    reason_for_buy TEXT,
+    reason_for_sale TEXT,
+    stock_name varchar(255) not null,
+    ticker varchar(255),
+    broker enum ('DAISHIN','EBEST','ETC','HANA_INVESTMENT','KAKAO_PAY','KB_INVESTMENT','KIWOOM','KOREA_INVESTMENT','MERITZ','MIRAE_ASSET','NH_INVESTMENT','SAMSUNG','SHINHAN_INVESTMENT','TOSS','YUANTA'),
+    evaluation_status enum ('COMPLETED','IN_PROGRESS','PENDING'),
+    market_type enum ('KOR','USA'),
+    trade_type enum ('BUY','SELL'),
+    primary key (id)
+) engine=InnoDB;
+
+create table trade_log_tags (
+    trade_log_id bigint not null,
+    tag_name enum ('ImpulsiveTrading','PanicBuying','PanicSelling','PositionSizingError','StopLossViolation')
+) engine=InnoDB;
+
+create table user (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    bio TEXT,
+    email varchar(255) not null,
+    nickname varchar(255) not null,
+    password varchar(255) not null,
+    profile_image_url varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+alter table follow
+   add constraint uk_follow_follower_following unique (follower_id, following_id);
+
+alter table heart
+   add constraint unique_heart_user_post unique (user_id, post_id);
+
+alter table stock_master
+   add constraint UKhtlb61um1muy7t394bwsq8eas unique (ticker);
+
+alter table user
+   add constraint UKob8kqyqqgmefl0aco34akdtpe unique (email);
+
+alter table user
+   add constraint UKn4swgcf30j6bmtb4l4cjryuym unique (nickname);
+
+alter table ai_analysis
+   add constraint FKnq6jtenosokil0hbl5oxngtie
+   foreign key (tradelog_id)
+   references trade_log (id);
+
+alter table comment
+   add constraint FKs1slvnkuemjsq2kj4h3vhx7i1
+   foreign key (post_id)
+   references post (id);
+
+alter table comment
+   add constraint FK8kcum44fvpupyw6f5baccx25c
+   foreign key (user_id)
+   references user (id);
+
+alter table follow
+   add constraint FKmow2qk674plvwyb4wqln37svv
+   foreign key (follower_id)
+   references user (id);
+
+alter table follow
+   add constraint FKqme6uru2g9wx9iysttk542esm
+   foreign key (following_id)
+   references user (id);
+
+alter table heart
+   add constraint FKhgyvi0wkyu1jilg4p87w779ub
+   foreign key (comment_id)
+   references comment (id);
+
+alter table heart
+   add constraint FKqyr9v537b0go8pcrr83aq4m4
+   foreign key (post_id)
+   references post (id);
+
+alter table heart
+   add constraint FK5pv32bwn1jhofpwouomqupc6u
+   foreign key (user_id)
+   references user (id);
+
+alter table portfolio_entity
+   add constraint FK6qsbjmg6o3ixuk5tkha8af9nv
+   foreign key (user_id)
+   references user (id);
+
+alter table post
+   add constraint FK72mt33dhhs48hf9gcqrq4fxte
+   foreign key (user_id)
+   references user (id);
+
+alter table post_image
+   add constraint FKsip7qv57jw2fw50g97t16nrjr
+   foreign key (post_id)
+   references post (id);
+
+alter table strategy
+   add constraint FK5fbnjby0wuhcavkt6gwk7wyx8
+   foreign key (user_id)
+   references user (id);
+
+alter table trade_log
+   add constraint FKhl3cd44mklv2f4iu5tnm9sk2
+   foreign key (user_id)
+   references user (id);
+
+alter table trade_log_tags
+   add constraint FKeox3nac04pda4jg29hpp9ne9e
+   foreign key (trade_log_id)
+   references trade_log (id);
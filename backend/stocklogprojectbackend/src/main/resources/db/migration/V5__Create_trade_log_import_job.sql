@@ -0,0 +1,33 @@
+-- CSV 가져오기 백그라운드 작업과 행 단위 오류 (TradeLogImportJob, TradeLogImportError)
+
+create table trade_log_import_job (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    file_name varchar(255),
+    status enum ('COMPLETED','FAILED','PENDING','RUNNING'),
+    total_rows bigint,
+    saved_rows bigint,
+    skipped_rows bigint,
+    error_message varchar(500),
+    finished_at datetime(6),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_import_job_user_status on trade_log_import_job (user_id, status);
+
+alter table trade_log_import_job
+   add constraint fk_import_job_user
+   foreign key (user_id)
+   references user (id);
+
+create table trade_log_import_error (
+    id bigint not null auto_increment,
+    job_id bigint not null,
+    line_number bigint not null,
+    reason varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_import_error_job_line on trade_log_import_error (job_id, line_number);
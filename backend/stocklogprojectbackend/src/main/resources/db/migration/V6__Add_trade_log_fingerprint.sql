@@ -0,0 +1,7 @@
+-- 가져오기 중복 확인용 원본 행 식별값 (TradeLog.fingerprint). 기존 행과 직접 입력한 행은 null
+
+alter table trade_log add column fingerprint varchar(32);
+
+create index idx_trade_log_user_fingerprint on trade_log (user_id, fingerprint);
+
+alter table trade_log_import_job add column duplicate_rows bigint default 0;
@@ -0,0 +1,31 @@
+-- 증권사 체결 동기화 (BrokerSyncState, TradeLog.executionId)
+
+alter table trade_log add column execution_id varchar(64);
+
+alter table trade_log
+   add constraint uk_trade_log_user_broker_execution unique (user_id, broker, execution_id);
+
+create table broker_sync_state (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    broker enum ('DAISHIN','EBEST','ETC','HANA_INVESTMENT','KAKAO_PAY','KB_INVESTMENT','KIWOOM','KOREA_INVESTMENT','MERITZ','MIRAE_ASSET','NH_INVESTMENT','SAMSUNG','SHINHAN_INVESTMENT','TOSS','YUANTA') not null,
+    watermark_at datetime(6),
+    watermark_id varchar(64),
+    enabled bit not null,
+    next_sync_at datetime(6),
+    last_synced_at datetime(6),
+    last_error varchar(500),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+alter table broker_sync_state
+   add constraint uk_broker_sync_user_broker unique (user_id, broker);
+
+create index idx_broker_sync_due on broker_sync_state (enabled, next_sync_at);
+
+alter table broker_sync_state
+   add constraint fk_broker_sync_user
+   foreign key (user_id)
+   references user (id);
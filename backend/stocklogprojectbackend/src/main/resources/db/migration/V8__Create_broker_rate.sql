@@ -0,0 +1,55 @@
+-- 증권사 수수료율 이력 (BrokerRate). 초기값은 Broker enum 에 있던 요율
+-- 기존 기록은 이 요율로 계산돼 있으므로 시드 행은 재계산 완료 상태로 넣음
+
+create table broker_rate (
+    id bigint not null auto_increment,
+    broker enum ('DAISHIN','EBEST','ETC','HANA_INVESTMENT','KAKAO_PAY','KB_INVESTMENT','KIWOOM','KOREA_INVESTMENT','MERITZ','MIRAE_ASSET','NH_INVESTMENT','SAMSUNG','SHINHAN_INVESTMENT','TOSS','YUANTA') not null,
+    market_type enum ('KOR','USA') not null,
+    rate float(53) not null,
+    effective_from date not null,
+    revision integer not null,
+    reprice_checkpoint bigint,
+    repriced_rows bigint,
+    repriced_at datetime(6),
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+alter table broker_rate
+   add constraint uk_broker_rate_revision unique (broker, market_type, effective_from, revision);
+
+create index idx_trade_log_broker_market on trade_log (broker, market_type, id);
+
+insert into broker_rate (broker, market_type, rate, effective_from, revision, reprice_checkpoint, repriced_rows, repriced_at, created_at, updated_at)
+values
+    ('KIWOOM', 'KOR', 0.00015, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KIWOOM', 'USA', 0.001, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('TOSS', 'KOR', 0.0001, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('TOSS', 'USA', 0.001, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('MIRAE_ASSET', 'KOR', 0.00014, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('MIRAE_ASSET', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('SAMSUNG', 'KOR', 0.00147, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('SAMSUNG', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KOREA_INVESTMENT', 'KOR', 0.0014, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KOREA_INVESTMENT', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('NH_INVESTMENT', 'KOR', 0.0001, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('NH_INVESTMENT', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KB_INVESTMENT', 'KOR', 0.0012, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KB_INVESTMENT', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('SHINHAN_INVESTMENT', 'KOR', 0.0013, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('SHINHAN_INVESTMENT', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('HANA_INVESTMENT', 'KOR', 0.0014, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('HANA_INVESTMENT', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('MERITZ', 'KOR', 0.0015, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('MERITZ', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('DAISHIN', 'KOR', 0.0015, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('DAISHIN', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('YUANTA', 'KOR', 0.0015, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('YUANTA', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('EBEST', 'KOR', 0.00015, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('EBEST', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KAKAO_PAY', 'KOR', 0.00015, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('KAKAO_PAY', 'USA', 0.0025, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('ETC', 'KOR', 0.0, '1900-01-01', 1, 0, 0, now(6), now(6), now(6)),
+    ('ETC', 'USA', 0.0, '1900-01-01', 1, 0, 0, now(6), now(6), now(6));
@@ -0,0 +1,20 @@
+-- 유저별 연간 세금 집계 (TaxYearTally). 처음 기동할 때 RollupBackfill 이 기존 매매일지로 채움
+
+create table tax_year_tally (
+    id bigint not null auto_increment,
+    user_id bigint,
+    tax_year integer not null,
+    foreign_gain float(53) not null,
+    foreign_loss float(53) not null,
+    foreign_sell_count integer not null,
+    transaction_tax float(53) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table tax_year_tally
+   add constraint uk_tax_year_tally_user_year unique (user_id, tax_year);
+
+alter table tax_year_tally
+   add constraint fk_tax_year_tally_user
+   foreign key (user_id)
+   references user (id);
@@ -0,0 +1,69 @@
+package com.example.stockLog.graph.service;
+
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.graph.repository.StrategyRepository;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class StrategyRollupServiceTest {
+    private final StrategyRepository strategyRepository = mock(StrategyRepository.class);
+    private final TradeLogRepository tradeLogRepository = mock(TradeLogRepository.class);
+    private final StrategyRollupService service = new StrategyRollupService(strategyRepository, tradeLogRepository,
+            mock(UserRepository.class), mock(TransactionTemplate.class));
+
+    @Test
+    @DisplayName("수정 이벤트는 전 모습을 빼고 후 모습을 더한 달별 차이만 반영한다")
+    public void updatedDeltaTest() {
+        //given
+        TradeLogSnapshot before = sell(LocalDate.of(2026, 1, 10), 100.0);
+        TradeLogSnapshot after = sell(LocalDate.of(2026, 2, 3), -50.0);
+
+        //when
+        service.onTradeLogChanged(TradeLogChangedEvent.updated(1L, before, after));
+
+        //then
+        verify(strategyRepository).addMonthly(1L, LocalDate.of(2026, 1, 1), -100.0, -1, -1);
+        verify(strategyRepository).addMonthly(1L, LocalDate.of(2026, 2, 1), -50.0, 1, 0);
+        verifyNoMoreInteractions(strategyRepository);
+    }
+
+    @Test
+    @DisplayName("집계 값이 그대로인 수정과 날짜 없는 기록은 아무것도 쓰지 않는다")
+    public void emptyDeltaTest() {
+        TradeLogSnapshot same = sell(LocalDate.of(2026, 1, 10), 100.0);
+        service.onTradeLogChanged(TradeLogChangedEvent.updated(1L, same, same));
+        service.onTradeLogChanged(TradeLogChangedEvent.created(1L, List.of(sell(null, 10.0))));
+
+        verify(strategyRepository, never()).addMonthly(anyLong(), any(), anyDouble(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("대량 변경 이벤트는 그 유저 집계를 지우고 다시 만든다")
+    public void bulkRebuildTest() {
+        service.onTradeLogChanged(TradeLogChangedEvent.bulk(1L));
+
+        verify(strategyRepository).deleteByUser(1L);
+        verify(tradeLogRepository).findMonthlyRollups(1L);
+    }
+
+    private static TradeLogSnapshot sell(LocalDate tradeDate, Double realizedPL) {
+        return new TradeLogSnapshot(tradeDate, null, null, TradeType.SELL, realizedPL, null);
+    }
+}
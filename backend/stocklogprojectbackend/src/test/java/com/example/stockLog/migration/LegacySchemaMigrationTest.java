@@ -0,0 +1,97 @@
+package com.example.stockLog.migration;
+
+import com.example.stockLog.tradelog.entity.Tag;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Flyway 도입 전 ddl-auto=update 로 만들어진 DB(= V1 스키마, flyway 기록 없음)를 운영 설정대로 baseline 1 로 올렸을 때
+//옛 데이터가 옮겨지고, 빈 DB 에서 처음부터 올린 스키마와 똑같아지는지 확인 (빈 DB 쪽은 SchemaMigrationTest 가 엔티티와 비교)
+class LegacySchemaMigrationTest {
+    private static final String URL =
+            "jdbc:h2:mem:%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE,DATE,MONTH,YEAR;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void baselinedLegacyDatabaseEndsUpWithFreshSchema() {
+        DataSource legacy = dataSource("legacy");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__init_schema.sql")).execute(legacy);
+        JdbcTemplate jdbc = new JdbcTemplate(legacy);
+        jdbc.update("INSERT INTO user (id, email, nickname, password) VALUES (1, 'legacy@test.com', 'legacy', 'pw')");
+        jdbc.update("INSERT INTO trade_log (id, user_id, stock_name, ticker, trade_type, trade_date, realizedpl, reason_for_buy, chart_image_url, " +
+                "execution_price, executed_quantity) VALUES (1, 1, 'Apple', 'AAPL', 'SELL', '2026-01-15', 10.0, 'why', 'chart.png', 101.50, 3)");
+        jdbc.update("INSERT INTO trade_log (id, user_id, stock_name, ticker, trade_type, trade_date, realizedpl) " +
+                "VALUES (2, 1, 'Apple', 'AAPL', 'BUY', '2026-01-10', 0.0)");
+        jdbc.update("INSERT INTO trade_log_tags (trade_log_id, tag_name) VALUES (1, 'PanicBuying'), (1, 'StopLossViolation')");
+        jdbc.update("INSERT INTO strategy (user_id, date, realizedpl) VALUES (1, '2026-01-15', 10.0), (1, '2026-01-20', 3.0)");
+
+        MigrateResult result = flyway(legacy).migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(jdbc.queryForObject("SELECT version FROM flyway_schema_history WHERE installed_rank = 1", String.class))
+                .isEqualTo("1");
+        // V3 의 고정 비트표(PanicBuying 4, StopLossViolation 2)이고, 지금 Tag 의 비트와도 같아야 함
+        assertThat(jdbc.queryForObject("SELECT tag_bits FROM trade_log WHERE id = 1", Integer.class))
+                .isEqualTo(6)
+                .isEqualTo(Tag.PanicBuying.getBit() | Tag.StopLossViolation.getBit());
+        assertThat(jdbc.queryForObject("SELECT tag_bits FROM trade_log WHERE id = 2", Integer.class)).isZero();
+        assertThat(jdbc.queryForList("SELECT reason_for_buy, chart_image_url FROM trade_log_journal WHERE trade_log_id = 1"))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.get("reason_for_buy")).isEqualTo("why");
+                    assertThat(row.get("chart_image_url")).isEqualTo("chart.png");
+                });
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM trade_log_journal", Integer.class)).isEqualTo(1);
+        // V12 가 채운 값은 고정 (sha256("1|2026-01-15|T:AAPL|SELL|101.5|3") 앞 16바이트)이고, 지금 저장 경로가 만드는 값과도 같아야 함
+        String fingerprint = jdbc.queryForObject("SELECT fingerprint FROM trade_log WHERE id = 1", String.class);
+        assertThat(fingerprint).isEqualTo("6d9c6f03f79e9adee93ebe6789114be6")
+                .isEqualTo(TradeLog.fingerprintOf(1L, LocalDate.of(2026, 1, 15), "AAPL", "Apple", TradeType.SELL, 101.5, 3.0));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM trade_log WHERE fingerprint IS NULL", Integer.class)).isZero();
+        // 옛 strategy 행은 비우고 RollupBackfill 이 다시 채움
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM strategy", Integer.class)).isZero();
+
+        DataSource fresh = dataSource("fresh");
+        flyway(fresh).migrate();
+        assertThat(columns(legacy)).contains("trade_log.tag_bits integer NO").isEqualTo(columns(fresh));
+        assertThat(indexes(legacy)).isEqualTo(indexes(fresh));
+    }
+
+    private DataSource dataSource(String name) {
+        return new DriverManagerDataSource(String.format(URL, name), "sa", "");
+    }
+
+    //운영 설정(application.properties)과 같은 위치와 baseline 설정
+    private Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:com/example/stockLog/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private List<String> columns(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList(
+                "SELECT CONCAT(table_name, '.', column_name, ' ', data_type, ' ', is_nullable) FROM information_schema.columns " +
+                        "WHERE table_schema = SCHEMA() AND table_name <> 'flyway_schema_history' ORDER BY 1", String.class);
+    }
+
+    //제약조건에 딸린 인덱스는 H2 가 이름 뒤에 _INDEX_xx 를 붙여서 떼고 비교
+    private List<String> indexes(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList(
+                "SELECT DISTINCT CONCAT(table_name, '.', REGEXP_REPLACE(index_name, '_INDEX_[0-9A-F]+$', '')) FROM information_schema.indexes " +
+                        "WHERE table_schema = SCHEMA() AND table_name <> 'flyway_schema_history' " +
+                        "AND index_type_name <> 'PRIMARY KEY' ORDER BY 1", String.class);
+    }
+}
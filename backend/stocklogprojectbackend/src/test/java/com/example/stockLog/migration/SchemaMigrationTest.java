@@ -0,0 +1,143 @@
+package com.example.stockLog.migration;
+
+import com.example.stockLog.community.entity.Comment;
+import com.example.stockLog.community.entity.Post;
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.BaseStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Flyway 로 만든 스키마(H2, MySQL 모드)에서 엔티티 검증(ddl-auto=validate)을 통과하고,
+//모든 리포지토리 쿼리가 실제로 실행되며, 자주 쓰는 조회가 인덱스를 타는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationTest {
+    @Autowired ApplicationContext context;
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Post post;
+    private Comment comment;
+    private TradeLog tradeLog;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("migration@test.com").nickname("migration").password("pw").build();
+        em.persist(user);
+        post = Post.builder().user(user).title("title").content("content").build();
+        em.persist(post);
+        comment = Comment.builder().user(user).post(post).text("comment").build();
+        em.persist(comment);
+        tradeLog = TradeLog.builder().user(user).stockName("Apple").ticker("AAPL").tradeType(TradeType.SELL)
+                .executionPrice(200.0).purchasePrice(100.0).executedQuantity(1.0).realizedPL(100.0)
+                .tradeDate(LocalDate.of(2026, 1, 5)).build();
+        em.persist(tradeLog);
+        em.flush();
+    }
+
+    @Test
+    void everyRepositoryQueryRunsOnMigratedSchema() throws Exception {
+        int invoked = 0;
+        for (Repository<?, ?> repository : context.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : repository.getClass().getInterfaces()) {
+                invoked += invokeDeclaredQueries(repository, type);
+            }
+        }
+        assertThat(invoked).isGreaterThan(50);
+    }
+
+    @Test
+    void hotQueriesUseIndexes() {
+        Long userId = user.getId();
+        assertThat(explain("SELECT id FROM trade_log WHERE user_id = " + userId +
+                " AND trade_date BETWEEN DATE '2026-01-01' AND DATE '2026-12-31'"))
+                .contains("idx_trade_log_user_date");
+        assertThat(explain("SELECT id FROM trade_log WHERE user_id = " + userId + " AND stock_name = 'Apple'"))
+                .contains("idx_trade_log_user_stock_name");
+        assertThat(explain("SELECT id FROM trade_log WHERE user_id = " + userId + " AND ticker = 'AAPL' " +
+                "AND trade_date >= DATE '2026-01-01'"))
+                .contains("idx_trade_log_user_ticker_date");
+        assertThat(explain("SELECT id FROM trade_log WHERE user_id = " + userId +
+                " AND updated_at > TIMESTAMP '2026-01-01 00:00:00'"))
+                .contains("idx_trade_log_user_updated");
+        assertThat(explain("SELECT COUNT(*) FROM heart WHERE post_id = " + post.getId()))
+                .doesNotContain("tableScan");
+        assertThat(explain("SELECT COUNT(*) FROM follow WHERE following_id = " + userId))
+                .doesNotContain("tableScan");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private int invokeDeclaredQueries(Object repository, Class<?> type) throws Exception {
+        if (!type.getName().startsWith("com.example.stockLog")) return 0;
+        int invoked = 0;
+        for (Class<?> parent : type.getInterfaces()) { // TradeLogSearchRepository 같은 조각 인터페이스
+            invoked += invokeDeclaredQueries(repository, parent);
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers())) continue;
+            Object[] args = new Object[method.getParameterCount()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = sampleArgument(method.getParameterTypes()[i], method.getGenericParameterTypes()[i]);
+            }
+            Object result = method.invoke(repository, args);
+            if (result instanceof BaseStream<?, ?> stream) stream.close();
+            invoked++;
+        }
+        return invoked;
+    }
+
+    private Object sampleArgument(Class<?> type, Type genericType) {
+        if (type == Long.class || type == long.class) return user.getId();
+        if (type == Integer.class || type == int.class) return 1;
+        if (type == Double.class || type == double.class) return 1.0;
+        if (type == Boolean.class || type == boolean.class) return false;
+        if (type == String.class) return "AAPL";
+        if (type == LocalDate.class) return LocalDate.of(2026, 1, 31);
+        if (type == LocalDateTime.class) return LocalDateTime.now();
+        if (type == Date.class) return new Date();
+        if (type == User.class) return user;
+        if (type == Post.class) return post;
+        if (type == Comment.class) return comment;
+        if (type == TradeLog.class) return tradeLog;
+        if (type == Pageable.class) return PageRequest.of(0, 10);
+        if (type == Specification.class) return (Specification<?>) (root, query, cb) -> null;
+        if (type == List.class || type == Collection.class) {
+            Type element = genericType instanceof ParameterizedType p ? p.getActualTypeArguments()[0] : Long.class;
+            if (element instanceof Class<?> c && c.isEnum()) return List.of(c.getEnumConstants()[0]);
+            if (element == String.class) return List.of("AAPL");
+            return List.of(-1L); // 일괄 수정/삭제용 id 목록. 픽스처를 지우지 않도록 없는 id
+        }
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        throw new IllegalStateException("샘플 인자를 만들 수 없는 타입: " + type);
+    }
+}
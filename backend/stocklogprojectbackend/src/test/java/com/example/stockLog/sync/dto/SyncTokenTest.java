@@ -0,0 +1,41 @@
+package com.example.stockLog.sync.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SyncTokenTest {
+
+    @Test
+    @DisplayName("문자열로 바꿨다가 다시 읽으면 세 위치가 그대로 돌아온다")
+    public void roundTripTest() {
+        //given
+        SyncToken token = new SyncToken(
+                new SyncToken.Position(LocalDateTime.of(2026, 10, 19, 4, 0, 0, 123456000), 15L),
+                SyncToken.BEGINNING,
+                new SyncToken.Position(LocalDateTime.of(2026, 10, 19, 4, 0), 0L));
+
+        //when
+        SyncToken parsed = SyncToken.parse(token.toString());
+
+        //then
+        assertEquals(token.toString(), parsed.toString());
+        assertEquals(15L, parsed.getTradeLogs().getId());
+        assertEquals(LocalDateTime.of(2026, 10, 19, 4, 0, 0, 123456000), parsed.getTradeLogs().getAt());
+        assertTrue(parsed.getTombstones().isAfter(parsed.getPortfolios()));
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 null, 형식이 틀리면 IllegalArgumentException")
+    public void parseInvalidTest() {
+        assertNull(SyncToken.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.parse("garbage"));
+        assertThrows(IllegalArgumentException.class, () -> SyncToken.parse("2026-10-19T04:00_1,x_2,2026-10-19T04:00_3"));
+    }
+}
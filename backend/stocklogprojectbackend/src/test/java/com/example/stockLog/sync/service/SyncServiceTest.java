@@ -0,0 +1,45 @@
+package com.example.stockLog.sync.service;
+
+import com.example.stockLog.tradelog.dto.TradeLogRequestDto;
+import com.example.stockLog.tradelog.service.TradeLogService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SyncServiceTest {
+
+    @Test
+    @DisplayName("commit-lag 가 쓰기 트랜잭션 시간 제한의 2배보다 작거나 시간 제한이 없으면 시작하지 않는다")
+    public void commitLagBoundTest() {
+        assertDoesNotThrow(() -> SyncService.checkCommitLag(30, 120));
+        assertDoesNotThrow(() -> SyncService.checkCommitLag(30, 60));
+        assertThrows(IllegalStateException.class, () -> SyncService.checkCommitLag(30, 59));
+        assertThrows(IllegalStateException.class, () -> SyncService.checkCommitLag(0, 600));
+    }
+
+    @Test
+    @DisplayName("시간 제한은 updated_at 을 찍는 쓰기 트랜잭션에만 걸리고 읽기 전용 트랜잭션에는 걸리지 않는다")
+    public void writeTimeoutScopeTest() throws NoSuchMethodException {
+        //given
+        AnnotationTransactionAttributeSource source = new AnnotationTransactionAttributeSource();
+        source.setEmbeddedValueResolver(new StandardEnvironment()::resolvePlaceholders);
+
+        //when
+        TransactionDefinition write = source.getTransactionAttribute(
+                TradeLogService.class.getMethod("update", Long.class, TradeLogRequestDto.class, Long.class), TradeLogService.class);
+        TransactionDefinition stream = source.getTransactionAttribute(
+                TradeLogService.class.getMethod("streamMyTradeLogs", Long.class, OutputStream.class), TradeLogService.class);
+
+        //then
+        assertEquals(30, write.getTimeout());
+        assertEquals(TransactionDefinition.TIMEOUT_DEFAULT, stream.getTimeout());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.stockLog.tradelog.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TagSetConverterTest {
+    private final TagSetConverter converter = new TagSetConverter();
+
+    @Test
+    @DisplayName("태그 묶음이 비트마스크로 저장됐다가 그대로 복원된다")
+    public void roundTripTest() {
+        //given
+        Set<Tag> tags = EnumSet.of(Tag.ImpulsiveTrading, Tag.PanicBuying, Tag.PositionSizingError);
+        //when
+        Integer bits = converter.convertToDatabaseColumn(tags);
+        //then
+        assertEquals(0b10101, bits);
+        assertEquals(tags, converter.convertToEntityAttribute(bits));
+    }
+
+    @Test
+    @DisplayName("빈 태그와 알 수 없는 태그(null)는 0으로 저장된다")
+    public void emptyTest() {
+        assertEquals(0, converter.convertToDatabaseColumn(null));
+        assertEquals(0, Tag.toBits(Arrays.asList(Tag.from("없는 태그"), null)));
+        assertTrue(converter.convertToEntityAttribute(null).isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerRate;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.repository.BrokerRateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BrokerRateBookTest {
+
+    @Test
+    @DisplayName("체결일이 속한 구간의 요율을 찾고, 같은 적용일은 큰 revision 이 이긴다")
+    public void rateOfTest() {
+        //given
+        BrokerRateRepository repository = mock(BrokerRateRepository.class);
+        when(repository.findAllByOrderByBrokerAscMarketTypeAscEffectiveFromAscRevisionAsc()).thenReturn(List.of(
+                rate(LocalDate.of(2024, 1, 1), 1, 0.0002),
+                rate(LocalDate.of(2024, 7, 1), 1, 0.0001),
+                rate(LocalDate.of(2024, 7, 1), 2, 0.00005)));
+        BrokerRateBook book = new BrokerRateBook(repository);
+
+        //when
+        book.reload();
+
+        //then
+        assertEquals(0.00015, book.rateOf(Broker.KIWOOM, MarketType.KOR, LocalDate.of(2023, 12, 31))); // 첫 적용일 이전은 초기값
+        assertEquals(0.0002, book.rateOf(Broker.KIWOOM, MarketType.KOR, LocalDate.of(2024, 6, 30)));
+        assertEquals(0.00005, book.rateOf(Broker.KIWOOM, MarketType.KOR, LocalDate.of(2024, 7, 1)));
+        assertEquals(0.00005, book.rateOf(Broker.KIWOOM, MarketType.KOR, null));
+        assertEquals(0.001, book.rateOf(Broker.KIWOOM, MarketType.USA, LocalDate.of(2024, 7, 1))); // 요율표에 없으면 초기값
+    }
+
+    @Test
+    @DisplayName("적용 구간은 빈틈 없이 이어지고 마지막 구간만 latest 이다")
+    public void periodsOfTest() {
+        //given
+        BrokerRateRepository repository = mock(BrokerRateRepository.class);
+        when(repository.findAllByOrderByBrokerAscMarketTypeAscEffectiveFromAscRevisionAsc()).thenReturn(List.of(
+                rate(LocalDate.of(2024, 1, 1), 1, 0.0002),
+                rate(LocalDate.of(2024, 7, 1), 1, 0.0001)));
+        BrokerRateBook book = new BrokerRateBook(repository);
+        book.reload();
+
+        //when
+        List<BrokerRateBook.RatePeriod> periods = book.periodsOf(Broker.KIWOOM, MarketType.KOR);
+
+        //then
+        assertEquals(3, periods.size());
+        assertEquals(BrokerRateBook.FIRST_DAY, periods.get(0).getFrom());
+        assertEquals(LocalDate.of(2024, 1, 1), periods.get(0).getTo());
+        assertEquals(0.00015, periods.get(0).getRate());
+        assertEquals(LocalDate.of(2024, 7, 1), periods.get(1).getTo());
+        assertEquals(0.0001, periods.get(2).getRate());
+        assertEquals(BrokerRateBook.LAST_DAY, periods.get(2).getTo());
+        assertEquals(true, periods.get(2).isLatest());
+    }
+
+    private static BrokerRate rate(LocalDate effectiveFrom, int revision, double rate) {
+        return BrokerRate.builder()
+                .broker(Broker.KIWOOM)
+                .marketType(MarketType.KOR)
+                .effectiveFrom(effectiveFrom)
+                .revision(revision)
+                .rate(rate)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.tradelog.dto.BrokerExecutionDto;
+import com.example.stockLog.tradelog.dto.BrokerSyncResultDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.BrokerSyncState;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.repository.TradeLogBatchWriter;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+//페이지 저장(savePage)과 정정 반영(saveCorrections)을 H2 에서 sync 로 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BrokerSyncService.class, TradeLogBatchWriter.class})
+public class BrokerSyncServiceTest {
+    private static final LocalDateTime EXECUTED_AT = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    @Autowired BrokerSyncService brokerSyncService;
+    @Autowired TradeLogRepository tradeLogRepository;
+    @Autowired EntityManager em;
+
+    @MockitoBean BrokerExecutionSource source;
+    @MockitoBean StockMasterDictionary stockMasterDictionary;
+    @MockitoBean BrokerRateBook brokerRateBook;
+    @MockitoBean(name = "brokerSyncExecutor") ThreadPoolTaskExecutor brokerSyncExecutor;
+
+    private User user;
+    private BrokerSyncState state;
+    private List<BrokerExecutionDto> executions = List.of();
+    private List<BrokerExecutionDto> corrections = List.of();
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("sync@test.com").nickname("sync").password("pw").build();
+        em.persist(user);
+        state = BrokerSyncState.builder().user(user).broker(Broker.KIWOOM).enabled(true).build();
+        em.persist(state);
+        em.flush();
+        when(source.supports(any())).thenReturn(true);
+        //커서 뒤 것만 주는 증권사처럼 흉내냄: 커서가 없을 때만 목록 전체
+        when(source.fetchExecutions(anyLong(), any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(2) == null ? executions : List.of());
+        when(source.fetchCorrections(anyLong(), any(), any(), any(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(2) == null ? corrections : List.of());
+    }
+
+    @Test
+    @DisplayName("체결 시각을 그대로 둔 정정도 정정 커서로 받아서 고치고, 한 번만 반영한다")
+    public void correctionKeepingExecutedAtTest() {
+        //given
+        executions = List.of(execution("E1", 100.0, null));
+        BrokerSyncResultDto first = brokerSyncService.sync(state.getId());
+        LocalDateTime modifiedAt = LocalDateTime.of(2026, 1, 6, 8, 0);
+        corrections = List.of(execution("E1", 105.0, modifiedAt));
+
+        //when
+        BrokerSyncResultDto second = brokerSyncService.sync(state.getId());
+        BrokerSyncResultDto third = brokerSyncService.sync(state.getId());
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(first.getInserted()).isEqualTo(1);
+        assertThat(second.getFetched()).isZero();
+        assertThat(second.getCorrected()).isEqualTo(1);
+        assertThat(third.getCorrected()).isZero();
+        TradeLog corrected = tradeLogRepository.findAll().get(0);
+        assertThat(corrected.getExecutionPrice()).isEqualTo(105.0);
+        assertThat(corrected.getTotalCost()).isEqualTo(1_051.0); // 105 x 10 + 수수료 1
+        assertThat(corrected.getTradeDate()).isEqualTo(EXECUTED_AT.toLocalDate());
+        assertThat(corrected.getFingerprint()).isEqualTo(TradeLog.fingerprintOf(user.getId(), EXECUTED_AT.toLocalDate(),
+                "005930", "Samsung", TradeType.BUY, 105.0, 10.0));
+        BrokerSyncState saved = em.find(BrokerSyncState.class, state.getId());
+        assertThat(saved.getWatermarkId()).isEqualTo("E1");
+        assertThat(saved.getCorrectionWatermarkAt()).isEqualTo(modifiedAt);
+        assertThat(saved.getCorrectionWatermarkId()).isEqualTo("E1");
+    }
+
+    @Test
+    @DisplayName("watermark 앞의 체결을 다시 받으면 건너뛰고, 저장된 적 없는 체결의 정정은 커서만 넘긴다")
+    public void redeliveredPageTest() {
+        //given: 커서와 상관없이 같은 페이지를 계속 주는 증권사
+        when(source.fetchExecutions(anyLong(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(execution("E1", 100.0, null), execution("E2", 100.0, null)));
+        brokerSyncService.sync(state.getId());
+        corrections = List.of(execution("E9", 200.0, LocalDateTime.of(2026, 1, 6, 8, 0)));
+
+        //when
+        BrokerSyncResultDto again = brokerSyncService.sync(state.getId());
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(again.getFetched()).isZero();
+        assertThat(again.getInserted()).isZero();
+        assertThat(again.getCorrected()).isZero();
+        assertThat(tradeLogRepository.count()).isEqualTo(2);
+        assertThat(em.find(BrokerSyncState.class, state.getId()).getCorrectionWatermarkId()).isEqualTo("E9");
+    }
+
+    private static BrokerExecutionDto execution(String executionId, double price, LocalDateTime modifiedAt) {
+        return new BrokerExecutionDto(executionId, EXECUTED_AT, "005930", "Samsung", MarketType.KOR, TradeType.BUY,
+                price, 10.0, 1.0, modifiedAt);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.BrokerExecutionDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileBrokerExecutionSourceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("watermark(체결 시각, 체결번호) 뒤의 체결만 순서대로 limit 개까지 돌려준다")
+    public void fetchAfterWatermarkTest() throws IOException {
+        //given
+        Files.createDirectories(directory.resolve("1"));
+        Files.writeString(directory.resolve("1/KIWOOM.csv"),
+                "executionId,executedAt,ticker,stockName,marketType,tradeType,price,quantity,fee\n" +
+                "E3,2024-03-02T09:00:00,005930,삼성전자,KOR,SELL,71000,1,10\n" +
+                "E1,2024-03-01T09:00:00,005930,삼성전자,KOR,BUY,70000,2,\n" +
+                "E2,2024-03-01T09:00:00,005930,삼성전자,KOR,BUY,70000,1,\n" +
+                "E4,2024-03-03T09:00:00,005930,삼성전자,KOR,BUY,72000,1,\n");
+        FileBrokerExecutionSource source = new FileBrokerExecutionSource(directory.toString());
+
+        //when
+        List<BrokerExecutionDto> first = source.fetchExecutions(1L, Broker.KIWOOM, null, null, 2);
+        List<BrokerExecutionDto> next = source.fetchExecutions(1L, Broker.KIWOOM,
+                LocalDateTime.of(2024, 3, 1, 9, 0), "E2", 10);
+
+        //then
+        assertEquals(List.of("E1", "E2"), first.stream().map(BrokerExecutionDto::getExecutionId).toList());
+        assertNull(first.get(0).getFee());
+        assertEquals(List.of("E3", "E4"), next.stream().map(BrokerExecutionDto::getExecutionId).toList());
+        assertEquals(10.0, next.get(0).getFee());
+    }
+
+    @Test
+    @DisplayName("정정은 체결 시각과 상관없이 (정정 시각, 체결번호) 커서 뒤의 것만 돌려준다")
+    public void fetchCorrectionsTest() throws IOException {
+        //given: E1 은 정정 안 됨, E2/E3 은 체결 시각은 그대로 두고 정정
+        Files.createDirectories(directory.resolve("1"));
+        Files.writeString(directory.resolve("1/KIWOOM.csv"),
+                "executionId,executedAt,ticker,stockName,marketType,tradeType,price,quantity,fee,modifiedAt\n" +
+                "E1,2024-03-01T09:00:00,005930,삼성전자,KOR,BUY,70000,2,,\n" +
+                "E3,2024-03-01T10:00:00,005930,삼성전자,KOR,BUY,70500,1,,2024-03-05T08:00:00\n" +
+                "E2,2024-03-01T09:30:00,005930,삼성전자,KOR,BUY,70100,1,,2024-03-04T08:00:00\n");
+        FileBrokerExecutionSource source = new FileBrokerExecutionSource(directory.toString());
+
+        //when
+        List<BrokerExecutionDto> all = source.fetchCorrections(1L, Broker.KIWOOM, null, null, 10);
+        List<BrokerExecutionDto> next = source.fetchCorrections(1L, Broker.KIWOOM,
+                LocalDateTime.of(2024, 3, 4, 8, 0), "E2", 10);
+
+        //then
+        assertEquals(List.of("E2", "E3"), all.stream().map(BrokerExecutionDto::getExecutionId).toList());
+        assertEquals(List.of("E3"), next.stream().map(BrokerExecutionDto::getExecutionId).toList());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 0), next.get(0).getExecutedAt());
+    }
+
+    @Test
+    @DisplayName("파일이 없는 유저/증권사는 빈 목록")
+    public void missingFileTest() {
+        FileBrokerExecutionSource source = new FileBrokerExecutionSource(directory.toString());
+        assertTrue(source.fetchExecutions(2L, Broker.TOSS, null, null, 10).isEmpty());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.DividendPaymentDto;
+import com.example.stockLog.tradelog.entity.MarketType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileDividendScheduleSourceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("요청한 종목의 from 이후 지급만 돌려준다")
+    public void fetchPaymentsTest() throws IOException {
+        //given
+        Path file = directory.resolve("dividends.csv");
+        Files.writeString(file,
+                "ticker,stockName,marketType,paymentDate,dividendPerShare\n" +
+                "005930,삼성전자,KOR,2024-04-19,361\n" +
+                "005930,삼성전자,KOR,2023-11-20,361\n" +
+                "AAPL,Apple,USA,2024-05-16,0.25\n" +
+                "MSFT,Microsoft,USA,2024-06-13,0.75\n");
+        FileDividendScheduleSource source = new FileDividendScheduleSource(file.toString());
+
+        //when
+        List<DividendPaymentDto> payments = source.fetchPayments(List.of("005930", "AAPL"), LocalDate.of(2024, 1, 1));
+
+        //then
+        assertEquals(List.of("005930", "AAPL"), payments.stream().map(DividendPaymentDto::getTicker).toList());
+        assertEquals(MarketType.USA, payments.get(1).getMarketType());
+        assertEquals(0.25, payments.get(1).getDividendPerShare());
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 빈 목록")
+    public void missingFileTest() {
+        FileDividendScheduleSource source = new FileDividendScheduleSource(directory.resolve("none.csv").toString());
+        assertTrue(source.fetchPayments(List.of("AAPL"), LocalDate.of(2024, 1, 1)).isEmpty());
+    }
+}
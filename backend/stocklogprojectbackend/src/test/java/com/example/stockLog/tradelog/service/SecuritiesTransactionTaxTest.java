@@ -0,0 +1,23 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SecuritiesTransactionTaxTest {
+
+    @Test
+    @DisplayName("국내 매도만 체결일 세율로 원 미만 버림해서 계산한다")
+    public void amountOfTest() {
+        assertEquals(1800, SecuritiesTransactionTax.amountOf(MarketType.KOR, TradeType.SELL, LocalDate.of(2024, 12, 31), 1_000_000));
+        assertEquals(1500, SecuritiesTransactionTax.amountOf(MarketType.KOR, TradeType.SELL, LocalDate.of(2025, 1, 1), 1_000_000));
+        assertEquals(2, SecuritiesTransactionTax.amountOf(MarketType.KOR, TradeType.SELL, LocalDate.of(2025, 6, 1), 1_999));
+        assertEquals(0, SecuritiesTransactionTax.amountOf(MarketType.KOR, TradeType.BUY, LocalDate.of(2025, 6, 1), 1_000_000));
+        assertEquals(0, SecuritiesTransactionTax.amountOf(MarketType.USA, TradeType.SELL, LocalDate.of(2025, 6, 1), 1_000_000));
+    }
+}
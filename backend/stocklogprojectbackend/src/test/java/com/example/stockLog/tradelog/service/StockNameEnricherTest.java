@@ -0,0 +1,62 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.tradelog.dto.StockInfoDto;
+import com.example.stockLog.tradelog.event.StockNameLookupEvent;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StockNameEnricherTest {
+    private final StockDataService stockDataService = mock(StockDataService.class);
+    private final StockMasterDictionary stockMasterDictionary = mock(StockMasterDictionary.class);
+    private final TradeLogRepository tradeLogRepository = mock(TradeLogRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final StockNameEnricher enricher =
+            new StockNameEnricher(stockDataService, stockMasterDictionary, tradeLogRepository, transactionTemplate);
+
+    @Test
+    @DisplayName("이름을 찾으면 같은 티커, 같은 잘못된 이름의 일지를 모두 고치고 한동안 다시 묻지 않는다")
+    public void updatesAllRowsWithWrongNameTest() {
+        //given
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(stockDataService.getStockInfo("NVDA")).thenReturn(new StockInfoDto("NVIDIA", "NVDA", 100.0));
+
+        //when
+        enricher.onLookup(new StockNameLookupEvent("nvda", "nvda"));
+        enricher.onLookup(new StockNameLookupEvent("nvda", "nvda"));
+
+        //then
+        verify(stockDataService, times(1)).getStockInfo("NVDA");
+        verify(stockMasterDictionary).put("NVDA", "NVIDIA");
+        verify(tradeLogRepository).updateStockNameByTicker(eq("nvda"), eq("nvda"), eq("NVIDIA"), any());
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 기록을 남기지 않아서 다음 저장 때 다시 묻는다")
+    public void failedLookupIsRetriedTest() {
+        //given
+        when(stockDataService.getStockInfo("NVDA"))
+                .thenThrow(new IllegalStateException("시트 응답 없음"))
+                .thenReturn(new StockInfoDto(null, "NVDA", null));
+
+        //when
+        enricher.onLookup(new StockNameLookupEvent("NVDA", "NVDA"));
+        enricher.onLookup(new StockNameLookupEvent("NVDA", "NVDA"));
+        enricher.onLookup(new StockNameLookupEvent("NVDA", "NVDA"));
+
+        //then
+        verify(stockDataService, times(2)).getStockInfo("NVDA");
+        verify(tradeLogRepository, never()).updateStockNameByTicker(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.repository.UserRepository;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.TradeLogChangedEvent;
+import com.example.stockLog.tradelog.event.TradeLogSnapshot;
+import com.example.stockLog.tradelog.repository.TaxYearTallyRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class TaxTallyServiceTest {
+    private final TaxYearTallyRepository taxYearTallyRepository = mock(TaxYearTallyRepository.class);
+    private final TradeLogRepository tradeLogRepository = mock(TradeLogRepository.class);
+    private final TaxTallyService service = new TaxTallyService(taxYearTallyRepository, tradeLogRepository,
+            mock(UserRepository.class), mock(TransactionTemplate.class), 1350);
+
+    @Test
+    @DisplayName("수정 이벤트는 연도별로 거래세는 모든 기록, 양도 손익과 건수는 해외 매도만 차이를 반영한다")
+    public void updatedDeltaTest() {
+        //given: 작년 해외 매도 이익을 올해 국내 매도로 고침
+        TradeLogSnapshot before = new TradeLogSnapshot(LocalDate.of(2025, 12, 30), MarketType.USA, null, TradeType.SELL, 100.0, 0.0);
+        TradeLogSnapshot after = new TradeLogSnapshot(LocalDate.of(2026, 1, 2), MarketType.KOR, null, TradeType.SELL, 100.0, 15.0);
+
+        //when
+        service.onTradeLogChanged(TradeLogChangedEvent.updated(1L, before, after));
+
+        //then
+        verify(taxYearTallyRepository).addYearly(1L, 2025, -100.0, 0.0, -1, 0.0);
+        verify(taxYearTallyRepository).addYearly(1L, 2026, 0.0, 0.0, 0, 15.0);
+        verifyNoMoreInteractions(taxYearTallyRepository);
+    }
+
+    @Test
+    @DisplayName("세금과 상관없는 기록(국내 매수)과 날짜 없는 기록은 아무것도 쓰지 않는다")
+    public void emptyDeltaTest() {
+        service.onTradeLogChanged(TradeLogChangedEvent.created(1L, List.of(
+                new TradeLogSnapshot(LocalDate.of(2026, 1, 2), MarketType.KOR, null, TradeType.BUY, null, 0.0),
+                new TradeLogSnapshot(null, MarketType.USA, null, TradeType.SELL, 10.0, 0.0))));
+
+        verify(taxYearTallyRepository, never()).addYearly(anyLong(), anyInt(), anyDouble(), anyDouble(), anyInt(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("대량 변경 이벤트는 그 유저 집계를 지우고 다시 만든다")
+    public void bulkRebuildTest() {
+        service.onTradeLogChanged(TradeLogChangedEvent.bulk(1L));
+
+        verify(taxYearTallyRepository).deleteByUser(1L);
+        verify(tradeLogRepository).findTaxYearTallies(1L);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.stockLog.tradelog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class TradeCalendarCacheTest {
+
+    @Test
+    @DisplayName("읽는 도중에 무효화되면 그 결과는 캐시에 남기지 않는다")
+    public void evictDuringLoadTest() {
+        //given
+        TradeCalendarCache cache = new TradeCalendarCache();
+        YearMonth month = YearMonth.of(2026, 1);
+
+        //when
+        byte[] stale = cache.get(1L, month, () -> {
+            cache.evict(1L); //커밋 후 무효화가 읽는 사이에 끼어듦
+            return new byte[]{1};
+        });
+        byte[] fresh = cache.get(1L, month, () -> new byte[]{2});
+        byte[] cached = cache.get(1L, month, () -> new byte[]{3});
+
+        //then
+        assertArrayEquals(new byte[]{1}, stale);
+        assertArrayEquals(new byte[]{2}, fresh);
+        assertArrayEquals(new byte[]{2}, cached);
+    }
+}
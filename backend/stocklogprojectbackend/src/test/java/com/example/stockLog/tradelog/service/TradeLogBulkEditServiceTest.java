@@ -0,0 +1,79 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.sync.service.SyncService;
+import com.example.stockLog.tradelog.dto.TradeLogBulkEditRequestDto;
+import com.example.stockLog.tradelog.entity.Broker;
+import com.example.stockLog.tradelog.entity.MarketType;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TradeLogBulkEditService.class)
+public class TradeLogBulkEditServiceTest {
+    @Autowired TradeLogBulkEditService tradeLogBulkEditService;
+    @Autowired EntityManager em;
+
+    @MockitoBean BrokerRateBook brokerRateBook;
+    @MockitoBean SyncService syncService;
+
+    @Test
+    @DisplayName("증권사 일괄 변경은 새 요율로 수수료를 다시 계산하되, 증권사 체결은 두고 시장 없는 행은 요율 0 으로 계산한다")
+    public void changeBrokerRepriceTest() {
+        //given
+        User user = User.builder().email("broker@test.com").nickname("broker").password("pw").build();
+        em.persist(user);
+        TradeLog manual = trade(user, MarketType.KOR, null);
+        TradeLog synced = trade(user, MarketType.KOR, "EXEC-1");
+        TradeLog noMarket = trade(user, null, null);
+        em.flush();
+        when(brokerRateBook.periodsOf(eq(Broker.TOSS), any())).thenReturn(List.of(
+                new BrokerRateBook.RatePeriod(LocalDate.of(2000, 1, 1), LocalDate.of(9999, 1, 1), true, 0.001)));
+        TradeLogBulkEditRequestDto dto = new TradeLogBulkEditRequestDto();
+        dto.setBroker(Broker.KIWOOM);
+        dto.setTargetBroker(Broker.TOSS);
+
+        //when
+        long rows = tradeLogBulkEditService.changeBroker(user.getId(), dto).getAffectedRows();
+        em.clear();
+
+        //then
+        assertThat(rows).isEqualTo(3);
+        TradeLog repriced = em.find(TradeLog.class, manual.getId());
+        assertThat(repriced.getBroker()).isEqualTo(Broker.TOSS);
+        assertThat(repriced.getFee()).isEqualTo(10.0); // 10,000 x 0.001
+        assertThat(repriced.getTotalCost()).isEqualTo(10_010.0);
+        assertThat(repriced.getTradingCost()).isEqualTo(15.0); //클라이언트 입력값은 그대로
+        assertThat(em.find(TradeLog.class, synced.getId()).getFee()).isEqualTo(15.0);
+        assertThat(em.find(TradeLog.class, noMarket.getId()).getFee()).isEqualTo(0.0);
+        assertThat(em.find(TradeLog.class, noMarket.getId()).getTotalCost()).isEqualTo(10_000.0);
+    }
+
+    private TradeLog trade(User user, MarketType marketType, String executionId) {
+        TradeLog tradeLog = TradeLog.builder().user(user).stockName("Samsung").ticker("005930")
+                .marketType(marketType).broker(Broker.KIWOOM).tradeType(TradeType.BUY)
+                .executionPrice(100.0).executedQuantity(100.0).fee(15.0).tax(0.0).tradingCost(15.0).totalCost(10_015.0)
+                .tradeDate(LocalDate.of(2026, 1, 5)).executionId(executionId).build();
+        em.persist(tradeLog);
+        return tradeLog;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.graph.dto.MonthlyRollupDto;
+import com.example.stockLog.graph.dto.StrategyResponseDto;
+import com.example.stockLog.tradelog.dto.TradeDayDto;
+import com.example.stockLog.tradelog.dto.TradeLogColumnRowDto;
+import com.example.stockLog.tradelog.dto.TradeSummaryDto;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+//컬럼 캐시 집계가 캐시를 끄면 쓰는 DB 쿼리(getSummary, findTradeDays, findMonthlyRollups)와 같은 값을 내는지 H2 에서 비교
+//null 손익/수익률/매매구분/날짜가 섞인 기록으로 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class TradeLogColumnsTest {
+    @Autowired TradeLogRepository tradeLogRepository;
+    @Autowired EntityManager em;
+
+    private User user;
+    private TradeLogColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("columns@test.com").nickname("columns").password("pw").build();
+        em.persist(user);
+        trade(LocalDate.of(2025, 12, 31), TradeType.SELL, 50.0, 5.0);
+        trade(LocalDate.of(2026, 1, 1), TradeType.BUY, null, null);
+        trade(LocalDate.of(2026, 1, 1), TradeType.SELL, -20.0, -2.0);
+        trade(LocalDate.of(2026, 1, 15), TradeType.SELL, 30.0, null);
+        trade(LocalDate.of(2026, 1, 15), null, 10.0, 1.0);
+        trade(LocalDate.of(2026, 1, 31), TradeType.SELL, null, 4.0);
+        trade(LocalDate.of(2026, 2, 28), TradeType.BUY, 0.0, 0.0);
+        trade(LocalDate.of(2026, 3, 3), TradeType.SELL, 7.5, 3.0);
+        trade(null, TradeType.SELL, 99.0, 9.0);
+        em.flush();
+        em.clear();
+        try (Stream<TradeLogColumnRowDto> rows = tradeLogRepository.streamColumnRows(user.getId())) {
+            columns = TradeLogColumns.load(rows.iterator());
+        }
+    }
+
+    @Test
+    @DisplayName("기간 결산은 getSummary 와 같다 (빈 기간, 경계일, null 포함)")
+    public void summaryParityTest() {
+        assertThat(columns.size()).isEqualTo(8);
+        assertSameSummary(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        assertSameSummary(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 12, 31));
+        assertSameSummary(LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 14));
+        assertSameSummary(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+        assertSameSummary(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 1, 31));
+    }
+
+    @Test
+    @DisplayName("캘린더 비트는 findTradeDays 와 같다")
+    public void dayBitsParityTest() {
+        for (YearMonth month : List.of(YearMonth.of(2025, 12), YearMonth.of(2026, 1), YearMonth.of(2026, 2), YearMonth.of(2026, 4))) {
+            byte[] expected = new byte[month.lengthOfMonth()];
+            for (TradeDayDto day : tradeLogRepository.findTradeDays(user.getId(), month.atDay(1), month.atEndOfMonth())) {
+                if (day.getTradeType() != null) expected[day.getTradeDate().getDayOfMonth() - 1] |= day.getTradeType().getBit();
+            }
+            assertThat(columns.dayBits(month)).as(month.toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("월별 그래프는 findMonthlyRollups 와 같고, 매매가 없던 달은 0 이다")
+    public void monthlyParityTest() {
+        List<MonthlyRollupDto> rollups = tradeLogRepository.findMonthlyRollups(user.getId());
+        for (int year : List.of(2025, 2026, 2027)) {
+            List<StrategyResponseDto> monthly = columns.monthly(year);
+            assertThat(monthly).hasSize(12);
+            for (StrategyResponseDto month : monthly) {
+                MonthlyRollupDto expected = rollups.stream()
+                        .filter(r -> r.getYear() == year && r.getMonth() == month.getMonth())
+                        .findFirst()
+                        .orElse(new MonthlyRollupDto(year, month.getMonth(), null, null, null));
+                assertThat(month.getRealizedPL()).as(year + "-" + month.getMonth()).isCloseTo(expected.getRealizedPL(), within(1e-9));
+                assertThat(month.getTradeCount()).as(year + "-" + month.getMonth()).isEqualTo(expected.getTradeCount());
+                assertThat(month.getWinCount()).as(year + "-" + month.getMonth()).isEqualTo(expected.getWinCount());
+            }
+        }
+    }
+
+    private void assertSameSummary(LocalDate start, LocalDate end) {
+        TradeSummaryDto expected = tradeLogRepository.getSummary(user.getId(), start, end);
+        TradeSummaryDto actual = columns.summary(start, end);
+        String range = start + "~" + end;
+        assertThat(actual.getTradeCount()).as(range).isEqualTo(expected.getTradeCount());
+        if (expected.getTotalRealizedPL() == null) {
+            assertThat(actual.getTotalRealizedPL()).as(range).isNull();
+        } else {
+            assertThat(actual.getTotalRealizedPL()).as(range).isCloseTo(expected.getTotalRealizedPL(), within(1e-9));
+        }
+        assertThat(actual.getAverageRateOfReturn()).as(range).isCloseTo(expected.getAverageRateOfReturn(), within(1e-9));
+    }
+
+    private void trade(LocalDate tradeDate, TradeType tradeType, Double realizedPL, Double rateOfReturn) {
+        em.persist(TradeLog.builder().user(user).stockName("Apple").ticker("AAPL").tradeType(tradeType)
+                .tradeDate(tradeDate).realizedPL(realizedPL).rateOfReturn(rateOfReturn).build());
+    }
+}
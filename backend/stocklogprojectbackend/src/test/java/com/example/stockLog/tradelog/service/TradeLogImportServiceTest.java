@@ -0,0 +1,182 @@
+package com.example.stockLog.tradelog.service;
+
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.tradelog.dto.StockInfoDto;
+import com.example.stockLog.tradelog.dto.TradeLogExportFormat;
+import com.example.stockLog.tradelog.dto.TradeLogImportResultDto;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.event.StockNameLookupEvent;
+import com.example.stockLog.tradelog.repository.TradeLogBatchWriter;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+//가져오기 중복 건너뛰기(dropDuplicates)를 H2 에서 실제 CSV 로 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TradeLogImportService.class, TradeLogBatchWriter.class, TradeLogExportService.class, StockNameEnricher.class})
+public class TradeLogImportServiceTest {
+    private static final String HEADER = "종목명,거래일,구분,단가,수량\n";
+    private static final String FILL = "Apple,2026-01-05,매수,100,1\n";
+
+    @Autowired TradeLogImportService tradeLogImportService;
+    @Autowired TradeLogExportService tradeLogExportService;
+    @Autowired StockNameEnricher stockNameEnricher;
+    @Autowired TradeLogRepository tradeLogRepository;
+    @Autowired EntityManager em;
+
+    @MockitoBean StockDataService stockDataService;
+    @MockitoBean StockMasterDictionary stockMasterDictionary;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("import@test.com").nickname("import").password("pw").build();
+        em.persist(user);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("같은 파일을 다시 가져오면 아무것도 저장하지 않는다")
+    public void reimportSameFileTest() throws Exception {
+        //given
+        String csv = HEADER + FILL + FILL + "Tesla,2026-01-06,매도,200,3\n" + "Nvidia,2026-01-07,매수,50,2\n";
+        TradeLogImportResultDto first = importCsv(csv);
+
+        //when
+        TradeLogImportResultDto second = importCsv(csv);
+
+        //then
+        assertThat(first.getSavedRows()).isEqualTo(4);
+        assertThat(second.getSavedRows()).isZero();
+        assertThat(second.getDuplicateRows()).isEqualTo(4);
+        assertThat(tradeLogRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 체결이 파일에 n 개, DB 에 m 개 있으면 min(n, m) 개만 건너뛴다")
+    public void identicalFillsTest() throws Exception {
+        //given: DB 에 2개
+        importCsv(HEADER + FILL + FILL);
+
+        //when: 파일에 3개 -> 2개 건너뛰고 1개 저장, 파일에 1개 -> 1개 건너뜀
+        TradeLogImportResultDto more = importCsv(HEADER + FILL + FILL + FILL);
+        TradeLogImportResultDto fewer = importCsv(HEADER + FILL);
+
+        //then
+        assertThat(more.getDuplicateRows()).isEqualTo(2);
+        assertThat(more.getSavedRows()).isEqualTo(1);
+        assertThat(fewer.getDuplicateRows()).isEqualTo(1);
+        assertThat(fewer.getSavedRows()).isZero();
+        assertThat(tradeLogRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 체결이 청크 경계를 넘어 나뉘어 있어도 DB 에 있는 개수만큼만 건너뛴다")
+    public void duplicatesSplitAcrossChunksTest() throws Exception {
+        //given: DB 에 2개. 파일에서는 998행 뒤에 3개가 이어져서 첫 청크(1000행)에 2개, 다음 청크에 1개
+        importCsv(HEADER + FILL + FILL);
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 998; i++) {
+            csv.append("Filler,2026-02-01,매수,").append(1000 + i).append(",1\n");
+        }
+        csv.append(String.join("", Collections.nCopies(3, FILL)));
+        csv.append("Tail,2026-02-02,매수,10,1\n");
+
+        //when
+        TradeLogImportResultDto first = importCsv(csv.toString());
+        TradeLogImportResultDto again = importCsv(csv.toString());
+
+        //then
+        assertThat(first.getTotalRows()).isEqualTo(1002);
+        assertThat(first.getDuplicateRows()).isEqualTo(2);
+        assertThat(first.getSavedRows()).isEqualTo(1000);
+        assertThat(again.getDuplicateRows()).isEqualTo(1002);
+        assertThat(again.getSavedRows()).isZero();
+        assertThat(tradeLogRepository.count()).isEqualTo(1002);
+    }
+
+    @Test
+    @DisplayName("가져오기 말고 저장된 기록도 내보낸 파일을 다시 올리면 중복으로 건너뛴다")
+    public void reimportExportTest() throws Exception {
+        //given: 직접 입력 경로처럼 builder 로 만들고 fingerprint 를 붙여 저장
+        TradeLog manual = TradeLog.builder().user(user).stockName("Apple").ticker("AAPL").tradeType(TradeType.SELL)
+                .executionPrice(101.50).executedQuantity(3.0).purchasePrice(90.0).tradeDate(LocalDate.of(2026, 1, 5)).build();
+        manual.assignFingerprint();
+        em.persist(manual);
+        em.flush();
+        byte[] exported = exportCsv();
+
+        //when
+        TradeLogImportResultDto result = importBytes(exported);
+
+        //then
+        assertThat(result.getTotalRows()).isEqualTo(1);
+        assertThat(result.getDuplicateRows()).isEqualTo(1);
+        assertThat(result.getSavedRows()).isZero();
+        assertThat(tradeLogRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종목명이 보정된 뒤에 내보낸 파일도, 보정 전에 내보낸 파일도 다시 올리면 중복으로 건너뛴다")
+    public void reimportAfterEnrichTest() throws Exception {
+        //given: 사전에 없는 티커라 입력한 이름(티커 그대로)으로 저장된 기록
+        TradeLog manual = TradeLog.builder().user(user).stockName("nvda").ticker("nvda").tradeType(TradeType.BUY)
+                .executionPrice(120.0).executedQuantity(2.0).tradeDate(LocalDate.of(2026, 1, 5)).build();
+        manual.assignFingerprint();
+        em.persist(manual);
+        em.flush();
+        byte[] beforeEnrich = exportCsv();
+        when(stockDataService.getStockInfo("NVDA")).thenReturn(new StockInfoDto("NVIDIA", "NVDA", 120.0));
+        stockNameEnricher.onLookup(new StockNameLookupEvent("nvda", "nvda"));
+        em.clear();
+        byte[] afterEnrich = exportCsv();
+
+        //when
+        TradeLogImportResultDto fromNew = importBytes(afterEnrich);
+        TradeLogImportResultDto fromOld = importBytes(beforeEnrich);
+
+        //then
+        assertThat(new String(afterEnrich, StandardCharsets.UTF_8)).contains("NVIDIA");
+        assertThat(fromNew.getDuplicateRows()).isEqualTo(1);
+        assertThat(fromNew.getSavedRows()).isZero();
+        assertThat(fromOld.getDuplicateRows()).isEqualTo(1);
+        assertThat(fromOld.getSavedRows()).isZero();
+        assertThat(tradeLogRepository.count()).isEqualTo(1);
+    }
+
+    private byte[] exportCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tradeLogExportService.export(user.getId(), TradeLogExportFormat.CSV, out);
+        return out.toByteArray();
+    }
+
+    private TradeLogImportResultDto importBytes(byte[] file) throws Exception {
+        return tradeLogImportService.importCsv(new ByteArrayInputStream(file), user.getId(), (total, saved, duplicates, errors) -> { });
+    }
+
+    private TradeLogImportResultDto importCsv(String csv) throws Exception {
+        return tradeLogImportService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                user.getId(), (total, saved, duplicates, errors) -> { });
+    }
+}
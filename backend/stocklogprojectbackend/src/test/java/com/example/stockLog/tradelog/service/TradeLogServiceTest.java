@@ -1,4 +1,96 @@
 package com.example.stockLog.tradelog.service;
 
+import com.example.stockLog.community.entity.User;
+import com.example.stockLog.sync.service.SyncService;
+import com.example.stockLog.tradelog.dto.BulkTradeLogResponseDto;
+import com.example.stockLog.tradelog.dto.BulkTradeLogResultDto;
+import com.example.stockLog.tradelog.dto.TradeLogRequestDto;
+import com.example.stockLog.tradelog.entity.TradeLog;
+import com.example.stockLog.tradelog.entity.TradeLogJournal;
+import com.example.stockLog.tradelog.entity.TradeType;
+import com.example.stockLog.tradelog.repository.TradeLogBatchWriter;
+import com.example.stockLog.tradelog.repository.TradeLogJournalRepository;
+import com.example.stockLog.tradelog.repository.TradeLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//일괄 저장은 JDBC 배치로 넣으므로 H2 에서 실제 INSERT 와 생성 id 순서까지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TradeLogService.class, TradeLogBatchWriter.class})
 public class TradeLogServiceTest {
+    @Autowired TradeLogService tradeLogService;
+    @Autowired TradeLogRepository tradeLogRepository;
+    @Autowired TradeLogJournalRepository tradeLogJournalRepository;
+    @Autowired EntityManager em;
+
+    @MockitoBean AiAnalysisService aiAnalysisService;
+    @MockitoBean StockMasterDictionary stockMasterDictionary;
+    @MockitoBean BrokerRateBook brokerRateBook;
+    @MockitoBean TradeCalendarCache tradeCalendarCache;
+    @MockitoBean TradeLogColumnCache tradeLogColumnCache;
+    @MockitoBean DividendScheduleCache dividendScheduleCache;
+    @MockitoBean SyncService syncService;
+    @MockitoBean ObjectMapper objectMapper;
+
+    private final ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("일괄 저장은 검증 실패 건만 건너뛰고, 건별 결과와 id 를 요청 순서대로 돌려준다")
+    public void writeBulkPartialFailureTest() throws Exception {
+        //given
+        User user = User.builder().email("bulk@test.com").nickname("bulk").password("pw").build();
+        em.persist(user);
+        List<TradeLogRequestDto> dtos = Arrays.asList(
+                request("{\"stockName\":\"Apple\",\"ticker\":\"AAPL\",\"tradeType\":\"BUY\",\"executionPrice\":100,\"executedQuantity\":1,\"tradeDate\":\"2026-01-05\"}"),
+                request("{\"stockName\":\"Tesla\",\"ticker\":\"TSLA\",\"tradeType\":\"BUY\",\"executionPrice\":100,\"executedQuantity\":0,\"tradeDate\":\"2026-01-05\"}"),
+                null,
+                request("{\"stockName\":\"Nvidia\",\"ticker\":\"NVDA\",\"tradeType\":\"SELL\",\"executionPrice\":120,\"purchasePrice\":100,\"executedQuantity\":2,\"tradeDate\":\"2026-01-06\",\"reasonForSale\":\"목표가\"}"),
+                request("{\"stockName\":\" \",\"ticker\":\"MSFT\",\"tradeType\":\"BUY\",\"executionPrice\":100,\"executedQuantity\":1,\"tradeDate\":\"2026-01-07\"}"));
+
+        //when
+        BulkTradeLogResponseDto response = tradeLogService.writeBulk(user.getId(), dtos);
+
+        //then
+        assertThat(response.getSavedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BulkTradeLogResultDto::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.getResults()).extracting(BulkTradeLogResultDto::getError)
+                .containsExactly(null, "수량은 최소 1주 이상이어야 합니다.", "빈 항목입니다.", null, "종목명을 입력해주세요.");
+        assertThat(response.getResults().get(1).getId()).isNull();
+        assertThat(response.getResults().get(2).getId()).isNull();
+        assertThat(response.getResults().get(4).getId()).isNull();
+
+        //성공한 id 가 요청의 그 항목으로 저장된 행을 가리켜야 함
+        TradeLog apple = tradeLogRepository.findById(response.getResults().get(0).getId()).orElseThrow();
+        TradeLog nvidia = tradeLogRepository.findById(response.getResults().get(3).getId()).orElseThrow();
+        assertThat(apple.getTicker()).isEqualTo("AAPL");
+        assertThat(nvidia.getTicker()).isEqualTo("NVDA");
+        assertThat(nvidia.getRealizedPL()).isEqualTo(40.0);
+        assertThat(tradeLogJournalRepository.findById(nvidia.getId())).get()
+                .extracting(TradeLogJournal::getReasonForSale).isEqualTo("목표가");
+        assertThat(tradeLogJournalRepository.findById(apple.getId())).isEmpty();
+        assertThat(tradeLogRepository.count()).isEqualTo(2);
+        //가져오기와 같은 fingerprint 가 붙어야 내보낸 파일을 다시 올릴 때 걸러짐
+        assertThat(nvidia.getFingerprint()).isEqualTo(TradeLog.fingerprintOf(user.getId(), nvidia.getTradeDate(),
+                "NVDA", "Nvidia", TradeType.SELL, 120.0, 2.0));
+    }
+
+    private TradeLogRequestDto request(String body) throws Exception {
+        return json.readValue(body, TradeLogRequestDto.class);
+    }
 }
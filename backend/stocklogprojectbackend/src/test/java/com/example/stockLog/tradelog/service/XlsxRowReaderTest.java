@@ -0,0 +1,126 @@
+package com.example.stockLog.tradelog.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XlsxRowReaderTest {
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (file != null) Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("공유 문자열, 셀 안 문자열, 숫자를 열 위치에 맞춰 한 행씩 읽고 빈 행은 건너뛴다")
+    public void readRowsTest() throws IOException {
+        //given
+        file = workbook(
+                "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c><c r=\"C1\" t=\"s\"><v>2</v></c></row>" +
+                "<row r=\"2\" spans=\"1:3\"/>" +
+                "<row r=\"3\"><c r=\"A3\" t=\"inlineStr\"><is><t>삼성전자</t></is></c><c r=\"C3\"><v>71000</v></c></row>" +
+                "<row r=\"4\"><c r=\"B4\"><v>45292</v></c><c r=\"C4\" t=\"e\"><v>#N/A</v></c></row>");
+        //when
+        try (XlsxRowReader reader = new XlsxRowReader(file)) {
+            //then
+            assertArrayEquals(new String[]{"종목명", "거래일자", "체결단가"}, reader.readNext());
+            assertEquals(1, reader.getLineNumber());
+            assertArrayEquals(new String[]{"삼성전자", null, "71000"}, reader.readNext());
+            assertEquals(3, reader.getLineNumber());
+            assertArrayEquals(new String[]{null, "45292", null}, reader.readNext());
+            assertNull(reader.readNext());
+        }
+    }
+
+    @Test
+    @DisplayName("xlsx 가 아닌 파일은 IllegalArgumentException")
+    public void notXlsxTest() throws IOException {
+        file = Files.createTempFile("not-xlsx", ".xlsx");
+        Files.writeString(file, "종목명,거래일자\n");
+        assertThrows(IllegalArgumentException.class, () -> new XlsxRowReader(file));
+    }
+
+    @Test
+    @DisplayName("공유 문자열 개수나 글자 수가 상한을 넘는 파일(압축 폭탄)은 IllegalArgumentException")
+    public void sharedStringsLimitTest() throws IOException {
+        //given
+        String tooMany = "<si><t>a</t></si>".repeat(XlsxRowReader.MAX_SHARED_STRINGS + 1);
+        String tooLong = "<si><t>" + "a".repeat((int) XlsxRowReader.MAX_SHARED_STRING_CHARS / 2) + "</t></si>" +
+                "<si><r><t>" + "b".repeat((int) XlsxRowReader.MAX_SHARED_STRING_CHARS / 2) + "</t></r><r><t>b</t></r></si>";
+
+        //when, then
+        file = workbook("<sst>" + tooMany + "</sst>", "");
+        IllegalArgumentException count = assertThrows(IllegalArgumentException.class, () -> new XlsxRowReader(file));
+        assertTrue(count.getMessage().contains("너무 많습니다"));
+        Files.delete(file);
+
+        file = workbook("<sst>" + tooLong + "</sst>", "");
+        IllegalArgumentException chars = assertThrows(IllegalArgumentException.class, () -> new XlsxRowReader(file));
+        assertTrue(chars.getMessage().contains("너무 큽니다"));
+    }
+
+    @Test
+    @DisplayName("시트의 셀 한 칸(<v>, 셀 안 문자열)이 글자 수 상한을 넘으면 IllegalArgumentException")
+    public void cellLimitTest() throws IOException {
+        //given
+        String half = "a".repeat(XlsxRowReader.MAX_CELL_CHARS / 2 + 1);
+        String tooLongValue = "<row r=\"1\"><c r=\"A1\"><v>" + "1".repeat(XlsxRowReader.MAX_CELL_CHARS + 1) + "</v></c></row>";
+        String tooLongInline = "<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><r><t>" + half + "</t></r><r><t>" + half + "</t></r></is></c></row>";
+        String atLimit = "<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t>" + "a".repeat(XlsxRowReader.MAX_CELL_CHARS) + "</t></is></c></row>";
+
+        //when, then
+        for (String rows : new String[]{tooLongValue, tooLongInline}) {
+            file = workbook(rows);
+            try (XlsxRowReader reader = new XlsxRowReader(file)) {
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::readNext);
+                assertTrue(e.getMessage().contains("너무 큽니다"));
+            }
+            Files.delete(file);
+        }
+
+        file = workbook(atLimit);
+        try (XlsxRowReader reader = new XlsxRowReader(file)) {
+            assertEquals(XlsxRowReader.MAX_CELL_CHARS, reader.readNext()[0].length());
+        }
+    }
+
+    private static Path workbook(String rows) throws IOException {
+        return workbook("<sst><si><t>종목명</t></si><si><r><t>거래</t></r><r><t>일자</t></r></si>" +
+                "<si><t>체결단가</t><rPh><t>たんか</t></rPh></si></sst>", rows);
+    }
+
+    private static Path workbook(String sharedStrings, String rows) throws IOException {
+        Path path = Files.createTempFile("reader-test", ".xlsx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(path))) {
+            put(zip, "xl/workbook.xml", "<workbook xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">" +
+                    "<sheets><sheet name=\"매매일지\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>");
+            put(zip, "xl/_rels/workbook.xml.rels", "<Relationships>" +
+                    "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+                    "<Relationship Id=\"rId2\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/sharedStrings\" Target=\"sharedStrings.xml\"/>" +
+                    "</Relationships>");
+            put(zip, "xl/sharedStrings.xml", sharedStrings);
+            put(zip, "xl/worksheets/sheet1.xml", "<worksheet><sheetData>" + rows + "</sheetData></worksheet>");
+        }
+        return path;
+    }
+
+    private static void put(ZipOutputStream zip, String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(xml.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.stockLog.tradelog.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class XlsxSheetWriterTest {
+    private Path file;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (file != null) Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("쓴 행을 XlsxRowReader 로 그대로 다시 읽을 수 있다 (숫자는 지수 표기 없이, 날짜는 엑셀 날짜)")
+    public void roundTripTest() throws IOException {
+        //given
+        file = Files.createTempFile("writer-test", ".xlsx");
+        //when
+        try (OutputStream out = Files.newOutputStream(file);
+             XlsxSheetWriter writer = new XlsxSheetWriter(out, "매매일지")) {
+            writer.writeRow(List.of("종목명", "거래일자", "체결단가"));
+            writer.writeRow(Arrays.asList("AT&T <우선주>", LocalDate.of(2024, 1, 1), 10000000.0));
+            writer.writeRow(Arrays.asList(null, null, 0.5));
+        }
+        //then
+        try (XlsxRowReader reader = new XlsxRowReader(file)) {
+            assertArrayEquals(new String[]{"종목명", "거래일자", "체결단가"}, reader.readNext());
+            assertArrayEquals(new String[]{"AT&T <우선주>", "45292", "10000000"}, reader.readNext());
+            assertArrayEquals(new String[]{null, null, "0.5"}, reader.readNext());
+            assertNull(reader.readNext());
+        }
+    }
+}